@@ -1,34 +1,57 @@
 package dev.langchain4j.code.graalvm;
 
 import dev.langchain4j.code.CodeExecutionEngine;
-import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.SandboxPolicy;
 
-import java.io.ByteArrayOutputStream;
-import java.io.OutputStream;
-
-import static org.graalvm.polyglot.HostAccess.UNTRUSTED;
 import static org.graalvm.polyglot.SandboxPolicy.CONSTRAINED;
 
 /**
  * {@link CodeExecutionEngine} that uses GraalVM Polyglot/Truffle to execute provided JavaScript code.
  * Attention! It might be dangerous to execute the code, see {@link SandboxPolicy#CONSTRAINED}
  * and {@link HostAccess#UNTRUSTED} for more details.
+ * <p>
+ * By default, each execution creates a new standalone context.
+ * When created with a {@link #builder()}, all executions share a single {@link Engine},
+ * which avoids initializing the language and compiling the same code again for each execution.
+ * Contexts can also be created in advance (see {@link Builder#contextPoolSize(Integer)})
+ * and resource limits can be set for each execution.
+ * In this case, the engine should be closed when it is not used anymore.
  */
-public class GraalVmJavaScriptExecutionEngine implements CodeExecutionEngine {
+public class GraalVmJavaScriptExecutionEngine implements CodeExecutionEngine, AutoCloseable {
+
+    private final PolyglotCodeExecutor executor;
+
+    public GraalVmJavaScriptExecutionEngine() {
+        this.executor = new PolyglotCodeExecutor("js", CONSTRAINED);
+    }
+
+    private GraalVmJavaScriptExecutionEngine(Builder builder) {
+        this.executor = builder.buildExecutor("js", CONSTRAINED);
+    }
 
     @Override
     public String execute(String code) {
-        OutputStream outputStream = new ByteArrayOutputStream();
-        try (Context context = Context.newBuilder("js")
-            .sandbox(CONSTRAINED)
-            .allowHostAccess(UNTRUSTED)
-            .out(outputStream)
-            .err(outputStream)
-            .build()) {
-            Object result = context.eval("js", code).as(Object.class);
-            return String.valueOf(result);
+        return executor.execute(code);
+    }
+
+    /**
+     * Closes the shared engine and the contexts created in advance, if any.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder extends PolyglotCodeExecutor.Builder<Builder> {
+
+        public GraalVmJavaScriptExecutionEngine build() {
+            return new GraalVmJavaScriptExecutionEngine(this);
         }
     }
 }
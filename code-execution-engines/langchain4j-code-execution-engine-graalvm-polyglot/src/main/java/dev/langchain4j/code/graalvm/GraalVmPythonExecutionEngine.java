@@ -1,34 +1,57 @@
 package dev.langchain4j.code.graalvm;
 
 import dev.langchain4j.code.CodeExecutionEngine;
-import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.SandboxPolicy;
 
-import java.io.ByteArrayOutputStream;
-import java.io.OutputStream;
-
-import static org.graalvm.polyglot.HostAccess.UNTRUSTED;
 import static org.graalvm.polyglot.SandboxPolicy.TRUSTED;
 
 /**
  * {@link CodeExecutionEngine} that uses GraalVM Polyglot/Truffle to execute provided Python code.
  * Attention! It might be dangerous to execute the code, see {@link SandboxPolicy#TRUSTED}
  * and {@link HostAccess#UNTRUSTED} for more details.
+ * <p>
+ * By default, each execution creates a new standalone context.
+ * When created with a {@link #builder()}, all executions share a single {@link Engine},
+ * which avoids initializing the language and compiling the same code again for each execution.
+ * Contexts can also be created in advance (see {@link Builder#contextPoolSize(Integer)})
+ * and resource limits can be set for each execution.
+ * In this case, the engine should be closed when it is not used anymore.
  */
-public class GraalVmPythonExecutionEngine implements CodeExecutionEngine {
+public class GraalVmPythonExecutionEngine implements CodeExecutionEngine, AutoCloseable {
+
+    private final PolyglotCodeExecutor executor;
+
+    public GraalVmPythonExecutionEngine() {
+        this.executor = new PolyglotCodeExecutor("python", TRUSTED);
+    }
+
+    private GraalVmPythonExecutionEngine(Builder builder) {
+        this.executor = builder.buildExecutor("python", TRUSTED);
+    }
 
     @Override
     public String execute(String code) {
-        OutputStream outputStream = new ByteArrayOutputStream();
-        try (Context context = Context.newBuilder("python")
-            .sandbox(TRUSTED)
-            .allowHostAccess(UNTRUSTED)
-            .out(outputStream)
-            .err(outputStream)
-            .build()) {
-            Object result = context.eval("python", code).as(Object.class);
-            return String.valueOf(result);
+        return executor.execute(code);
+    }
+
+    /**
+     * Closes the shared engine and the contexts created in advance, if any.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder extends PolyglotCodeExecutor.Builder<Builder> {
+
+        public GraalVmPythonExecutionEngine build() {
+            return new GraalVmPythonExecutionEngine(this);
         }
     }
 }
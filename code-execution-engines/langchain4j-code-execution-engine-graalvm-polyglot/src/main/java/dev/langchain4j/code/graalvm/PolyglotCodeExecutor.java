@@ -0,0 +1,221 @@
+package dev.langchain4j.code.graalvm;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.SandboxPolicy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureTrue;
+import static org.graalvm.polyglot.HostAccess.UNTRUSTED;
+
+/**
+ * Executes code in sandboxed GraalVM Polyglot {@link Context}s.
+ * <p>
+ * Without a shared {@link Engine}, each execution creates a standalone {@link Context},
+ * which initializes the language from scratch.
+ * <p>
+ * With a shared {@link Engine}, all contexts share it, so the language initialization and the code
+ * compiled by Truffle are reused between executions.
+ * In addition, up to {@code contextPoolSize} contexts can be created and initialized in advance,
+ * on a background thread, so that executions do not wait for a new context.
+ * A context is never used for more than one execution, since there is no way to reset the state
+ * (global variables, etc.) that the executed code leaves in it: it is closed after the execution and
+ * replaced with a new one in the pool. When the pool is empty, the context is created on the calling thread.
+ */
+final class PolyglotCodeExecutor implements AutoCloseable {
+
+    private final String languageId;
+    private final SandboxPolicy sandboxPolicy;
+    private final Duration maxCpuTime;
+    private final Long maxHeapMemory;
+    private final Engine engine;
+    private final BlockingQueue<Context> contextPool;
+    private final ExecutorService contextPoolFiller;
+    private volatile boolean closed;
+
+    PolyglotCodeExecutor(String languageId, SandboxPolicy sandboxPolicy) {
+        this(languageId, sandboxPolicy, false, 0, null, null);
+    }
+
+    PolyglotCodeExecutor(String languageId,
+                         SandboxPolicy sandboxPolicy,
+                         boolean sharedEngine,
+                         int contextPoolSize,
+                         Duration maxCpuTime,
+                         Long maxHeapMemory) {
+        this.languageId = languageId;
+        this.sandboxPolicy = sandboxPolicy;
+        this.maxCpuTime = maxCpuTime;
+        this.maxHeapMemory = maxHeapMemory;
+        this.engine = sharedEngine || contextPoolSize > 0
+                ? Engine.newBuilder(languageId)
+                .sandbox(sandboxPolicy)
+                .out(OutputStream.nullOutputStream())
+                .err(OutputStream.nullOutputStream())
+                .build()
+                : null;
+        if (contextPoolSize > 0) {
+            this.contextPool = new ArrayBlockingQueue<>(contextPoolSize);
+            this.contextPoolFiller = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "graalvm-" + languageId + "-context-pool");
+                thread.setDaemon(true);
+                return thread;
+            });
+            for (int i = 0; i < contextPoolSize; i++) {
+                fillContextPool();
+            }
+        } else {
+            this.contextPool = null;
+            this.contextPoolFiller = null;
+        }
+    }
+
+    String execute(String code) {
+        if (closed) {
+            throw new IllegalStateException("Code execution engine is closed");
+        }
+        Context context = contextPool == null ? null : contextPool.poll();
+        if (context == null) {
+            context = createContext();
+        } else {
+            fillContextPool();
+        }
+        try {
+            Object result = context.eval(languageId, code).as(Object.class);
+            return String.valueOf(result);
+        } finally {
+            closeQuietly(context);
+        }
+    }
+
+    private Context createContext() {
+        OutputStream outputStream = new ByteArrayOutputStream();
+        Context.Builder builder = Context.newBuilder(languageId)
+                .sandbox(sandboxPolicy)
+                .allowHostAccess(UNTRUSTED)
+                .out(outputStream)
+                .err(outputStream);
+        if (engine != null) {
+            builder.engine(engine);
+        }
+        if (maxCpuTime != null) {
+            builder.option("sandbox.MaxCPUTime", maxCpuTime.toMillis() + "ms");
+        }
+        if (maxHeapMemory != null) {
+            builder.option("sandbox.MaxHeapMemory", maxHeapMemory + "B");
+        }
+        return builder.build();
+    }
+
+    private void fillContextPool() {
+        try {
+            contextPoolFiller.execute(() -> {
+                Context context = createContext();
+                context.initialize(languageId);
+                if (closed || !contextPool.offer(context)) {
+                    closeQuietly(context);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // closed in the meantime
+        }
+    }
+
+    private static void closeQuietly(Context context) {
+        try {
+            context.close();
+        } catch (PolyglotException e) {
+            // the context was already cancelled, for example because a resource limit was exceeded
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (contextPoolFiller != null) {
+            contextPoolFiller.shutdown();
+            try {
+                contextPoolFiller.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            Context context;
+            while ((context = contextPool.poll()) != null) {
+                closeQuietly(context);
+            }
+        }
+        if (engine != null) {
+            engine.close();
+        }
+    }
+
+    /**
+     * The options shared by the builders of the language-specific engines.
+     * Executors built with it always use a shared {@link Engine}.
+     *
+     * @param <B> the type of the language-specific builder
+     */
+    abstract static class Builder<B extends Builder<B>> {
+
+        private Integer contextPoolSize;
+        private Duration maxCpuTime;
+        private Long maxHeapMemory;
+
+        /**
+         * Sets the number of contexts that are created and initialized in advance, on a background thread.
+         * Each context is used for a single execution, so that executions do not share any state,
+         * and is then replaced with a new one.
+         * By default, no context is created in advance.
+         */
+        public B contextPoolSize(Integer contextPoolSize) {
+            this.contextPoolSize = contextPoolSize;
+            return self();
+        }
+
+        /**
+         * Sets the maximum CPU time of each execution ({@code sandbox.MaxCPUTime}).
+         * By default, there is no limit.
+         */
+        public B maxCpuTime(Duration maxCpuTime) {
+            this.maxCpuTime = maxCpuTime;
+            return self();
+        }
+
+        /**
+         * Sets the maximum heap memory, in bytes, that each execution can retain ({@code sandbox.MaxHeapMemory}).
+         * By default, there is no limit.
+         */
+        public B maxHeapMemory(Long maxHeapMemory) {
+            this.maxHeapMemory = maxHeapMemory;
+            return self();
+        }
+
+        PolyglotCodeExecutor buildExecutor(String languageId, SandboxPolicy sandboxPolicy) {
+            ensureTrue(maxCpuTime == null || maxCpuTime.toMillis() > 0, "maxCpuTime must be greater than zero");
+            ensureTrue(maxHeapMemory == null || maxHeapMemory > 0, "maxHeapMemory must be greater than zero");
+            return new PolyglotCodeExecutor(
+                    languageId,
+                    sandboxPolicy,
+                    true,
+                    contextPoolSize == null ? 0 : ensureGreaterThanZero(contextPoolSize, "contextPoolSize"),
+                    maxCpuTime,
+                    maxHeapMemory);
+        }
+
+        @SuppressWarnings("unchecked")
+        private B self() {
+            return (B) this;
+        }
+    }
+}
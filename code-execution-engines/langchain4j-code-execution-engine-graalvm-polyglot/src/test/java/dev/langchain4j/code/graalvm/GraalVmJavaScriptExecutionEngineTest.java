@@ -1,9 +1,13 @@
 package dev.langchain4j.code.graalvm;
 
 import dev.langchain4j.code.CodeExecutionEngine;
+import org.graalvm.polyglot.PolyglotException;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class GraalVmJavaScriptExecutionEngineTest {
 
@@ -25,4 +29,35 @@ class GraalVmJavaScriptExecutionEngineTest {
 
         assertThat(result).isEqualTo("55");
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_not_share_state_between_executions_with_context_pool() {
+
+        try (GraalVmJavaScriptExecutionEngine pooledEngine = GraalVmJavaScriptExecutionEngine.builder()
+                .contextPoolSize(2)
+                .build()) {
+
+            assertThat(pooledEngine.execute("var counter = 1; counter")).isEqualTo("1");
+            assertThat(pooledEngine.execute("typeof counter")).isEqualTo("undefined");
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(pooledEngine.execute("6 * 7")).isEqualTo("42");
+            }
+        }
+    }
+
+    @Test
+    void should_stop_execution_exceeding_max_cpu_time() {
+
+        try (GraalVmJavaScriptExecutionEngine limitedEngine = GraalVmJavaScriptExecutionEngine.builder()
+                .contextPoolSize(1)
+                .maxCpuTime(Duration.ofMillis(500))
+                .build()) {
+
+            assertThatThrownBy(() -> limitedEngine.execute("while (true) {}"))
+                    .isInstanceOf(PolyglotException.class);
+
+            assertThat(limitedEngine.execute("1 + 1")).isEqualTo("2");
+        }
+    }
+}
@@ -26,4 +26,16 @@ class GraalVmPythonExecutionEngineTest {
 
         assertThat(result).isEqualTo("55");
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_execute_code_with_shared_engine() {
+
+        try (GraalVmPythonExecutionEngine sharedEngine = GraalVmPythonExecutionEngine.builder()
+                .contextPoolSize(1)
+                .build()) {
+
+            assertThat(sharedEngine.execute("x = 21\nx * 2")).isEqualTo("42");
+            assertThat(sharedEngine.execute("'x' in globals()")).isEqualTo("false");
+        }
+    }
+}
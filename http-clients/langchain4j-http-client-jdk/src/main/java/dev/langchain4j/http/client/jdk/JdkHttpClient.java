@@ -1,6 +1,7 @@
 package dev.langchain4j.http.client.jdk;
 
 import dev.langchain4j.exception.HttpException;
+import dev.langchain4j.http.client.ContentTypeCharset;
 import dev.langchain4j.http.client.HttpClient;
 import dev.langchain4j.http.client.HttpRequest;
 import dev.langchain4j.http.client.SuccessfulHttpResponse;
@@ -16,22 +17,38 @@ import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse.BodyHandlers;
 import java.net.http.HttpTimeoutException;
+import java.nio.charset.Charset;
 import java.time.Duration;
 
-import static dev.langchain4j.internal.Utils.getOrDefault;
 import static java.util.stream.Collectors.joining;
 
+/**
+ * An {@link HttpClient} based on {@link java.net.http.HttpClient}.
+ * <p>
+ * Like {@link java.net.http.HttpClient}, it prefers HTTP/2 unless another version is configured,
+ * so that concurrent requests to the same host are multiplexed over a few connections
+ * instead of each opening its own socket
+ * (the client falls back to HTTP/1.1 when the server does not support HTTP/2).
+ * To benefit from this, the same instance should be shared by the concurrent callers.
+ */
 public class JdkHttpClient implements HttpClient {
 
     private final java.net.http.HttpClient delegate;
     private final Duration readTimeout;
 
     public JdkHttpClient(JdkHttpClientBuilder builder) {
-        java.net.http.HttpClient.Builder httpClientBuilder =
-                getOrDefault(builder.httpClientBuilder(), java.net.http.HttpClient::newBuilder);
+        java.net.http.HttpClient.Builder httpClientBuilder = builder.httpClientBuilder() != null
+                ? builder.httpClientBuilder()
+                : java.net.http.HttpClient.newBuilder();
+        if (builder.httpVersion() != null) {
+            httpClientBuilder.version(builder.httpVersion());
+        }
         if (builder.connectTimeout() != null) {
             httpClientBuilder.connectTimeout(builder.connectTimeout());
         }
+        if (builder.executor() != null) {
+            httpClientBuilder.executor(builder.executor());
+        }
         this.delegate = httpClientBuilder.build();
         this.readTimeout = builder.readTimeout();
     }
@@ -45,13 +62,32 @@ public class JdkHttpClient implements HttpClient {
         try {
             java.net.http.HttpRequest jdkRequest = toJdkRequest(request);
 
-            java.net.http.HttpResponse<String> jdkResponse = delegate.send(jdkRequest, BodyHandlers.ofString());
+            // the body is decoded into a String only if SuccessfulHttpResponse.body() is called
+            java.net.http.HttpResponse<byte[]> jdkResponse = delegate.send(jdkRequest, BodyHandlers.ofByteArray());
 
             if (!isSuccessful(jdkResponse)) {
-                throw new HttpException(jdkResponse.statusCode(), jdkResponse.body());
+                String body = new String(jdkResponse.body(), charsetOf(jdkResponse));
+                throw new HttpException(jdkResponse.statusCode(), body);
             }
 
-            return fromJdkResponse(jdkResponse, jdkResponse.body());
+            return fromJdkResponse(jdkResponse).body(jdkResponse.body()).build();
+        } catch (IOException | InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public SuccessfulHttpResponse executeWithBodyStream(HttpRequest request) throws HttpException {
+        try {
+            java.net.http.HttpRequest jdkRequest = toJdkRequest(request);
+
+            java.net.http.HttpResponse<InputStream> jdkResponse = delegate.send(jdkRequest, BodyHandlers.ofInputStream());
+
+            if (!isSuccessful(jdkResponse)) {
+                throw new HttpException(jdkResponse.statusCode(), readBody(jdkResponse));
+            }
+
+            return fromJdkResponse(jdkResponse).bodyStream(jdkResponse.body()).build();
         } catch (IOException | InterruptedException e) {
             throw new RuntimeException(e);
         }
@@ -69,7 +105,7 @@ public class JdkHttpClient implements HttpClient {
                         return;
                     }
 
-                    SuccessfulHttpResponse response = fromJdkResponse(jdkResponse, null);
+                    SuccessfulHttpResponse response = fromJdkResponse(jdkResponse).build();
                     listener.onOpen(response);
 
                     try (InputStream inputStream = jdkResponse.body()) {
@@ -98,10 +134,11 @@ public class JdkHttpClient implements HttpClient {
         });
 
         BodyPublisher bodyPublisher;
-        if (request.body() != null) {
-            bodyPublisher = BodyPublishers.ofString(request.body());
+        if (request.bodyStream() != null) {
+            bodyPublisher = BodyPublishers.ofInputStream(request.bodyStream());
         } else {
-            bodyPublisher = BodyPublishers.noBody();
+            byte[] body = request.bodyBytes();
+            bodyPublisher = body != null ? BodyPublishers.ofByteArray(body) : BodyPublishers.noBody();
         }
         builder.method(request.method().name(), bodyPublisher);
 
@@ -112,12 +149,10 @@ public class JdkHttpClient implements HttpClient {
         return builder.build();
     }
 
-    private static SuccessfulHttpResponse fromJdkResponse(java.net.http.HttpResponse<?> response, String body) {
+    private static SuccessfulHttpResponse.Builder fromJdkResponse(java.net.http.HttpResponse<?> response) {
         return SuccessfulHttpResponse.builder()
                 .statusCode(response.statusCode())
-                .headers(response.headers().map())
-                .body(body)
-                .build();
+                .headers(response.headers().map());
     }
 
     private static boolean isSuccessful(java.net.http.HttpResponse<?> response) {
@@ -127,10 +162,14 @@ public class JdkHttpClient implements HttpClient {
 
     private static String readBody(java.net.http.HttpResponse<InputStream> response) {
         try (InputStream inputStream = response.body();
-             BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
+             BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, charsetOf(response)))) {
             return reader.lines().collect(joining(System.lineSeparator()));
         } catch (IOException e) {
             return "Cannot read error response body: " + e.getMessage();
         }
     }
+
+    private static Charset charsetOf(java.net.http.HttpResponse<?> response) {
+        return ContentTypeCharset.charsetOf(response.headers().map());
+    }
 }
@@ -3,12 +3,15 @@ package dev.langchain4j.http.client.jdk;
 import dev.langchain4j.http.client.HttpClientBuilder;
 
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 public class JdkHttpClientBuilder implements HttpClientBuilder {
 
     private java.net.http.HttpClient.Builder httpClientBuilder;
     private Duration connectTimeout;
     private Duration readTimeout;
+    private java.net.http.HttpClient.Version httpVersion;
+    private Executor executor;
 
     public java.net.http.HttpClient.Builder httpClientBuilder() {
         return httpClientBuilder;
@@ -41,6 +44,38 @@ public class JdkHttpClientBuilder implements HttpClientBuilder {
         return this;
     }
 
+    public java.net.http.HttpClient.Version httpVersion() {
+        return httpVersion;
+    }
+
+    /**
+     * @param httpVersion The preferred HTTP version.
+     *                    Optional. By default, the version of the
+     *                    {@link #httpClientBuilder(java.net.http.HttpClient.Builder)}, if set,
+     *                    otherwise {@link java.net.http.HttpClient.Version#HTTP_2},
+     *                    the default of {@link java.net.http.HttpClient}.
+     * @return builder
+     */
+    public JdkHttpClientBuilder httpVersion(java.net.http.HttpClient.Version httpVersion) {
+        this.httpVersion = httpVersion;
+        return this;
+    }
+
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * @param executor The executor of the asynchronous tasks of the client,
+     *                 including the parsing of server-sent events.
+     *                 Optional. By default, the client creates its own executor.
+     * @return builder
+     */
+    public JdkHttpClientBuilder executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
     @Override
     public JdkHttpClient build() {
         return new JdkHttpClient(this);
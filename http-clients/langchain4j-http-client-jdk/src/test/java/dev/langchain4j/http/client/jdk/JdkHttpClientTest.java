@@ -0,0 +1,59 @@
+package dev.langchain4j.http.client.jdk;
+
+import com.sun.net.httpserver.HttpServer;
+import dev.langchain4j.exception.HttpException;
+import dev.langchain4j.http.client.HttpMethod;
+import dev.langchain4j.http.client.HttpRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JdkHttpClientTest {
+
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/error", exchange -> {
+            byte[] body = "café introuvable".getBytes(ISO_8859_1);
+            exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=ISO-8859-1");
+            exchange.sendResponseHeaders(404, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void should_decode_error_body_with_charset_of_content_type() {
+
+        // given
+        JdkHttpClient client = JdkHttpClient.builder().build();
+        HttpRequest request = HttpRequest.builder()
+                .method(HttpMethod.GET)
+                .url("http://localhost:" + server.getAddress().getPort() + "/error")
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> client.execute(request))
+                .isExactlyInstanceOf(HttpException.class)
+                .hasMessage("café introuvable");
+        assertThatThrownBy(() -> client.executeWithBodyStream(request))
+                .isExactlyInstanceOf(HttpException.class)
+                .hasMessage("café introuvable");
+    }
+}
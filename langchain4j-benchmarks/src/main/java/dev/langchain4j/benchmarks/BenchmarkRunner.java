@@ -0,0 +1,43 @@
+package dev.langchain4j.benchmarks;
+
+import org.openjdk.jmh.Main;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Runs the benchmarks with {@link Main}, accepting the same command line options.
+ * <p>
+ * Unless a result format ({@code -rf}) or a result file ({@code -rff}) is specified,
+ * the results are written in JSON to {@code langchain4j-benchmarks-<version>.json},
+ * so that the results of different releases can be compared, for example, with
+ * <a href="https://jmh.morethan.io">JMH Visualizer</a>.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(asList(args));
+        if (!arguments.contains("-rf") && !arguments.contains("-rff")) {
+            arguments.addAll(0, List.of("-rf", "json", "-rff", "langchain4j-benchmarks-" + version() + ".json"));
+        }
+        Main.main(arguments.toArray(new String[0]));
+    }
+
+    private static String version() {
+        try (InputStream inputStream = BenchmarkRunner.class.getResourceAsStream("/benchmarks.properties")) {
+            Properties properties = new Properties();
+            if (inputStream != null) {
+                properties.load(inputStream);
+            }
+            return properties.getProperty("version", "unknown");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
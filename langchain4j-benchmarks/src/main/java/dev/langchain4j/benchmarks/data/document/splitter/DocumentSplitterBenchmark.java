@@ -0,0 +1,78 @@
+package dev.langchain4j.benchmarks.data.document.splitter;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.document.splitter.DocumentSplitters;
+import dev.langchain4j.data.segment.TextSegment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DocumentSplitters#recursive(int, int)} on large generated texts
+ * made of paragraphs, sentences and words of varying lengths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentSplitterBenchmark {
+
+    private static final String[] WORDS = {
+            "the", "model", "returns", "an", "answer", "based", "on", "retrieved", "segments", "of",
+            "documents", "which", "are", "embedded", "and", "stored", "in", "a", "vector", "database",
+            "language", "assistant", "context", "window", "tokens", "memory", "tool", "request", "result", "query"
+    };
+
+    @Param({"100000", "1000000"})
+    public int textLength;
+
+    private Document document;
+    private DocumentSplitter splitter;
+
+    @Setup
+    public void setUp() {
+        document = Document.from(generateText(new Random(42), textLength));
+        splitter = DocumentSplitters.recursive(1000, 100);
+    }
+
+    @Benchmark
+    public List<TextSegment> recursive() {
+        return splitter.split(document);
+    }
+
+    private static String generateText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length + 1000);
+        while (text.length() < length) {
+            int sentences = 3 + random.nextInt(8);
+            for (int s = 0; s < sentences; s++) {
+                int words = 5 + random.nextInt(20);
+                for (int w = 0; w < words; w++) {
+                    String word = WORDS[random.nextInt(WORDS.length)];
+                    if (w == 0) {
+                        text.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+                    } else {
+                        text.append(' ').append(word);
+                    }
+                }
+                text.append(random.nextInt(5) == 0 ? "? " : ". ");
+            }
+            text.append("\n\n");
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,78 @@
+package dev.langchain4j.benchmarks.data.message;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageDeserializer;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the serialization and deserialization of a conversation with the default
+ * (Jackson-based) {@code ChatMessageJsonCodec}, as done by persistent {@code ChatMemoryStore}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatMessageJsonCodecBenchmark {
+
+    @Param({"10", "100"})
+    public int messageCount;
+
+    private List<ChatMessage> messages;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        messages = new ArrayList<>(messageCount);
+        messages.add(SystemMessage.from("You are a helpful assistant. Answer briefly and use the tools when needed."));
+        for (int i = 1; messages.size() < messageCount; i++) {
+            messages.add(UserMessage.from("What is the weather in city number " + i + " today?"));
+            ToolExecutionRequest toolExecutionRequest = ToolExecutionRequest.builder()
+                    .id("call_" + i)
+                    .name("getWeather")
+                    .arguments("{\"city\": \"City " + i + "\", \"unit\": \"celsius\"}")
+                    .build();
+            messages.add(AiMessage.from(toolExecutionRequest));
+            messages.add(ToolExecutionResultMessage.from(toolExecutionRequest, "{\"temperature\": 21, \"sky\": \"clear\"}"));
+            messages.add(AiMessage.from("It is 21 degrees and clear in city number " + i + "."));
+        }
+        messages = messages.subList(0, messageCount);
+        json = ChatMessageSerializer.messagesToJson(messages);
+    }
+
+    @Benchmark
+    public String messagesToJson() {
+        return ChatMessageSerializer.messagesToJson(messages);
+    }
+
+    @Benchmark
+    public List<ChatMessage> messagesFromJson() {
+        return ChatMessageDeserializer.messagesFromJson(json);
+    }
+
+    @Benchmark
+    public List<ChatMessage> roundTrip() {
+        return ChatMessageDeserializer.messagesFromJson(ChatMessageSerializer.messagesToJson(messages));
+    }
+}
@@ -0,0 +1,86 @@
+package dev.langchain4j.benchmarks.http.client.sse;
+
+import dev.langchain4j.http.client.sse.DefaultServerSentEventParser;
+import dev.langchain4j.http.client.sse.ServerSentEvent;
+import dev.langchain4j.http.client.sse.ServerSentEventListener;
+import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import dev.langchain4j.http.client.sse.Utf8ServerSentEventParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link DefaultServerSentEventParser} with {@link Utf8ServerSentEventParser}
+ * on recorded OpenAI and Anthropic streaming responses.
+ * <p>
+ * Run with {@code -prof gc} to compare allocation rates as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServerSentEventParserBenchmark {
+
+    @Param({"openai-chat-completion", "anthropic-messages"})
+    public String stream;
+
+    @Param({"default", "utf8"})
+    public String parser;
+
+    private byte[] body;
+    private ServerSentEventParser serverSentEventParser;
+
+    @Setup
+    public void setUp() {
+        body = load("/sse/" + stream + ".txt");
+        serverSentEventParser = switch (parser) {
+            case "default" -> new DefaultServerSentEventParser();
+            case "utf8" -> new Utf8ServerSentEventParser();
+            default -> throw new IllegalArgumentException("Unknown parser: " + parser);
+        };
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        serverSentEventParser.parse(new ByteArrayInputStream(body), new ServerSentEventListener() {
+
+            @Override
+            public void onEvent(ServerSentEvent event) {
+                blackhole.consume(event);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        });
+    }
+
+    private static byte[] load(String resource) {
+        try (InputStream inputStream = ServerSentEventParserBenchmark.class.getResourceAsStream(resource)) {
+            if (inputStream == null) {
+                throw new IllegalArgumentException("Resource not found: " + resource);
+            }
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package dev.langchain4j.benchmarks.mcp.client.transport.stdio;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A minimal MCP server over stdio, used by {@link StdioMcpTransportBenchmark}.
+ * It has a single {@code echo} tool, that returns its {@code text} argument.
+ */
+public class EchoMcpServer {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws IOException {
+        OutputStream out = new BufferedOutputStream(System.out);
+        try (MappingIterator<JsonNode> messages = OBJECT_MAPPER.readerFor(JsonNode.class).readValues(System.in)) {
+            while (messages.hasNextValue()) {
+                JsonNode message = messages.nextValue();
+                if (!message.has("id") || !message.has("method")) {
+                    continue; // notifications
+                }
+                ObjectNode response = OBJECT_MAPPER.createObjectNode()
+                        .put("jsonrpc", "2.0")
+                        .set("id", message.get("id"));
+                response.set("result", result(message));
+                out.write(OBJECT_MAPPER.writeValueAsBytes(response));
+                out.write('\n');
+                out.flush();
+            }
+        }
+    }
+
+    private static JsonNode result(JsonNode message) {
+        ObjectNode result = OBJECT_MAPPER.createObjectNode();
+        switch (message.get("method").asText()) {
+            case "initialize" -> {
+                result.put("protocolVersion", "2024-11-05");
+                result.putObject("capabilities").putObject("tools");
+                result.putObject("serverInfo").put("name", "echo").put("version", "1.0");
+            }
+            case "tools/list" -> {
+                ObjectNode tool = result.putArray("tools").addObject().put("name", "echo");
+                ObjectNode inputSchema = tool.putObject("inputSchema").put("type", "object");
+                inputSchema.putObject("properties").putObject("text").put("type", "string");
+            }
+            case "tools/call" -> result.putArray("content").addObject()
+                    .put("type", "text")
+                    .put("text", message.get("params").get("arguments").get("text").asText());
+            default -> {
+                // ping and any other request get an empty result
+            }
+        }
+        return result;
+    }
+}
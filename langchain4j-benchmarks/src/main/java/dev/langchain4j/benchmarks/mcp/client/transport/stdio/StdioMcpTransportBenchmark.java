@@ -0,0 +1,67 @@
+package dev.langchain4j.benchmarks.mcp.client.transport.stdio;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.mcp.client.DefaultMcpClient;
+import dev.langchain4j.mcp.client.McpClient;
+import dev.langchain4j.mcp.client.transport.stdio.StdioMcpTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of tool executions sent concurrently through a {@link StdioMcpTransport}
+ * to a local {@link EchoMcpServer} process.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class StdioMcpTransportBenchmark {
+
+    @Param({"100", "10000"})
+    public int argumentLength;
+
+    private McpClient mcpClient;
+    private ToolExecutionRequest request;
+
+    @Setup
+    public void setUp() {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        StdioMcpTransport transport = new StdioMcpTransport.Builder()
+                .command(List.of(java, "-cp", System.getProperty("java.class.path"), EchoMcpServer.class.getName()))
+                .build();
+        mcpClient = new DefaultMcpClient.Builder()
+                .transport(transport)
+                .build();
+        request = ToolExecutionRequest.builder()
+                .name("echo")
+                .arguments("{\"text\":\"" + "a".repeat(argumentLength) + "\"}")
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        mcpClient.close();
+    }
+
+    @Benchmark
+    public String executeTool() {
+        return mcpClient.executeTool(request);
+    }
+}
@@ -0,0 +1,56 @@
+package dev.langchain4j.benchmarks.model.input;
+
+import dev.langchain4j.model.input.Prompt;
+import dev.langchain4j.model.input.PromptTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PromptTemplate#apply(Map)} with a typical RAG prompt,
+ * where one of the variables (the retrieved contents) is large.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PromptTemplateBenchmark {
+
+    private PromptTemplate promptTemplate;
+    private Map<String, Object> variables;
+
+    @Setup
+    public void setUp() {
+        promptTemplate = PromptTemplate.from("""
+                You are {{role}}. Today is {{current_date}}.
+                Answer the following question of {{user}}:
+                {{question}}
+
+                Base your answer on the following information:
+                {{contents}}
+                """);
+        variables = Map.of(
+                "role", "a helpful assistant",
+                "user", "Klaus",
+                "question", "What are the main risks mentioned in the annual report?",
+                "contents", "The report mentions currency, supply chain and regulatory risks. ".repeat(50)
+        );
+    }
+
+    @Benchmark
+    public Prompt apply() {
+        return promptTemplate.apply(variables);
+    }
+}
@@ -0,0 +1,71 @@
+package dev.langchain4j.benchmarks.model.openai;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.openai.OpenAiTokenizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static dev.langchain4j.model.openai.OpenAiChatModelName.GPT_4_O_MINI;
+
+/**
+ * Measures token counting with {@link OpenAiTokenizer}, for a single text and for a conversation,
+ * as done by {@code TokenWindowChatMemory} and the document splitters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OpenAiTokenizerBenchmark {
+
+    private static final String SENTENCE = "The quick brown fox jumps over the lazy dog, and then it runs away. ";
+
+    @Param({"1000", "100000"})
+    public int textLength;
+
+    private OpenAiTokenizer tokenizer;
+    private String text;
+    private List<ChatMessage> messages;
+
+    @Setup
+    public void setUp() {
+        tokenizer = new OpenAiTokenizer(GPT_4_O_MINI);
+        text = SENTENCE.repeat(textLength / SENTENCE.length() + 1).substring(0, textLength);
+
+        messages = new ArrayList<>();
+        messages.add(SystemMessage.from("You are a helpful assistant."));
+        int messageLength = 0;
+        while (messageLength < textLength) {
+            messages.add(UserMessage.from(SENTENCE));
+            messages.add(AiMessage.from(SENTENCE));
+            messageLength += 2 * SENTENCE.length();
+        }
+    }
+
+    @Benchmark
+    public int estimateTokenCountInText() {
+        return tokenizer.estimateTokenCountInText(text);
+    }
+
+    @Benchmark
+    public int estimateTokenCountInMessages() {
+        return tokenizer.estimateTokenCountInMessages(messages);
+    }
+}
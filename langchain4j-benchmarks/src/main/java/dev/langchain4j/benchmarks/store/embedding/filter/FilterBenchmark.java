@@ -0,0 +1,83 @@
+package dev.langchain4j.benchmarks.store.embedding.filter;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.filter.FilterCompiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+
+/**
+ * Measures {@link Filter#test(Object)} and the same filter compiled by {@link FilterCompiler}
+ * on a {@link Metadata} with a dozen entries of various types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterBenchmark {
+
+    @Param({"equal", "in", "range", "contains", "composite"})
+    public String filter;
+
+    private Metadata metadata;
+    private Filter metadataFilter;
+    private Predicate<Metadata> compiledFilter;
+
+    @Setup
+    public void setUp() {
+        metadata = new Metadata()
+                .put("id", UUID.fromString("3a2b1c4d-0000-4000-8000-000000000001"))
+                .put("file_name", "annual-report-2024.pdf")
+                .put("source", "https://example.com/reports/annual-report-2024.pdf")
+                .put("category", "finance")
+                .put("language", "en")
+                .put("author", "Klaus")
+                .put("page", 42)
+                .put("year", 2024)
+                .put("size", 1_234_567L)
+                .put("score", 0.87f)
+                .put("confidence", 0.93)
+                .put("index", 7);
+
+        metadataFilter = switch (filter) {
+            case "equal" -> metadataKey("category").isEqualTo("finance");
+            case "in" -> metadataKey("language").isIn("de", "fr", "en");
+            case "range" -> metadataKey("year").isGreaterThanOrEqualTo(2020)
+                    .and(metadataKey("year").isLessThan(2025));
+            case "contains" -> metadataKey("source").containsString("reports");
+            case "composite" -> metadataKey("category").isEqualTo("finance")
+                    .and(metadataKey("page").isGreaterThan(10)
+                            .or(metadataKey("confidence").isGreaterThan(0.5)))
+                    .and(metadataKey("author").isNotIn("Alice", "Bob"));
+            default -> throw new IllegalArgumentException("Unknown filter: " + filter);
+        };
+        compiledFilter = FilterCompiler.compile(metadataFilter);
+    }
+
+    @Benchmark
+    public boolean test() {
+        return metadataFilter.test(metadata);
+    }
+
+    @Benchmark
+    public boolean testCompiled() {
+        return compiledFilter.test(metadata);
+    }
+}
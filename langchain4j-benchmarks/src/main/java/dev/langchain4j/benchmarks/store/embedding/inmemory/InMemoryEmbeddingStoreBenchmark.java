@@ -0,0 +1,93 @@
+package dev.langchain4j.benchmarks.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static dev.langchain4j.benchmarks.store.embedding.CosineSimilarityBenchmark.randomEmbedding;
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+
+/**
+ * Measures {@link InMemoryEmbeddingStore#search(EmbeddingSearchRequest)} for various store sizes,
+ * without a filter, with a filter on a single key, and with a filter combining two keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class InMemoryEmbeddingStoreBenchmark {
+
+    private static final int DIMENSION = 384;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    @Param({"none", "equal", "and"})
+    public String filter;
+
+    private InMemoryEmbeddingStore<TextSegment> store;
+    private EmbeddingSearchRequest searchRequest;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        List<String> ids = new ArrayList<>(size);
+        List<Embedding> embeddings = new ArrayList<>(size);
+        List<TextSegment> segments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ids.add("id-" + i);
+            embeddings.add(randomEmbedding(random, DIMENSION));
+            Metadata metadata = new Metadata()
+                    .put("category", "category-" + (i % 10))
+                    .put("year", 2000 + (i % 25));
+            segments.add(TextSegment.from("segment " + i, metadata));
+        }
+
+        store = new InMemoryEmbeddingStore<>();
+        store.addAll(ids, embeddings, segments);
+
+        searchRequest = EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(random, DIMENSION))
+                .maxResults(10)
+                .filter(filter(filter))
+                .build();
+    }
+
+    @Benchmark
+    public EmbeddingSearchResult<TextSegment> search() {
+        return store.search(searchRequest);
+    }
+
+    private static Filter filter(String filter) {
+        return switch (filter) {
+            case "none" -> null;
+            case "equal" -> metadataKey("category").isEqualTo("category-3");
+            case "and" -> metadataKey("category").isIn("category-1", "category-2")
+                    .and(metadataKey("year").isGreaterThanOrEqualTo(2010));
+            default -> throw new IllegalArgumentException("Unknown filter: " + filter);
+        };
+    }
+}
@@ -281,6 +281,18 @@ public class Metadata {
                 key, value, value.getClass().getName());
     }
 
+    /**
+     * Returns the value associated with the given key, as it is stored.
+     * Unlike {@link #toMap()}, this does not copy the metadata.
+     *
+     * @param key the key
+     * @return the value associated with the given key, or {@code null} if the key is not present.
+     */
+    @Nullable
+    public Object getObject(String key) {
+        return metadata.get(key);
+    }
+
     /**
      * Check whether this {@code Metadata} contains a given key.
      *
@@ -0,0 +1,47 @@
+package dev.langchain4j.internal;
+
+import static dev.langchain4j.internal.VirtualThreadUtils.createVirtualThreadExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides the {@link Executor} used when a component runs tasks in the background
+ * and no executor has been configured for it.
+ * <p>
+ * The executor is created on first use and shared by all components, so that it never needs to be shut down.
+ * It uses virtual threads when running on Java 21+, otherwise a cached thread pool of daemon threads,
+ * which does not prevent the JVM from exiting.
+ */
+public final class DefaultExecutorProvider {
+
+    private DefaultExecutorProvider() {}
+
+    /**
+     * Returns the shared default executor.
+     *
+     * @return the shared default executor.
+     */
+    public static Executor getDefaultExecutor() {
+        return Holder.DEFAULT_EXECUTOR;
+    }
+
+    private static final class Holder {
+
+        private static final ExecutorService DEFAULT_EXECUTOR =
+                createVirtualThreadExecutor(DefaultExecutorProvider::createCachedThreadPool);
+    }
+
+    private static ExecutorService createCachedThreadPool() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 1, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "langchain4j-default-executor-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
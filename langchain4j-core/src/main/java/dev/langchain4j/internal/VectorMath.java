@@ -0,0 +1,44 @@
+package dev.langchain4j.internal;
+
+/**
+ * Utility methods for computations on embedding vectors.
+ */
+public final class VectorMath {
+
+    private VectorMath() {}
+
+    /**
+     * Computes the dot product of {@code length} elements of {@code a}, starting at {@code offsetA},
+     * with {@code length} elements of {@code b}, starting at {@code offsetB}.
+     * <p>
+     * The loop is unrolled with four independent accumulators,
+     * which lets the JIT compiler keep several multiply-adds in flight.
+     *
+     * @param a       the first array.
+     * @param offsetA the index of the first element of {@code a}.
+     * @param b       the second array.
+     * @param offsetB the index of the first element of {@code b}.
+     * @param length  the number of elements.
+     * @return the dot product.
+     */
+    public static double dotProduct(float[] a, int offsetA, float[] b, int offsetB, int length) {
+        double s0 = 0.0;
+        double s1 = 0.0;
+        double s2 = 0.0;
+        double s3 = 0.0;
+
+        int i = 0;
+        int bound = length & ~3;
+        for (; i < bound; i += 4) {
+            s0 += a[offsetA + i] * b[offsetB + i];
+            s1 += a[offsetA + i + 1] * b[offsetB + i + 1];
+            s2 += a[offsetA + i + 2] * b[offsetB + i + 2];
+            s3 += a[offsetA + i + 3] * b[offsetB + i + 3];
+        }
+        for (; i < length; i++) {
+            s0 += a[offsetA + i] * b[offsetB + i];
+        }
+
+        return (s0 + s1) + (s2 + s3);
+    }
+}
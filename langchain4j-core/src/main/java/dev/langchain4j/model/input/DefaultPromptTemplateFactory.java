@@ -2,7 +2,9 @@ package dev.langchain4j.model.input;
 
 import dev.langchain4j.spi.prompt.PromptTemplateFactory;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
@@ -18,37 +20,63 @@ class DefaultPromptTemplateFactory implements PromptTemplateFactory {
         return new DefaultTemplate(input.getTemplate());
     }
 
+    /**
+     * A template that is parsed once, when it is created, into literal text and variables,
+     * so that it can be rendered in a single pass.
+     */
     static class DefaultTemplate implements Template {
 
         @SuppressWarnings("RegExpRedundantEscape")
         private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\{\\{(.+?)\\}\\}");
 
-        private final String template;
         private final Set<String> allVariables;
 
+        // the template is literals[0] + variable[0] + literals[1] + ... + variable[n-1] + literals[n]
+        private final String[] literals;
+        private final String[] variableNames;
+        private final int literalsLength;
+
         public DefaultTemplate(String template) {
-            this.template = ensureNotBlank(template, "template");
-            this.allVariables = extractVariables(template);
-        }
+            ensureNotBlank(template, "template");
 
-        private static Set<String> extractVariables(String template) {
-            Set<String> variables = new HashSet<>();
+            List<String> literals = new ArrayList<>();
+            List<String> variableNames = new ArrayList<>();
+            int literalsLength = 0;
+            int literalStart = 0;
             Matcher matcher = VARIABLE_PATTERN.matcher(template);
             while (matcher.find()) {
-                variables.add(matcher.group(1));
+                String literal = template.substring(literalStart, matcher.start());
+                literals.add(literal);
+                literalsLength += literal.length();
+                variableNames.add(matcher.group(1));
+                literalStart = matcher.end();
             }
-            return variables;
+            String lastLiteral = template.substring(literalStart);
+            literals.add(lastLiteral);
+            literalsLength += lastLiteral.length();
+
+            this.literals = literals.toArray(new String[0]);
+            this.variableNames = variableNames.toArray(new String[0]);
+            this.literalsLength = literalsLength;
+            this.allVariables = new HashSet<>(variableNames);
         }
 
         public String render(Map<String, Object> variables) {
             ensureAllVariablesProvided(variables);
+            ensureNoNullValues(variables);
 
-            String result = template;
-            for (Map.Entry<String, Object> entry : variables.entrySet()) {
-                result = replaceAll(result, entry.getKey(), entry.getValue());
+            String[] values = new String[variableNames.length];
+            int length = literalsLength;
+            for (int i = 0; i < variableNames.length; i++) {
+                values[i] = variables.get(variableNames[i]).toString();
+                length += values[i].length();
             }
 
-            return result;
+            StringBuilder result = new StringBuilder(length);
+            for (int i = 0; i < values.length; i++) {
+                result.append(literals[i]).append(values[i]);
+            }
+            return result.append(literals[values.length]).toString();
         }
 
         private void ensureAllVariablesProvided(Map<String, Object> providedVariables) {
@@ -59,15 +87,13 @@ class DefaultPromptTemplateFactory implements PromptTemplateFactory {
             }
         }
 
-        private static String replaceAll(String template, String variable, Object value) {
-            if (value == null || value.toString() == null) {
-                throw illegalArgument("Value for the variable '%s' is null", variable);
+        private static void ensureNoNullValues(Map<String, Object> providedVariables) {
+            for (Map.Entry<String, Object> entry : providedVariables.entrySet()) {
+                Object value = entry.getValue();
+                if (value == null || value.toString() == null) {
+                    throw illegalArgument("Value for the variable '%s' is null", entry.getKey());
+                }
             }
-            return template.replace(inDoubleCurlyBrackets(variable), value.toString());
-        }
-
-        private static String inDoubleCurlyBrackets(String variable) {
-            return "{{" + variable + "}}";
         }
     }
 }
@@ -6,17 +6,25 @@ import dev.langchain4j.data.document.DocumentTransformer;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.data.segment.TextSegmentTransformer;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.spi.data.document.splitter.DocumentSplitterFactory;
 import dev.langchain4j.spi.model.embedding.EmbeddingModelFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.util.Arrays.asList;
@@ -48,16 +56,33 @@ import static java.util.stream.Collectors.toList;
  * <br>
  * Including a document title or a short summary in each {@code TextSegment} is a common technique
  * to improve the quality of similarity searches.
+ * <br>
+ * <br>
+ * {@link #ingest(List)} processes all documents at once, in a single call to the {@code EmbeddingModel}
+ * and a single call to the {@code EmbeddingStore}.
+ * To ingest a large or unbounded number of documents, use {@link #ingest(Iterator)} instead:
+ * documents are processed one at a time, and text segments are embedded and stored in batches,
+ * several batches being embedded concurrently.
+ * The memory used does not depend on the number of documents.
  */
 public class EmbeddingStoreIngestor {
 
     private static final Logger log = LoggerFactory.getLogger(EmbeddingStoreIngestor.class);
 
+    private static final int DEFAULT_EMBEDDING_BATCH_SIZE = 128;
+    private static final int DEFAULT_STORE_BATCH_SIZE = 512;
+    private static final int DEFAULT_EMBEDDING_CONCURRENCY = 4;
+
     private final DocumentTransformer documentTransformer;
     private final DocumentSplitter documentSplitter;
     private final TextSegmentTransformer textSegmentTransformer;
     private final EmbeddingModel embeddingModel;
     private final EmbeddingStore<TextSegment> embeddingStore;
+    private final int embeddingBatchSize;
+    private final int storeBatchSize;
+    private final int embeddingConcurrency;
+    private final Executor executor;
+    private final Consumer<IngestionResult> progressListener;
 
     /**
      * Creates an instance of an {@code EmbeddingStoreIngestor}.
@@ -75,6 +100,42 @@ public class EmbeddingStoreIngestor {
                                   TextSegmentTransformer textSegmentTransformer,
                                   EmbeddingModel embeddingModel,
                                   EmbeddingStore<TextSegment> embeddingStore) {
+        this(documentTransformer, documentSplitter, textSegmentTransformer, embeddingModel, embeddingStore,
+                null, null, null, null, null);
+    }
+
+    /**
+     * Creates an instance of an {@code EmbeddingStoreIngestor}.
+     *
+     * @param documentTransformer    The {@link DocumentTransformer} to use. Optional.
+     * @param documentSplitter       The {@link DocumentSplitter} to use. Optional.
+     *                               If none is specified, it tries to load one through SPI (see {@link DocumentSplitterFactory}).
+     * @param textSegmentTransformer The {@link TextSegmentTransformer} to use. Optional.
+     * @param embeddingModel         The {@link EmbeddingModel} to use. Mandatory.
+     *                               If none is specified, it tries to load one through SPI (see {@link EmbeddingModelFactory}).
+     * @param embeddingStore         The {@link EmbeddingStore} to use. Mandatory.
+     * @param embeddingBatchSize     The number of text segments embedded in one call by {@link #ingest(Iterator)}.
+     *                               Optional. Default: 128.
+     * @param storeBatchSize         The minimum number of text segments stored in one call by {@link #ingest(Iterator)}.
+     *                               Optional. Default: 512.
+     * @param embeddingConcurrency   The maximum number of batches embedded concurrently by {@link #ingest(Iterator)}.
+     *                               Optional. Default: 4.
+     * @param executor               The {@link Executor} embedding and storing batches for {@link #ingest(Iterator)}.
+     *                               Optional. By default, the executor shared by all components is used:
+     *                               virtual threads if available, otherwise a cached pool of daemon threads.
+     * @param progressListener       Notified with the cumulative {@link IngestionResult}
+     *                               each time {@link #ingest(Iterator)} stores a batch. Optional.
+     */
+    public EmbeddingStoreIngestor(DocumentTransformer documentTransformer,
+                                  DocumentSplitter documentSplitter,
+                                  TextSegmentTransformer textSegmentTransformer,
+                                  EmbeddingModel embeddingModel,
+                                  EmbeddingStore<TextSegment> embeddingStore,
+                                  Integer embeddingBatchSize,
+                                  Integer storeBatchSize,
+                                  Integer embeddingConcurrency,
+                                  Executor executor,
+                                  Consumer<IngestionResult> progressListener) {
         this.documentTransformer = documentTransformer;
         this.documentSplitter = getOrDefault(documentSplitter, EmbeddingStoreIngestor::loadDocumentSplitter);
         this.textSegmentTransformer = textSegmentTransformer;
@@ -83,6 +144,14 @@ public class EmbeddingStoreIngestor {
                 "embeddingModel"
         );
         this.embeddingStore = ensureNotNull(embeddingStore, "embeddingStore");
+        this.embeddingBatchSize = ensureGreaterThanZero(
+                getOrDefault(embeddingBatchSize, DEFAULT_EMBEDDING_BATCH_SIZE), "embeddingBatchSize");
+        this.storeBatchSize = ensureGreaterThanZero(
+                getOrDefault(storeBatchSize, DEFAULT_STORE_BATCH_SIZE), "storeBatchSize");
+        this.embeddingConcurrency = ensureGreaterThanZero(
+                getOrDefault(embeddingConcurrency, DEFAULT_EMBEDDING_CONCURRENCY), "embeddingConcurrency");
+        this.executor = getOrDefault(executor, DefaultExecutorProvider::getDefaultExecutor);
+        this.progressListener = progressListener;
     }
 
     private static DocumentSplitter loadDocumentSplitter() {
@@ -178,7 +247,8 @@ public class EmbeddingStoreIngestor {
      */
     public IngestionResult ingest(List<Document> documents) {
 
-        log.debug("Starting to ingest {} documents", documents.size());
+        int documentCount = documents.size();
+        log.debug("Starting to ingest {} documents", documentCount);
 
         if (documentTransformer != null) {
             documents = documentTransformer.transformAll(documents);
@@ -208,7 +278,200 @@ public class EmbeddingStoreIngestor {
         embeddingStore.addAll(embeddingsResponse.content(), segments);
         log.debug("Finished storing {} text segments into the embedding store", segments.size());
 
-        return new IngestionResult(embeddingsResponse.tokenUsage());
+        return new IngestionResult(embeddingsResponse.tokenUsage(), documentCount, segments.size());
+    }
+
+    /**
+     * Ingests documents, one at a time, into an {@link EmbeddingStore} that was specified
+     * during the creation of this {@code EmbeddingStoreIngestor}.
+     * <br>
+     * Documents are pulled from the iterator only when the previous ones have been transformed and split,
+     * so a lazy iterator (for example, one that loads and parses files on demand)
+     * lets this method ingest any number of documents in constant memory.
+     * <br>
+     * Text segments are grouped into batches of {@code embeddingBatchSize}, which are embedded concurrently
+     * (up to {@code embeddingConcurrency} at a time) on the configured {@link Executor},
+     * while the calling thread keeps transforming and splitting the next documents.
+     * When all embedding slots are busy, the calling thread waits, so that documents are never read faster
+     * than they can be embedded.
+     * Embedded text segments are stored in batches of at least {@code storeBatchSize}.
+     * <br>
+     * The order in which text segments are stored is not guaranteed.
+     * If a batch fails to be embedded or stored, no new batches are started,
+     * and the failure is rethrown once the batches already started have completed.
+     * Batches that have been stored before the failure remain in the {@code EmbeddingStore}.
+     *
+     * @param documents the documents to ingest.
+     * @return result including information related to ingestion process.
+     */
+    public IngestionResult ingest(Iterator<Document> documents) {
+
+        log.debug("Starting to ingest documents in batches of {} text segments", embeddingBatchSize);
+
+        Pipeline pipeline = new Pipeline();
+        try {
+            List<TextSegment> batch = new ArrayList<>(embeddingBatchSize);
+            while (!pipeline.failed() && documents.hasNext()) {
+                for (TextSegment segment : process(documents.next())) {
+                    batch.add(segment);
+                    if (batch.size() == embeddingBatchSize) {
+                        pipeline.embed(batch);
+                        batch = new ArrayList<>(embeddingBatchSize);
+                    }
+                }
+                pipeline.documentProcessed();
+            }
+            if (!batch.isEmpty() && !pipeline.failed()) {
+                pipeline.embed(batch);
+            }
+        } finally {
+            pipeline.awaitEmbeddings();
+        }
+
+        IngestionResult result = pipeline.complete();
+        log.debug("Finished ingesting {} documents ({} text segments)",
+                result.documentCount(), result.segmentCount());
+        return result;
+    }
+
+    private List<TextSegment> process(Document document) {
+        List<Document> documents = singletonList(document);
+        if (documentTransformer != null) {
+            documents = documentTransformer.transformAll(documents);
+        }
+        List<TextSegment> segments;
+        if (documentSplitter != null) {
+            segments = documentSplitter.splitAll(documents);
+        } else {
+            segments = documents.stream()
+                    .map(Document::toTextSegment)
+                    .collect(toList());
+        }
+        if (textSegmentTransformer != null && !segments.isEmpty()) {
+            segments = textSegmentTransformer.transformAll(segments);
+        }
+        return segments;
+    }
+
+    /**
+     * The state of a single {@link #ingest(Iterator)} call.
+     * <br>
+     * At most {@link #embeddingConcurrency} batches are being embedded or stored at any time,
+     * which bounds the number of text segments held in memory to roughly
+     * {@code embeddingConcurrency * embeddingBatchSize + storeBatchSize}.
+     */
+    private class Pipeline {
+
+        private final Semaphore embeddingSlots = new Semaphore(embeddingConcurrency);
+        private final Object lock = new Object();
+
+        private List<TextSegment> pendingSegments = new ArrayList<>();
+        private List<Embedding> pendingEmbeddings = new ArrayList<>();
+        private TokenUsage tokenUsage;
+        private long documentCount;
+        private long segmentCount;
+        private volatile Throwable failure;
+
+        boolean failed() {
+            return failure != null;
+        }
+
+        void documentProcessed() {
+            synchronized (lock) {
+                documentCount++;
+            }
+        }
+
+        void embed(List<TextSegment> segments) {
+            embeddingSlots.acquireUninterruptibly();
+            try {
+                executor.execute(() -> {
+                    try {
+                        embedAndStore(segments);
+                    } catch (Throwable t) {
+                        fail(t);
+                    } finally {
+                        embeddingSlots.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                embeddingSlots.release();
+                throw e;
+            }
+        }
+
+        private void embedAndStore(List<TextSegment> segments) {
+            Response<List<Embedding>> response = embeddingModel.embedAll(segments);
+            log.debug("Embedded a batch of {} text segments", segments.size());
+
+            List<TextSegment> segmentsToStore = null;
+            List<Embedding> embeddingsToStore = null;
+            synchronized (lock) {
+                tokenUsage = TokenUsage.sum(tokenUsage, response.tokenUsage());
+                pendingSegments.addAll(segments);
+                pendingEmbeddings.addAll(response.content());
+                if (pendingSegments.size() >= storeBatchSize) {
+                    segmentsToStore = pendingSegments;
+                    embeddingsToStore = pendingEmbeddings;
+                    pendingSegments = new ArrayList<>();
+                    pendingEmbeddings = new ArrayList<>();
+                }
+            }
+
+            if (segmentsToStore != null && !failed()) {
+                store(embeddingsToStore, segmentsToStore);
+            }
+        }
+
+        private void store(List<Embedding> embeddings, List<TextSegment> segments) {
+            embeddingStore.addAll(embeddings, segments);
+            log.debug("Stored a batch of {} text segments into the embedding store", segments.size());
+
+            IngestionResult progress;
+            synchronized (lock) {
+                segmentCount += segments.size();
+                progress = result();
+            }
+            if (progressListener != null) {
+                progressListener.accept(progress);
+            }
+        }
+
+        private void fail(Throwable t) {
+            synchronized (lock) {
+                if (failure == null) {
+                    failure = t;
+                } else {
+                    failure.addSuppressed(t);
+                }
+            }
+        }
+
+        void awaitEmbeddings() {
+            embeddingSlots.acquireUninterruptibly(embeddingConcurrency);
+            embeddingSlots.release(embeddingConcurrency);
+        }
+
+        IngestionResult complete() {
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            } else if (failure != null) {
+                throw new RuntimeException(failure);
+            }
+
+            if (!pendingSegments.isEmpty()) {
+                store(pendingEmbeddings, pendingSegments);
+            }
+            synchronized (lock) {
+                return result();
+            }
+        }
+
+        private IngestionResult result() {
+            return new IngestionResult(tokenUsage, documentCount, segmentCount);
+        }
     }
 
     /**
@@ -230,6 +493,11 @@ public class EmbeddingStoreIngestor {
         private TextSegmentTransformer textSegmentTransformer;
         private EmbeddingModel embeddingModel;
         private EmbeddingStore<TextSegment> embeddingStore;
+        private Integer embeddingBatchSize;
+        private Integer storeBatchSize;
+        private Integer embeddingConcurrency;
+        private Executor executor;
+        private Consumer<IngestionResult> progressListener;
 
         /**
          * Creates a new EmbeddingStoreIngestor builder.
@@ -253,6 +521,8 @@ public class EmbeddingStoreIngestor {
          * If none is specified, it tries to load one through SPI (see {@link DocumentSplitterFactory}).
          * <br>
          * {@code DocumentSplitters.recursive()} from main ({@code langchain4j}) module is a good starting point.
+         * To split many documents using all CPU cores, wrap it in a {@code ParallelDocumentSplitter}
+         * from the same module.
          *
          * @param documentSplitter the document splitter.
          * @return {@code this}
@@ -296,6 +566,71 @@ public class EmbeddingStoreIngestor {
             return this;
         }
 
+        /**
+         * Sets the number of text segments embedded in one call to the {@link EmbeddingModel}
+         * by {@link EmbeddingStoreIngestor#ingest(Iterator)}. Optional.
+         * Default: 128.
+         *
+         * @param embeddingBatchSize the embedding batch size.
+         * @return {@code this}
+         */
+        public Builder embeddingBatchSize(Integer embeddingBatchSize) {
+            this.embeddingBatchSize = embeddingBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the minimum number of text segments stored in one call to the {@link EmbeddingStore}
+         * by {@link EmbeddingStoreIngestor#ingest(Iterator)}. Optional.
+         * Default: 512.
+         *
+         * @param storeBatchSize the store batch size.
+         * @return {@code this}
+         */
+        public Builder storeBatchSize(Integer storeBatchSize) {
+            this.storeBatchSize = storeBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batches embedded concurrently
+         * by {@link EmbeddingStoreIngestor#ingest(Iterator)}. Optional.
+         * Default: 4.
+         *
+         * @param embeddingConcurrency the embedding concurrency.
+         * @return {@code this}
+         */
+        public Builder embeddingConcurrency(Integer embeddingConcurrency) {
+            this.embeddingConcurrency = embeddingConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Executor} embedding and storing batches for {@link EmbeddingStoreIngestor#ingest(Iterator)}.
+         * Optional. By default, the executor shared by all components is used:
+         * virtual threads if available, otherwise a cached pool of daemon threads.
+         *
+         * @param executor the executor.
+         * @return {@code this}
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets a listener notified with the cumulative {@link IngestionResult}
+         * each time {@link EmbeddingStoreIngestor#ingest(Iterator)} stores a batch. Optional.
+         * The listener can be called concurrently from several threads.
+         *
+         * @param progressListener the progress listener.
+         * @return {@code this}
+         */
+        public Builder progressListener(Consumer<IngestionResult> progressListener) {
+            this.progressListener = progressListener;
+            return this;
+        }
+
         /**
          * Builds the EmbeddingStoreIngestor.
          *
@@ -307,7 +642,12 @@ public class EmbeddingStoreIngestor {
                     documentSplitter,
                     textSegmentTransformer,
                     embeddingModel,
-                    embeddingStore
+                    embeddingStore,
+                    embeddingBatchSize,
+                    storeBatchSize,
+                    embeddingConcurrency,
+                    executor,
+                    progressListener
             );
         }
     }
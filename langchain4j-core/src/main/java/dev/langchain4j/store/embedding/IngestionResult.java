@@ -4,19 +4,44 @@ import dev.langchain4j.model.output.TokenUsage;
 
 /**
  * Represents the result of a {@link EmbeddingStoreIngestor} ingestion process.
+ * <br>
+ * It is also used to report the progress of {@link EmbeddingStoreIngestor#ingest(java.util.Iterator)},
+ * in which case it contains the values accumulated so far.
  */
 public class IngestionResult {
     /**
      * The token usage information.
      */
     private final TokenUsage tokenUsage;
+    /**
+     * The number of documents that have been transformed and split.
+     */
+    private final long documentCount;
+    /**
+     * The number of text segments that have been stored in the embedding store.
+     */
+    private final long segmentCount;
 
 
     public IngestionResult(TokenUsage tokenUsage) {
+        this(tokenUsage, 0, 0);
+    }
+
+    public IngestionResult(TokenUsage tokenUsage, long documentCount, long segmentCount) {
         this.tokenUsage = tokenUsage;
+        this.documentCount = documentCount;
+        this.segmentCount = segmentCount;
     }
 
     public TokenUsage tokenUsage() {
         return tokenUsage;
     }
+
+    public long documentCount() {
+        return documentCount;
+    }
+
+    public long segmentCount() {
+        return segmentCount;
+    }
 }
@@ -0,0 +1,321 @@
+package dev.langchain4j.store.embedding.filter;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.store.embedding.filter.comparison.ContainsString;
+import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsGreaterThan;
+import dev.langchain4j.store.embedding.filter.comparison.IsGreaterThanOrEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsIn;
+import dev.langchain4j.store.embedding.filter.comparison.IsLessThan;
+import dev.langchain4j.store.embedding.filter.comparison.IsLessThanOrEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsNotEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsNotIn;
+import dev.langchain4j.store.embedding.filter.logical.And;
+import dev.langchain4j.store.embedding.filter.logical.Not;
+import dev.langchain4j.store.embedding.filter.logical.Or;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Compiles a {@link Filter} into a {@link Predicate} over {@link Metadata}, to be used when the same filter
+ * is tested against many {@link Metadata} objects, for example during a search in an in-memory embedding store.
+ * <p>
+ * The compiled predicate gives the same results as {@link Filter#test(Object)}, but everything that does not depend
+ * on the tested metadata is done once, during compilation: the comparison values of {@link IsIn} and {@link IsNotIn}
+ * are put into hash sets, numeric comparison values are converted once,
+ * and values are read from the metadata without copying it.
+ * <p>
+ * Whenever a metadata value does not have the type expected by the compiled predicate, the original {@link Filter}
+ * is tested instead, so that type mismatches are reported exactly as by {@link Filter#test(Object)}.
+ * Custom {@link Filter} implementations are tested as is.
+ */
+public class FilterCompiler {
+
+    private FilterCompiler() {}
+
+    /**
+     * Compiles the given {@link Filter}.
+     *
+     * @param filter the filter to compile
+     * @return a predicate that is {@code true} for the {@link Metadata} satisfying the filter
+     */
+    public static Predicate<Metadata> compile(Filter filter) {
+        ensureNotNull(filter, "filter");
+
+        if (filter instanceof And and) {
+            Predicate<Metadata> left = compile(and.left());
+            Predicate<Metadata> right = compile(and.right());
+            return metadata -> left.test(metadata) && right.test(metadata);
+        } else if (filter instanceof Or or) {
+            Predicate<Metadata> left = compile(or.left());
+            Predicate<Metadata> right = compile(or.right());
+            return metadata -> left.test(metadata) || right.test(metadata);
+        } else if (filter instanceof Not not) {
+            Predicate<Metadata> expression = compile(not.expression());
+            return metadata -> !expression.test(metadata);
+        } else if (filter instanceof IsEqualTo isEqualTo) {
+            return compileEquality(filter, isEqualTo.key(), isEqualTo.comparisonValue(), false);
+        } else if (filter instanceof IsNotEqualTo isNotEqualTo) {
+            return compileEquality(filter, isNotEqualTo.key(), isNotEqualTo.comparisonValue(), true);
+        } else if (filter instanceof IsGreaterThan isGreaterThan) {
+            return compileComparison(filter, isGreaterThan.key(), isGreaterThan.comparisonValue(), c -> c > 0);
+        } else if (filter instanceof IsGreaterThanOrEqualTo isGreaterThanOrEqualTo) {
+            return compileComparison(
+                    filter, isGreaterThanOrEqualTo.key(), isGreaterThanOrEqualTo.comparisonValue(), c -> c >= 0);
+        } else if (filter instanceof IsLessThan isLessThan) {
+            return compileComparison(filter, isLessThan.key(), isLessThan.comparisonValue(), c -> c < 0);
+        } else if (filter instanceof IsLessThanOrEqualTo isLessThanOrEqualTo) {
+            return compileComparison(
+                    filter, isLessThanOrEqualTo.key(), isLessThanOrEqualTo.comparisonValue(), c -> c <= 0);
+        } else if (filter instanceof IsIn isIn) {
+            return compileIn(filter, isIn.key(), isIn.comparisonValues(), false);
+        } else if (filter instanceof IsNotIn isNotIn) {
+            return compileIn(filter, isNotIn.key(), isNotIn.comparisonValues(), true);
+        } else if (filter instanceof ContainsString containsString) {
+            return compileContainsString(filter, containsString.key(), containsString.comparisonValue());
+        }
+
+        return filter::test;
+    }
+
+    private static Predicate<Metadata> compileEquality(Filter filter, String key, Object comparisonValue, boolean negate) {
+        if (comparisonValue instanceof Number number) {
+            ComparisonNumber comparisonNumber = ComparisonNumber.from(number);
+            if (comparisonNumber == null) {
+                return filter::test;
+            }
+            return metadata -> {
+                Object actualValue = metadata.getObject(key);
+                if (actualValue == null) {
+                    return negate;
+                }
+                if (actualValue instanceof Number actualNumber) {
+                    return (comparisonNumber.compareTo(actualNumber) == 0) != negate;
+                }
+                return filter.test(metadata);
+            };
+        }
+
+        if (comparisonValue instanceof UUID) {
+            String comparisonString = comparisonValue.toString();
+            return metadata -> {
+                Object actualValue = metadata.getObject(key);
+                if (actualValue == null) {
+                    return negate;
+                }
+                if (actualValue instanceof UUID) {
+                    return actualValue.equals(comparisonValue) != negate;
+                }
+                if (actualValue instanceof String) {
+                    return actualValue.equals(comparisonString) != negate;
+                }
+                return filter.test(metadata);
+            };
+        }
+
+        Class<?> comparisonType = comparisonValue.getClass();
+        return metadata -> {
+            Object actualValue = metadata.getObject(key);
+            if (actualValue == null) {
+                return negate;
+            }
+            if (actualValue.getClass() == comparisonType) {
+                return actualValue.equals(comparisonValue) != negate;
+            }
+            return filter.test(metadata);
+        };
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Predicate<Metadata> compileComparison(
+            Filter filter, String key, Comparable<?> comparisonValue, IntPredicate comparisonResult) {
+        if (comparisonValue instanceof Number number) {
+            ComparisonNumber comparisonNumber = ComparisonNumber.from(number);
+            if (comparisonNumber == null) {
+                return filter::test;
+            }
+            return metadata -> {
+                Object actualValue = metadata.getObject(key);
+                if (actualValue == null) {
+                    return false;
+                }
+                if (actualValue instanceof Number actualNumber) {
+                    return comparisonResult.test(comparisonNumber.compareTo(actualNumber));
+                }
+                return filter.test(metadata);
+            };
+        }
+
+        Class<?> comparisonType = comparisonValue.getClass();
+        return metadata -> {
+            Object actualValue = metadata.getObject(key);
+            if (actualValue == null) {
+                return false;
+            }
+            if (actualValue.getClass() == comparisonType) {
+                return comparisonResult.test(((Comparable) actualValue).compareTo(comparisonValue));
+            }
+            return filter.test(metadata);
+        };
+    }
+
+    private static Predicate<Metadata> compileIn(
+            Filter filter, String key, Collection<?> comparisonValues, boolean negate) {
+        // the type of the first value decides how the values are compared, see IsIn and IsNotIn
+        Object firstComparisonValue = comparisonValues.iterator().next();
+
+        if (firstComparisonValue instanceof Number) {
+            Set<Long> longValues = new HashSet<>();
+            Set<Double> doubleValues = new HashSet<>();
+            for (Object comparisonValue : comparisonValues) {
+                if (!isMetadataNumber(comparisonValue)) {
+                    return filter::test;
+                }
+                BigDecimal decimal = toBigDecimal((Number) comparisonValue);
+                try {
+                    longValues.add(decimal.longValueExact());
+                } catch (ArithmeticException e) {
+                    // not an integer, cannot be equal to an Integer or a Long
+                }
+                double doubleValue = decimal.doubleValue();
+                if (Double.isFinite(doubleValue) && BigDecimal.valueOf(doubleValue).compareTo(decimal) == 0) {
+                    doubleValues.add(doubleValue == 0 ? 0.0 : doubleValue);
+                }
+            }
+            return metadata -> {
+                Object actualValue = metadata.getObject(key);
+                if (actualValue == null) {
+                    return negate;
+                }
+                if (actualValue instanceof Integer || actualValue instanceof Long) {
+                    return longValues.contains(((Number) actualValue).longValue()) != negate;
+                }
+                if (actualValue instanceof Double || actualValue instanceof Float) {
+                    double doubleValue = ((Number) actualValue).doubleValue();
+                    if (Double.isFinite(doubleValue)) {
+                        return doubleValues.contains(doubleValue == 0 ? 0.0 : doubleValue) != negate;
+                    }
+                }
+                return filter.test(metadata);
+            };
+        }
+
+        if (firstComparisonValue instanceof UUID) {
+            Set<UUID> uuidValues = new HashSet<>();
+            Set<String> stringValues = new HashSet<>();
+            for (Object comparisonValue : comparisonValues) {
+                if (!(comparisonValue instanceof UUID uuid)) {
+                    return filter::test;
+                }
+                uuidValues.add(uuid);
+                stringValues.add(uuid.toString());
+            }
+            return metadata -> {
+                Object actualValue = metadata.getObject(key);
+                if (actualValue == null) {
+                    return negate;
+                }
+                if (actualValue instanceof UUID) {
+                    return uuidValues.contains(actualValue) != negate;
+                }
+                if (actualValue instanceof String string) {
+                    return (stringValues.contains(string) || uuidValues.contains(UUID.fromString(string))) != negate;
+                }
+                return filter.test(metadata);
+            };
+        }
+
+        Class<?> comparisonType = firstComparisonValue.getClass();
+        Set<?> values = new HashSet<>(comparisonValues);
+        return metadata -> {
+            Object actualValue = metadata.getObject(key);
+            if (actualValue == null) {
+                return negate;
+            }
+            if (actualValue.getClass() == comparisonType) {
+                return values.contains(actualValue) != negate;
+            }
+            return filter.test(metadata);
+        };
+    }
+
+    private static Predicate<Metadata> compileContainsString(Filter filter, String key, String comparisonValue) {
+        return metadata -> {
+            Object actualValue = metadata.getObject(key);
+            if (actualValue == null) {
+                return false;
+            }
+            if (actualValue instanceof String string) {
+                return string.contains(comparisonValue);
+            }
+            return filter.test(metadata);
+        };
+    }
+
+    private static boolean isMetadataNumber(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Float || value instanceof Double;
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof Integer || number instanceof Long) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        return BigDecimal.valueOf(number.doubleValue());
+    }
+
+    private static boolean isInteger(Number number) {
+        return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte;
+    }
+
+    /**
+     * A numeric comparison value, compared with metadata values the same way as by {@code new BigDecimal(toString())},
+     * but without creating {@link BigDecimal}s when both numbers are integers, doubles or floats.
+     */
+    private static class ComparisonNumber {
+
+        private final Number value;
+        private final BigDecimal decimal;
+
+        private ComparisonNumber(Number value, BigDecimal decimal) {
+            this.value = value;
+            this.decimal = decimal;
+        }
+
+        /**
+         * @return the comparison number, or {@code null} if it cannot be converted into a {@link BigDecimal}
+         */
+        static ComparisonNumber from(Number value) {
+            try {
+                return new ComparisonNumber(value, new BigDecimal(value.toString()));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        /**
+         * @return the sign of {@code actualNumber - value}
+         */
+        int compareTo(Number actualNumber) {
+            if (isInteger(actualNumber) && isInteger(value)) {
+                return Long.compare(actualNumber.longValue(), value.longValue());
+            }
+            // distinct doubles (floats) never have the same shortest decimal representation, and it keeps their order
+            if ((actualNumber instanceof Double && value instanceof Double)
+                    || (actualNumber instanceof Float && value instanceof Float)) {
+                double actual = actualNumber.doubleValue();
+                double comparison = value.doubleValue();
+                if (Double.isFinite(actual) && Double.isFinite(comparison)) {
+                    return actual < comparison ? -1 : (actual > comparison ? 1 : 0);
+                }
+            }
+            return new BigDecimal(actualNumber.toString()).compareTo(decimal);
+        }
+    }
+}
@@ -40,7 +40,7 @@ public class ContainsString implements Filter {
             return false;
         }
 
-        Object actualValue = metadata.toMap().get(key);
+        Object actualValue = metadata.getObject(key);
 
         if (actualValue instanceof String str) {
             return str.contains(comparisonValue);
@@ -96,6 +96,23 @@ class PromptTemplateTest {
         assertThat(prompt.text()).isEqualTo("My name is Klaus, call me Klaus.");
     }
 
+    @Test
+    void should_not_replace_variables_inside_values() {
+
+        // given
+        PromptTemplate promptTemplate = PromptTemplate.from("{{first}} and {{second}}");
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("first", "{{second}}");
+        variables.put("second", "{{first}}");
+
+        // when
+        Prompt prompt = promptTemplate.apply(variables);
+
+        // then
+        assertThat(prompt.text()).isEqualTo("{{second}} and {{first}}");
+    }
+
     @Test
     void should_fail_when_value_is_missing() {
 
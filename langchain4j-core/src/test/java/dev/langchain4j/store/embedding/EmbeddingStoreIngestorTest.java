@@ -3,7 +3,11 @@ package dev.langchain4j.store.embedding;
 import static dev.langchain4j.data.segment.TextSegment.textSegment;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -19,6 +23,13 @@ import dev.langchain4j.data.segment.TextSegmentTransformer;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 class EmbeddingStoreIngestorTest {
@@ -192,4 +203,115 @@ class EmbeddingStoreIngestorTest {
 
         assertThat(ingestionResult.tokenUsage()).isEqualTo(tokenUsage);
     }
+
+    @Test
+    void should_ingest_documents_in_concurrent_batches() {
+
+        // given
+        List<Document> documents = IntStream.range(0, 10)
+                .mapToObj(i -> Document.from("document " + i))
+                .collect(toList());
+        DocumentSplitter documentSplitter = document -> IntStream.range(0, 3)
+                .mapToObj(i -> textSegment(document.text() + " segment " + i))
+                .collect(toList());
+
+        AtomicInteger concurrentCalls = new AtomicInteger();
+        AtomicInteger maxConcurrentCalls = new AtomicInteger();
+        List<Integer> embeddingBatchSizes = Collections.synchronizedList(new ArrayList<>());
+        EmbeddingModel embeddingModel = segments -> {
+            maxConcurrentCalls.accumulateAndGet(concurrentCalls.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            } finally {
+                concurrentCalls.decrementAndGet();
+            }
+            embeddingBatchSizes.add(segments.size());
+            List<Embedding> embeddings = segments.stream()
+                    .map(segment -> Embedding.from(new float[] {segment.text().hashCode()}))
+                    .collect(toList());
+            return Response.from(embeddings, new TokenUsage(segments.size(), 0));
+        };
+
+        List<Embedding> storedEmbeddings = Collections.synchronizedList(new ArrayList<>());
+        List<TextSegment> storedSegments = Collections.synchronizedList(new ArrayList<>());
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        doAnswer(invocation -> {
+                    storedEmbeddings.addAll(invocation.getArgument(0));
+                    storedSegments.addAll(invocation.getArgument(1));
+                    return null;
+                })
+                .when(embeddingStore)
+                .addAll(any(), any());
+
+        List<IngestionResult> progress = Collections.synchronizedList(new ArrayList<>());
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentSplitter(documentSplitter)
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .embeddingBatchSize(4)
+                .storeBatchSize(5)
+                .embeddingConcurrency(2)
+                .progressListener(progress::add)
+                .build();
+
+        // when
+        IngestionResult ingestionResult = ingestor.ingest(documents.iterator());
+
+        // then
+        assertThat(ingestionResult.documentCount()).isEqualTo(10);
+        assertThat(ingestionResult.segmentCount()).isEqualTo(30);
+        assertThat(ingestionResult.tokenUsage().inputTokenCount()).isEqualTo(30);
+
+        assertThat(storedSegments)
+                .containsExactlyInAnyOrderElementsOf(documents.stream()
+                        .flatMap(document -> documentSplitter.split(document).stream())
+                        .collect(toList()));
+        for (int i = 0; i < storedSegments.size(); i++) {
+            assertThat(storedEmbeddings.get(i).vector()[0])
+                    .isEqualTo((float) storedSegments.get(i).text().hashCode());
+        }
+
+        assertThat(embeddingBatchSizes).hasSize(8).allMatch(size -> size <= 4);
+        assertThat(maxConcurrentCalls.get()).isLessThanOrEqualTo(2);
+
+        assertThat(progress).isNotEmpty();
+        assertThat(progress.stream().mapToLong(IngestionResult::segmentCount).max().getAsLong())
+                .isEqualTo(30);
+    }
+
+    @Test
+    void should_stop_reading_documents_when_embedding_fails() {
+
+        // given
+        AtomicInteger readDocuments = new AtomicInteger();
+        Iterator<Document> documents = Stream.generate(
+                        () -> Document.from("document " + readDocuments.incrementAndGet()))
+                .iterator();
+
+        EmbeddingModel embeddingModel = segments -> {
+            throw new RuntimeException("embedding failed");
+        };
+
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .embeddingBatchSize(1)
+                .embeddingConcurrency(1)
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> ingestor.ingest(documents))
+                .isExactlyInstanceOf(RuntimeException.class)
+                .hasMessage("embedding failed");
+
+        assertThat(readDocuments.get()).isLessThanOrEqualTo(2);
+        verifyNoMoreInteractions(embeddingStore);
+    }
 }
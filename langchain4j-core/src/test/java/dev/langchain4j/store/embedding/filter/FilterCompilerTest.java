@@ -0,0 +1,118 @@
+package dev.langchain4j.store.embedding.filter;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.store.embedding.filter.comparison.ContainsString;
+import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsGreaterThan;
+import dev.langchain4j.store.embedding.filter.comparison.IsGreaterThanOrEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsLessThan;
+import dev.langchain4j.store.embedding.filter.comparison.IsLessThanOrEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsNotEqualTo;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+
+class FilterCompilerTest {
+
+    private static final UUID UUID_1 = UUID.fromString("3a2b1c4d-0000-4000-8000-000000000001");
+    private static final UUID UUID_2 = UUID.fromString("3a2b1c4d-0000-4000-8000-000000000002");
+
+    private static final List<Object> VALUES = List.of(
+            "a", "b", "abc", "", UUID_1.toString(), UUID_1.toString().toUpperCase(), UUID_1, UUID_2,
+            0, 1, -1, 2, 42, Integer.MAX_VALUE,
+            0L, 1L, 42L, Long.MAX_VALUE, Long.MIN_VALUE,
+            0.0f, -0.0f, 0.1f, 1.0f, 1.5f, 0.87f,
+            0.0, -0.0, 0.1, 1.0, 1.5, 0.87, 42.0, (double) 0.87f, 1e20, Double.MIN_VALUE);
+
+    @Test
+    void should_give_the_same_results_as_the_filter() {
+
+        List<Filter> filters = new ArrayList<>();
+        for (Object value : VALUES) {
+            filters.add(new IsEqualTo("key", value));
+            filters.add(new IsNotEqualTo("key", value));
+            Comparable<?> comparable = (Comparable<?>) value;
+            filters.add(new IsGreaterThan("key", comparable));
+            filters.add(new IsGreaterThanOrEqualTo("key", comparable));
+            filters.add(new IsLessThan("key", comparable));
+            filters.add(new IsLessThanOrEqualTo("key", comparable));
+            if (value instanceof String string) {
+                filters.add(new ContainsString("key", string));
+            }
+        }
+        filters.add(metadataKey("key").isIn("a", "abc"));
+        filters.add(metadataKey("key").isNotIn("a", "abc"));
+        filters.add(metadataKey("key").isIn(UUID_1, UUID_2));
+        filters.add(metadataKey("key").isNotIn(UUID_1));
+        filters.add(metadataKey("key").isIn(1, 42));
+        filters.add(metadataKey("key").isNotIn(1, 42));
+        filters.add(metadataKey("key").isIn(1L, Long.MAX_VALUE));
+        filters.add(metadataKey("key").isIn(0.1f, 1.5f, 0.87f));
+        filters.add(metadataKey("key").isNotIn(0.1, 1.0, 0.87, 42.0));
+        filters.add(metadataKey("key").isIn(0.0, 1e20, Double.MIN_VALUE));
+        filters.add(metadataKey("key").isIn(-0.0f, 42.0f));
+        filters.add(metadataKey("key").isIn(List.of(1, 1.5)));
+        filters.add(metadataKey("key").isIn(List.of(UUID_1, UUID_1.toString())));
+        filters.add(metadataKey("key").isNotIn(List.of("a", 1)));
+
+        List<Metadata> metadatas = new ArrayList<>();
+        metadatas.add(new Metadata());
+        metadatas.add(new Metadata(Map.of("other", "a")));
+        for (Object value : VALUES) {
+            metadatas.add(new Metadata(Map.of("key", value)));
+        }
+
+        List<Filter> composites = new ArrayList<>();
+        for (int i = 0; i + 1 < filters.size(); i += 7) {
+            composites.add(filters.get(i).and(filters.get(i + 1)));
+            composites.add(filters.get(i).or(Filter.not(filters.get(i + 1))));
+        }
+        filters.addAll(composites);
+
+        for (Filter filter : filters) {
+            Predicate<Metadata> compiled = FilterCompiler.compile(filter);
+            for (Metadata metadata : metadatas) {
+                Object expected = resultOf(() -> filter.test(metadata));
+                Object actual = resultOf(() -> compiled.test(metadata));
+                assertThat(actual).as("%s on %s", filter, metadata).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void should_report_type_mismatch_like_the_filter() {
+
+        Predicate<Metadata> compiled = FilterCompiler.compile(metadataKey("key").isIn("a", "b"));
+
+        assertThatThrownBy(() -> compiled.test(new Metadata().put("key", 1)))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Type mismatch: actual value of metadata key \"key\" (1)");
+    }
+
+    @Test
+    void should_test_custom_filters_as_is() {
+
+        Filter custom = object -> object instanceof Metadata metadata && metadata.containsKey("custom");
+
+        Predicate<Metadata> compiled = FilterCompiler.compile(custom.and(metadataKey("key").isEqualTo(1)));
+
+        assertThat(compiled.test(new Metadata().put("custom", "x").put("key", 1))).isTrue();
+        assertThat(compiled.test(new Metadata().put("key", 1))).isFalse();
+    }
+
+    private static Object resultOf(BooleanSupplier supplier) {
+        try {
+            return supplier.getAsBoolean();
+        } catch (RuntimeException e) {
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+}
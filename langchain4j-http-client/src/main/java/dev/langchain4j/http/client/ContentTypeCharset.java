@@ -0,0 +1,60 @@
+package dev.langchain4j.http.client;
+
+import dev.langchain4j.Experimental;
+
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Finds the charset declared by the {@code Content-Type} header of an HTTP message,
+ * so that {@link HttpClient} implementations decode bodies the same way.
+ */
+@Experimental
+public final class ContentTypeCharset {
+
+    private ContentTypeCharset() {
+    }
+
+    /**
+     * @param headers the headers of an HTTP message, with case-insensitive names
+     * @return the charset of the {@code Content-Type} header,
+     * or UTF-8 if there is none or if it is not supported
+     */
+    public static Charset charsetOf(Map<String, List<String>> headers) {
+        if (headers == null) {
+            return UTF_8;
+        }
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if ("Content-Type".equalsIgnoreCase(header.getKey()) && header.getValue() != null) {
+                for (String value : header.getValue()) {
+                    Charset charset = charset(value);
+                    if (charset != null) {
+                        return charset;
+                    }
+                }
+            }
+        }
+        return UTF_8;
+    }
+
+    private static Charset charset(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        for (String parameter : contentType.split(";")) {
+            int separator = parameter.indexOf('=');
+            if (separator > 0 && parameter.substring(0, separator).trim().equalsIgnoreCase("charset")) {
+                String name = parameter.substring(separator + 1).trim().replace("\"", "");
+                try {
+                    return Charset.forName(name);
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -6,6 +6,8 @@ import dev.langchain4j.http.client.sse.DefaultServerSentEventParser;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
 import dev.langchain4j.http.client.sse.ServerSentEventParser;
 
+import java.io.ByteArrayInputStream;
+
 /**
  * A client for executing HTTP requests both synchronously and asynchronously.
  * This interface is currently experimental and subject to change.
@@ -24,6 +26,30 @@ public interface HttpClient {
      */
     SuccessfulHttpResponse execute(HttpRequest request) throws HttpException, RuntimeException;
 
+    /**
+     * Executes a given HTTP request synchronously and returns the response without reading its body.
+     * This method blocks until the status code and the headers are received.
+     * The body is available through {@link SuccessfulHttpResponse#bodyStream()},
+     * so that a large body can be processed while it is being received, without holding it in memory.
+     * The caller must close the body stream.
+     * <p>
+     * The default implementation calls {@link #execute(HttpRequest)} and returns the body it read in full.
+     *
+     * @param request the HTTP request to be executed.
+     * @return a {@link SuccessfulHttpResponse} with a body stream for successful HTTP requests (2XX status codes)
+     * @throws HttpException    if the server returns a client (4XX) or server (5XX) error response
+     * @throws RuntimeException if an unexpected error occurs during request execution (e.g., network issues, timeouts)
+     */
+    default SuccessfulHttpResponse executeWithBodyStream(HttpRequest request) throws HttpException, RuntimeException {
+        SuccessfulHttpResponse response = execute(request);
+        byte[] body = response.bodyBytes();
+        return SuccessfulHttpResponse.builder()
+                .statusCode(response.statusCode())
+                .headers(response.headers())
+                .bodyStream(new ByteArrayInputStream(body == null ? new byte[0] : body))
+                .build();
+    }
+
     /**
      * Executes a given HTTP request asynchronously with server-sent events (SSE) handling.
      * This method returns immediately while processing continues on a separate thread.
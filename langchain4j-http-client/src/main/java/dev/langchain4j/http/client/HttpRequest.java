@@ -2,17 +2,30 @@ package dev.langchain4j.http.client;
 
 import dev.langchain4j.Experimental;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static dev.langchain4j.internal.Utils.isNullOrEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 
+/**
+ * An HTTP request.
+ * <p>
+ * The body can be given as a {@code String}, as bytes or as a stream.
+ * Large bodies (for example, a batch of documents to embed) should be given as bytes or as a stream,
+ * so that {@link HttpClient} implementations can send them without copying them into a {@code String} first.
+ */
 @Experimental
 public class HttpRequest {
 
@@ -20,12 +33,16 @@ public class HttpRequest {
     private final String url;
     private final Map<String, List<String>> headers;
     private final String body;
+    private final byte[] bodyBytes;
+    private final Supplier<InputStream> bodyStream;
 
     public HttpRequest(Builder builder) {
         this.method = ensureNotNull(builder.method, "method");
         this.url = ensureNotBlank(builder.url, "url");
         this.headers = builder.headers == null ? emptyMap() : new HashMap<>(builder.headers);
         this.body = builder.body;
+        this.bodyBytes = builder.bodyBytes;
+        this.bodyStream = builder.bodyStream;
     }
 
     public HttpMethod method() {
@@ -40,8 +57,56 @@ public class HttpRequest {
         return headers;
     }
 
+    /**
+     * Returns the body as a {@code String}.
+     * If the body was given as bytes, they are decoded as UTF-8.
+     * If the body was given as a stream, a new stream is obtained and read fully.
+     * {@link HttpClient} implementations should prefer {@link #bodyStream()} and {@link #bodyBytes()}.
+     *
+     * @return the body, or {@code null} if there is no body.
+     */
     public String body() {
-        return body;
+        if (body != null) {
+            return body;
+        }
+        byte[] bytes = bodyBytes();
+        return bytes == null ? null : new String(bytes, UTF_8);
+    }
+
+    /**
+     * Returns the body as bytes.
+     * If the body was given as a {@code String}, it is encoded as UTF-8.
+     * If the body was given as a stream, a new stream is obtained and read fully.
+     *
+     * @return the body, or {@code null} if there is no body. The returned array must not be modified.
+     */
+    public byte[] bodyBytes() {
+        if (bodyBytes != null) {
+            return bodyBytes;
+        }
+        if (body != null) {
+            return body.getBytes(UTF_8);
+        }
+        if (bodyStream != null) {
+            try (InputStream inputStream = bodyStream.get()) {
+                return inputStream.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the supplier of the body stream, if the body was given with {@link Builder#bodyStream(Supplier)}.
+     * {@link HttpClient} implementations should send such a body without reading it into memory.
+     * The supplier can be called more than once (for example, when a request is retried or redirected),
+     * and the client must close each stream it obtains.
+     *
+     * @return the supplier of the body stream, or {@code null} if the body was not given as a stream.
+     */
+    public Supplier<InputStream> bodyStream() {
+        return bodyStream;
     }
 
     public static Builder builder() {
@@ -54,6 +119,8 @@ public class HttpRequest {
         private String url;
         private Map<String, List<String>> headers;
         private String body;
+        private byte[] bodyBytes;
+        private Supplier<InputStream> bodyStream;
 
         private Builder() {
         }
@@ -110,10 +177,61 @@ public class HttpRequest {
         }
 
         public Builder body(String body) {
+            clearBody();
             this.body = body;
             return this;
         }
 
+        /**
+         * @param body The body. The array is not copied and must not be modified afterward.
+         * @return builder
+         */
+        public Builder body(byte[] body) {
+            clearBody();
+            this.bodyBytes = body;
+            return this;
+        }
+
+        /**
+         * @param body The body, between the position and the limit of the buffer.
+         *             The position of the buffer is not changed.
+         *             When the buffer is backed by an array that it covers entirely, the array is used without copying.
+         * @return builder
+         */
+        public Builder body(ByteBuffer body) {
+            clearBody();
+            if (body != null) {
+                if (body.hasArray()
+                        && body.arrayOffset() == 0
+                        && body.position() == 0
+                        && body.remaining() == body.array().length) {
+                    this.bodyBytes = body.array();
+                } else {
+                    byte[] bytes = new byte[body.remaining()];
+                    body.duplicate().get(bytes);
+                    this.bodyBytes = bytes;
+                }
+            }
+            return this;
+        }
+
+        /**
+         * @param bodyStream The supplier of the body stream.
+         *                   It is called each time the body is sent, and must return a new stream each time.
+         * @return builder
+         */
+        public Builder bodyStream(Supplier<InputStream> bodyStream) {
+            clearBody();
+            this.bodyStream = bodyStream;
+            return this;
+        }
+
+        private void clearBody() {
+            this.body = null;
+            this.bodyBytes = null;
+            this.bodyStream = null;
+        }
+
         public HttpRequest build() {
             return new HttpRequest(this);
         }
@@ -2,6 +2,9 @@ package dev.langchain4j.http.client;
 
 import dev.langchain4j.Experimental;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -9,17 +12,30 @@ import java.util.Map;
 import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
 import static java.util.Collections.emptyMap;
 
+/**
+ * A successful (2XX) HTTP response.
+ * <p>
+ * The body can be given as a {@code String}, as bytes or as a stream.
+ * When it is given as bytes, it is decoded into a {@code String} only if {@link #body()} is called,
+ * using the charset of the {@code Content-Type} header (UTF-8 by default).
+ * When it is given as a stream (see {@link HttpClient#executeWithBodyStream(HttpRequest)}),
+ * it is available only through {@link #bodyStream()}.
+ */
 @Experimental
 public class SuccessfulHttpResponse {
 
     private final int statusCode;
     private final Map<String, List<String>> headers;
-    private final String body;
+    private final byte[] bodyBytes;
+    private final InputStream bodyStream;
+    private volatile String body;
 
     public SuccessfulHttpResponse(Builder builder) {
         this.statusCode = ensureBetween(builder.statusCode, 200, 299, "statusCode");
         this.headers = builder.headers == null ? emptyMap() : new HashMap<>(builder.headers);
         this.body = builder.body;
+        this.bodyBytes = builder.bodyBytes;
+        this.bodyStream = builder.bodyStream;
     }
 
     public int statusCode() {
@@ -30,10 +46,53 @@ public class SuccessfulHttpResponse {
         return headers;
     }
 
+    /**
+     * @return the body as a {@code String}, or {@code null} if there is no body or if the body is a stream.
+     */
     public String body() {
+        String body = this.body;
+        if (body == null && bodyBytes != null) {
+            body = new String(bodyBytes, charset());
+            this.body = body;
+        }
         return body;
     }
 
+    /**
+     * Returns the body as bytes, which can be parsed without decoding them into a {@code String} first.
+     *
+     * @return the body as bytes, or {@code null} if there is no body or if the body is a stream.
+     * The returned array must not be modified.
+     */
+    public byte[] bodyBytes() {
+        if (bodyBytes != null) {
+            return bodyBytes;
+        }
+        return body == null ? null : body.getBytes(charset());
+    }
+
+    /**
+     * @return a read-only view of the body as bytes, or {@code null} if there is no body or if the body is a stream.
+     */
+    public ByteBuffer bodyBuffer() {
+        byte[] bytes = bodyBytes();
+        return bytes == null ? null : ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the body as a stream, when the response was obtained with
+     * {@link HttpClient#executeWithBodyStream(HttpRequest)}. The caller must close the stream.
+     *
+     * @return the body as a stream, or {@code null} if the body was not given as a stream.
+     */
+    public InputStream bodyStream() {
+        return bodyStream;
+    }
+
+    private Charset charset() {
+        return ContentTypeCharset.charsetOf(headers);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -43,6 +102,8 @@ public class SuccessfulHttpResponse {
         private int statusCode;
         private Map<String, List<String>> headers;
         private String body;
+        private byte[] bodyBytes;
+        private InputStream bodyStream;
 
         private Builder() {
         }
@@ -62,6 +123,24 @@ public class SuccessfulHttpResponse {
             return this;
         }
 
+        /**
+         * @param body The body. The array is not copied and must not be modified afterward.
+         * @return builder
+         */
+        public Builder body(byte[] body) {
+            this.bodyBytes = body;
+            return this;
+        }
+
+        /**
+         * @param bodyStream The body stream, which the receiver of the response must close.
+         * @return builder
+         */
+        public Builder bodyStream(InputStream bodyStream) {
+            this.bodyStream = bodyStream;
+            return this;
+        }
+
         public SuccessfulHttpResponse build() {
             return new SuccessfulHttpResponse(this);
         }
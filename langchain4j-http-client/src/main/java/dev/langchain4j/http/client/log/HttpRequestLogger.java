@@ -29,12 +29,17 @@ class HttpRequestLogger {
                             - headers: {}
                             - body: {}
                             """,
-                    httpRequest.method(), httpRequest.url(), format(httpRequest.headers()), httpRequest.body());
+                    httpRequest.method(), httpRequest.url(), format(httpRequest.headers()), body(httpRequest));
         } catch (Exception e) {
             log.warn("Exception occurred while logging HTTP request: {}", e.getMessage());
         }
     }
 
+    private static String body(HttpRequest httpRequest) {
+        // a body stream is not read just for logging, it could be large or expensive to obtain
+        return httpRequest.bodyStream() != null ? "[stream]" : httpRequest.body();
+    }
+
     static String format(Map<String, List<String>> headers) {
         return headers.entrySet().stream()
                 .map(header -> format(header.getKey(), header.getValue()))
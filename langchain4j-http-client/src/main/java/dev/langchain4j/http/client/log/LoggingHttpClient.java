@@ -45,6 +45,22 @@ public class LoggingHttpClient implements HttpClient {
         return response;
     }
 
+    @Override
+    public SuccessfulHttpResponse executeWithBodyStream(HttpRequest request) throws HttpException {
+
+        if (logRequests) {
+            HttpRequestLogger.log(log, request);
+        }
+
+        SuccessfulHttpResponse response = delegateHttpClient.executeWithBodyStream(request);
+
+        if (logResponses) {
+            HttpResponseLogger.log(log, response); // the body stream is left to the caller
+        }
+
+        return response;
+    }
+
     @Override
     public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener delegateListener) {
 
@@ -2,6 +2,18 @@ package dev.langchain4j.http.client.sse;
 
 import dev.langchain4j.Experimental;
 
+/**
+ * A server-sent event.
+ *
+ * @param event the event type, or {@code null} if the event has no {@code event} field
+ * @param data  the event data
+ * @param id    the last event ID, or {@code null} if no {@code id} field has been received
+ *              or if the parser does not support it
+ */
 @Experimental
-public record ServerSentEvent(String event, String data) {
+public record ServerSentEvent(String event, String data, String id) {
+
+    public ServerSentEvent(String event, String data) {
+        this(event, data, null);
+    }
 }
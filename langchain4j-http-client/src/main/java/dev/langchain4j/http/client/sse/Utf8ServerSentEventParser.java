@@ -0,0 +1,222 @@
+package dev.langchain4j.http.client.sse;
+
+import dev.langchain4j.Experimental;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A {@link ServerSentEventParser} that scans the raw bytes of the response body,
+ * without splitting it into lines of {@code String}s.
+ * <p>
+ * The body is read through a single buffer, and the values of {@code data} fields are accumulated as bytes.
+ * The data of an event is decoded (always as UTF-8, as required by the specification) only once,
+ * when the event is dispatched.
+ * <p>
+ * Parsing follows the <a href="https://html.spec.whatwg.org/multipage/server-sent-events.html#event-stream-interpretation">specification</a>:
+ * <ul>
+ *     <li>lines can be terminated by {@code \n}, {@code \r} or {@code \r\n}</li>
+ *     <li>lines starting with {@code :} are comments and are ignored</li>
+ *     <li>a single space after the colon is removed from the value, any other whitespace is preserved</li>
+ *     <li>the {@code id} field sets the last event ID, which is reported in {@link ServerSentEvent#id()}
+ *     of this and all following events; an {@code id} containing a NULL character is ignored</li>
+ *     <li>the {@code retry} field and unknown fields are ignored, since the HTTP clients do not reconnect</li>
+ *     <li>an event with an empty {@code data} field is dispatched, with an empty string as data</li>
+ * </ul>
+ * As with {@link DefaultServerSentEventParser}, an event that is not followed by an empty line
+ * at the end of the stream is still dispatched.
+ */
+@Experimental
+public class Utf8ServerSentEventParser implements ServerSentEventParser {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final byte[] DATA = {'d', 'a', 't', 'a'};
+    private static final byte[] EVENT = {'e', 'v', 'e', 'n', 't'};
+    private static final byte[] ID = {'i', 'd'};
+
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+    private static final byte COLON = ':';
+    private static final byte SPACE = ' ';
+
+    @Override
+    public void parse(InputStream httpResponseBody, ServerSentEventListener listener) {
+        try (InputStream inputStream = httpResponseBody) {
+            new EventStream(listener).read(inputStream);
+        } catch (IOException e) {
+            listener.onError(e);
+        }
+    }
+
+    /**
+     * The state of a single parsed stream. Not thread-safe.
+     */
+    private static class EventStream {
+
+        private final ServerSentEventListener listener;
+
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+
+        // the beginning of a line that did not fit in the buffer
+        private byte[] line = new byte[256];
+        private int lineLength;
+
+        private byte[] data = new byte[1024];
+        private int dataLength;
+        private boolean hasData;
+
+        private String eventType;
+        private String lastEventId;
+
+        private boolean skipLineFeed;
+        private boolean firstLine = true;
+
+        EventStream(ServerSentEventListener listener) {
+            this.listener = listener;
+        }
+
+        void read(InputStream inputStream) throws IOException {
+            int read;
+            while ((read = inputStream.read(buffer, 0, buffer.length)) != -1) {
+                scan(read);
+            }
+
+            if (lineLength > 0) {
+                processLine(line, 0, lineLength);
+                lineLength = 0;
+            }
+            dispatch();
+        }
+
+        private void scan(int length) {
+            int lineStart = 0;
+            int i = 0;
+
+            if (skipLineFeed && length > 0) {
+                skipLineFeed = false;
+                if (buffer[0] == LF) {
+                    lineStart = i = 1;
+                }
+            }
+
+            for (; i < length; i++) {
+                byte b = buffer[i];
+                if (b != LF && b != CR) {
+                    continue;
+                }
+
+                if (lineLength > 0) {
+                    appendToLine(lineStart, i);
+                    processLine(line, 0, lineLength);
+                    lineLength = 0;
+                } else {
+                    processLine(buffer, lineStart, i);
+                }
+
+                if (b == CR) {
+                    if (i + 1 < length) {
+                        if (buffer[i + 1] == LF) {
+                            i++;
+                        }
+                    } else {
+                        skipLineFeed = true;
+                    }
+                }
+                lineStart = i + 1;
+            }
+
+            if (lineStart < length) {
+                appendToLine(lineStart, length);
+            }
+        }
+
+        private void appendToLine(int from, int to) {
+            int length = to - from;
+            if (lineLength + length > line.length) {
+                line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+            }
+            System.arraycopy(buffer, from, line, lineLength, length);
+            lineLength += length;
+        }
+
+        private void processLine(byte[] bytes, int from, int to) {
+
+            if (firstLine) {
+                firstLine = false;
+                if (to - from >= 3 && bytes[from] == (byte) 0xEF && bytes[from + 1] == (byte) 0xBB && bytes[from + 2] == (byte) 0xBF) {
+                    from += 3; // byte order mark
+                }
+            }
+
+            if (from == to) {
+                dispatch();
+                return;
+            }
+
+            if (bytes[from] == COLON) {
+                return; // comment
+            }
+
+            int nameEnd = from;
+            while (nameEnd < to && bytes[nameEnd] != COLON) {
+                nameEnd++;
+            }
+
+            int valueStart = Math.min(nameEnd + 1, to);
+            if (valueStart < to && bytes[valueStart] == SPACE) {
+                valueStart++;
+            }
+
+            if (nameEquals(bytes, from, nameEnd, DATA)) {
+                appendData(bytes, valueStart, to);
+            } else if (nameEquals(bytes, from, nameEnd, EVENT)) {
+                eventType = new String(bytes, valueStart, to - valueStart, UTF_8);
+            } else if (nameEquals(bytes, from, nameEnd, ID)) {
+                if (indexOf(bytes, valueStart, to, (byte) 0) < 0) {
+                    lastEventId = new String(bytes, valueStart, to - valueStart, UTF_8);
+                }
+            }
+        }
+
+        private void appendData(byte[] bytes, int from, int to) {
+            int length = to - from;
+            int separatorLength = hasData ? 1 : 0;
+            if (dataLength + separatorLength + length > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, dataLength + separatorLength + length));
+            }
+            if (hasData) {
+                data[dataLength++] = LF;
+            }
+            System.arraycopy(bytes, from, data, dataLength, length);
+            dataLength += length;
+            hasData = true;
+        }
+
+        private void dispatch() {
+            if (hasData) {
+                String eventData = new String(data, 0, dataLength, UTF_8);
+                listener.onEvent(new ServerSentEvent(eventType, eventData, lastEventId));
+            }
+            eventType = null;
+            dataLength = 0;
+            hasData = false;
+        }
+
+        private static boolean nameEquals(byte[] bytes, int from, int to, byte[] name) {
+            return Arrays.equals(bytes, from, to, name, 0, name.length);
+        }
+
+        private static int indexOf(byte[] bytes, int from, int to, byte b) {
+            for (int i = from; i < to; i++) {
+                if (bytes[i] == b) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
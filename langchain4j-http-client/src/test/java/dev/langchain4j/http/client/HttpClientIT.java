@@ -1,6 +1,7 @@
 package dev.langchain4j.http.client;
 
 import static dev.langchain4j.http.client.HttpMethod.POST;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.synchronizedList;
 import static java.util.Collections.synchronizedSet;
 import static java.util.stream.Collectors.joining;
@@ -16,6 +17,8 @@ import dev.langchain4j.exception.HttpException;
 import dev.langchain4j.http.client.sse.DefaultServerSentEventParser;
 import dev.langchain4j.http.client.sse.ServerSentEvent;
 import dev.langchain4j.http.client.sse.ServerSentEventListener;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -69,6 +72,46 @@ public abstract class HttpClientIT {
         }
     }
 
+    @Test
+    void should_return_successful_http_response_with_body_stream_sync() throws Exception {
+
+        for (HttpClient client : clients()) {
+
+            // given
+            byte[] body =
+                    """
+                    {
+                        "model": "gpt-4o-mini",
+                        "messages": [
+                            {
+                                "role" : "user",
+                                "content" : "What is the capital of Germany?"
+                            }
+                        ]
+                    }
+                    """
+                            .getBytes(UTF_8);
+
+            HttpRequest request = HttpRequest.builder()
+                    .method(POST)
+                    .url("https://api.openai.com/v1/chat/completions")
+                    .addHeader("Authorization", "Bearer " + OPENAI_API_KEY)
+                    .addHeader("Content-Type", "application/json")
+                    .bodyStream(() -> new ByteArrayInputStream(body))
+                    .build();
+
+            // when
+            SuccessfulHttpResponse response = client.executeWithBodyStream(request);
+
+            // then
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.headers()).isNotEmpty();
+            try (InputStream bodyStream = response.bodyStream()) {
+                assertThat(new String(bodyStream.readAllBytes(), UTF_8)).contains("Berlin");
+            }
+        }
+    }
+
     @Test
     void should_throw_400_sync() {
 
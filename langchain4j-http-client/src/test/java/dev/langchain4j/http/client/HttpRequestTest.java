@@ -5,11 +5,15 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
 import static dev.langchain4j.http.client.HttpMethod.GET;
+import static dev.langchain4j.http.client.HttpMethod.POST;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
@@ -226,4 +230,74 @@ class HttpRequestTest {
         assertThat(builder.build().headers())
                 .containsEntry("Accept", List.of("text/plain"));
     }
+
+    @Test
+    void should_return_body_given_in_any_form() {
+
+        byte[] bytes = "Hello, 世界".getBytes(UTF_8);
+
+        for (HttpRequest request : List.of(
+                HttpRequest.builder().method(POST).url("http://example.com").body("Hello, 世界").build(),
+                HttpRequest.builder().method(POST).url("http://example.com").body(bytes).build(),
+                HttpRequest.builder().method(POST).url("http://example.com").body(ByteBuffer.wrap(bytes)).build(),
+                HttpRequest.builder().method(POST).url("http://example.com")
+                        .bodyStream(() -> new ByteArrayInputStream(bytes)).build())) {
+
+            assertThat(request.body()).isEqualTo("Hello, 世界");
+            assertThat(request.bodyBytes()).isEqualTo(bytes);
+        }
+    }
+
+    @Test
+    void should_not_copy_body_bytes() {
+
+        // given
+        byte[] bytes = "Hello".getBytes(UTF_8);
+
+        // when
+        HttpRequest request = HttpRequest.builder()
+                .method(POST)
+                .url("http://example.com")
+                .body(ByteBuffer.wrap(bytes))
+                .build();
+
+        // then
+        assertThat(request.bodyBytes()).isSameAs(bytes);
+        assertThat(request.bodyStream()).isNull();
+    }
+
+    @Test
+    void should_copy_only_remaining_bytes_of_byte_buffer() {
+
+        // given
+        ByteBuffer buffer = ByteBuffer.wrap("Hello, World".getBytes(UTF_8));
+        buffer.position(7);
+
+        // when
+        HttpRequest request = HttpRequest.builder()
+                .method(POST)
+                .url("http://example.com")
+                .body(buffer)
+                .build();
+
+        // then
+        assertThat(request.body()).isEqualTo("World");
+        assertThat(buffer.position()).isEqualTo(7);
+    }
+
+    @Test
+    void should_replace_body_when_set_multiple_times() {
+
+        // when
+        HttpRequest request = HttpRequest.builder()
+                .method(POST)
+                .url("http://example.com")
+                .bodyStream(() -> new ByteArrayInputStream(new byte[]{1, 2, 3}))
+                .body("text")
+                .build();
+
+        // then
+        assertThat(request.bodyStream()).isNull();
+        assertThat(request.body()).isEqualTo("text");
+    }
 }
@@ -0,0 +1,47 @@
+package dev.langchain4j.http.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuccessfulHttpResponseTest {
+
+    @Test
+    void should_decode_body_bytes_as_utf8_by_default() {
+
+        // given
+        byte[] bytes = "{\"text\": \"你好\"}".getBytes(UTF_8);
+
+        // when
+        SuccessfulHttpResponse response = SuccessfulHttpResponse.builder()
+                .statusCode(200)
+                .headers(Map.of("content-type", List.of("application/json")))
+                .body(bytes)
+                .build();
+
+        // then
+        assertThat(response.body()).isEqualTo("{\"text\": \"你好\"}");
+        assertThat(response.bodyBytes()).isSameAs(bytes);
+        assertThat(response.bodyBuffer().isReadOnly()).isTrue();
+        assertThat(response.bodyBuffer().remaining()).isEqualTo(bytes.length);
+    }
+
+    @Test
+    void should_decode_body_bytes_with_charset_of_content_type() {
+
+        // when
+        SuccessfulHttpResponse response = SuccessfulHttpResponse.builder()
+                .statusCode(200)
+                .headers(Map.of("Content-Type", List.of("text/plain; charset=\"ISO-8859-1\"")))
+                .body("café".getBytes(ISO_8859_1))
+                .build();
+
+        // then
+        assertThat(response.body()).isEqualTo("café");
+    }
+}
@@ -0,0 +1,186 @@
+package dev.langchain4j.http.client.sse;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class Utf8ServerSentEventParserTest {
+
+    private final ServerSentEventParser parser = new Utf8ServerSentEventParser();
+
+    @Test
+    void should_parse_single_line_event_regardless_of_surrounding_empty_lines() {
+
+        for (String input : List.of(
+                "data: Simple message",
+                "data: Simple message\n",
+                "\ndata: Simple message",
+                "\n\ndata: Simple message\n\n")) {
+
+            assertThat(parse(input)).containsExactly(new ServerSentEvent(null, "Simple message"));
+        }
+    }
+
+    @Test
+    void should_parse_all_line_endings() {
+
+        for (String lineEnding : List.of("\n", "\r", "\r\n")) {
+
+            String input = "event: first\ndata: line 1\ndata: line 2\n\ndata: second\n\n".replace("\n", lineEnding);
+
+            assertThat(parse(input))
+                    .containsExactly(
+                            new ServerSentEvent("first", "line 1\nline 2"), new ServerSentEvent(null, "second"));
+        }
+    }
+
+    @Test
+    void should_parse_event_with_all_fields() {
+
+        String input = "id: msg-123\nevent: custom-event\ndata: Message content\nretry: 5000\n\n";
+
+        assertThat(parse(input)).containsExactly(new ServerSentEvent("custom-event", "Message content", "msg-123"));
+    }
+
+    @Test
+    void should_keep_last_event_id_for_following_events() {
+
+        String input = "id: 1\ndata: first\n\ndata: second\n\nid\ndata: third\n\nid: a\u0000b\ndata: fourth\n\n";
+
+        assertThat(parse(input))
+                .containsExactly(
+                        new ServerSentEvent(null, "first", "1"),
+                        new ServerSentEvent(null, "second", "1"),
+                        new ServerSentEvent(null, "third", ""),
+                        new ServerSentEvent(null, "fourth", ""));
+    }
+
+    @Test
+    void should_ignore_comments_unknown_fields_and_events_without_data() {
+
+        String input = ": comment\n\nevent: ping\n\nfoo: bar\nretry: 10\ndata: actual message\n\n";
+
+        assertThat(parse(input)).containsExactly(new ServerSentEvent(null, "actual message"));
+    }
+
+    @Test
+    void should_remove_only_one_leading_space() {
+
+        String input = "data:no space\n\ndata:   three spaces \n\ndata\n\n";
+
+        assertThat(parse(input))
+                .containsExactly(
+                        new ServerSentEvent(null, "no space"),
+                        new ServerSentEvent(null, "  three spaces "),
+                        new ServerSentEvent(null, ""));
+    }
+
+    @Test
+    void should_skip_byte_order_mark() {
+
+        String input = "\uFEFFdata: message\n\n";
+
+        assertThat(parse(input)).containsExactly(new ServerSentEvent(null, "message"));
+    }
+
+    @Test
+    void should_parse_stream_delivered_one_byte_at_a_time() {
+
+        String longText = "x".repeat(20_000);
+        String input = "event: événement\r\ndata: {\"text\": \"你好 😀\"}\r\n\r\n"
+                + "data: " + longText + "\r\n\r\n";
+
+        List<ServerSentEvent> events = new ArrayList<>();
+        parser.parse(new OneByteAtATimeInputStream(input.getBytes(UTF_8)), listener(events));
+
+        assertThat(events)
+                .containsExactly(
+                        new ServerSentEvent("événement", "{\"text\": \"你好 😀\"}"),
+                        new ServerSentEvent(null, longText));
+    }
+
+    @Test
+    void should_produce_same_events_as_default_parser() {
+
+        String input = "event: message_start\n"
+                + "data: {\"type\": \"message_start\"}\n\n"
+                + ": keep-alive\n\n"
+                + "data: {\"choices\": [{\"delta\": {\"content\": \"Hello\"}}]}\n\n"
+                + "data: first\ndata: second\n\n"
+                + "data: [DONE]\n\n";
+
+        List<ServerSentEvent> expected = new ArrayList<>();
+        new DefaultServerSentEventParser()
+                .parse(new ByteArrayInputStream(input.getBytes(UTF_8)), listener(expected));
+
+        assertThat(parse(input)).isEqualTo(expected);
+    }
+
+    @Test
+    void should_report_io_exception() throws IOException {
+
+        InputStream inputStream = mock(InputStream.class);
+        IOException exception = new IOException("Simulated IO exception");
+        when(inputStream.read(any(byte[].class), anyInt(), anyInt())).thenThrow(exception);
+
+        List<Throwable> errors = new ArrayList<>();
+        parser.parse(inputStream, new ServerSentEventListener() {
+
+            @Override
+            public void onEvent(ServerSentEvent event) {
+                throw new AssertionError("unexpected event: " + event);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                errors.add(throwable);
+            }
+        });
+
+        assertThat(errors).containsExactly(exception);
+    }
+
+    private List<ServerSentEvent> parse(String input) {
+        List<ServerSentEvent> events = new ArrayList<>();
+        parser.parse(new ByteArrayInputStream(input.getBytes(UTF_8)), listener(events));
+        return events;
+    }
+
+    private static ServerSentEventListener listener(List<ServerSentEvent> events) {
+        return new ServerSentEventListener() {
+
+            @Override
+            public void onEvent(ServerSentEvent event) {
+                events.add(event);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                throw new AssertionError(throwable);
+            }
+        };
+    }
+
+    private static class OneByteAtATimeInputStream extends FilterInputStream {
+
+        OneByteAtATimeInputStream(byte[] bytes) {
+            super(new ByteArrayInputStream(bytes));
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return super.read(b, off, Math.min(len, 1));
+        }
+    }
+}
@@ -1,52 +1,91 @@
 package dev.langchain4j.mcp;
 
 import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.internal.Utils;
 import dev.langchain4j.mcp.client.McpClient;
 import dev.langchain4j.service.tool.ToolProvider;
 import dev.langchain4j.service.tool.ToolProviderRequest;
 import dev.langchain4j.service.tool.ToolProviderResult;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A tool provider backed by one or more MCP clients.
+ * The tools are listed from all the MCP clients in parallel.
  */
 public class McpToolProvider implements ToolProvider {
 
     private final List<McpClient> mcpClients;
     private final boolean failIfOneServerFails;
+    private final Duration toolListTimeout;
+    private final Executor executor;
     private static final Logger log = LoggerFactory.getLogger(McpToolProvider.class);
 
     private McpToolProvider(Builder builder) {
         this.mcpClients = new ArrayList<>(builder.mcpClients);
         this.failIfOneServerFails = Utils.getOrDefault(builder.failIfOneServerFails, false);
+        this.toolListTimeout = Utils.getOrDefault(builder.toolListTimeout, Duration.ofSeconds(60));
+        this.executor = Utils.getOrDefault(builder.executor, DefaultExecutorProvider::getDefaultExecutor);
     }
 
     @Override
     public ToolProviderResult provideTools(final ToolProviderRequest request) {
-        ToolProviderResult.Builder builder = ToolProviderResult.builder();
+        List<CompletableFuture<List<ToolSpecification>>> toolLists = new ArrayList<>(mcpClients.size());
         for (McpClient mcpClient : mcpClients) {
-            try {
-                List<ToolSpecification> toolSpecifications = mcpClient.listTools();
+            toolLists.add(CompletableFuture.supplyAsync(mcpClient::listTools, executor));
+        }
+
+        ToolProviderResult.Builder builder = ToolProviderResult.builder();
+        long timeoutNanos = toolListTimeout.isZero() ? Long.MAX_VALUE : toolListTimeout.toNanos();
+        long startTime = System.nanoTime();
+        try {
+            for (int i = 0; i < mcpClients.size(); i++) {
+                List<ToolSpecification> toolSpecifications;
+                try {
+                    long remainingNanos = Math.max(0, timeoutNanos - (System.nanoTime() - startTime));
+                    toolSpecifications = toolLists.get(i).get(remainingNanos, TimeUnit.NANOSECONDS);
+                } catch (ExecutionException e) {
+                    handleFailure(e.getCause());
+                    continue;
+                } catch (TimeoutException e) {
+                    toolLists.get(i).cancel(true);
+                    handleFailure(e);
+                    continue;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+                McpClient mcpClient = mcpClients.get(i);
                 for (ToolSpecification toolSpecification : toolSpecifications) {
                     builder.add(
                             toolSpecification, (executionRequest, memoryId) -> mcpClient.executeTool(executionRequest));
                 }
-            } catch (Exception e) {
-                if (failIfOneServerFails) {
-                    throw new RuntimeException("Failed to retrieve tools from MCP server", e);
-                } else {
-                    log.warn("Failed to retrieve tools from MCP server", e);
-                }
             }
+        } catch (RuntimeException e) {
+            toolLists.forEach(toolList -> toolList.cancel(true));
+            throw e;
         }
         return builder.build();
     }
 
+    private void handleFailure(Throwable e) {
+        if (failIfOneServerFails) {
+            throw new RuntimeException("Failed to retrieve tools from MCP server", e);
+        } else {
+            log.warn("Failed to retrieve tools from MCP server", e);
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -55,6 +94,8 @@ public class McpToolProvider implements ToolProvider {
 
         private List<McpClient> mcpClients;
         private Boolean failIfOneServerFails;
+        private Duration toolListTimeout;
+        private Executor executor;
 
         /**
          * The list of MCP clients to use for retrieving tools.
@@ -75,12 +116,33 @@ public class McpToolProvider implements ToolProvider {
         /**
          * If this is true, then the tool provider will throw an exception if it fails to list tools from any of the servers.
          * If this is false (default), then the tool provider will ignore the error and continue with the next server.
+         * A server that does not list its tools within the {@link #toolListTimeout(Duration)} is considered as failed.
          */
         public McpToolProvider.Builder failIfOneServerFails(boolean failIfOneServerFails) {
             this.failIfOneServerFails = failIfOneServerFails;
             return this;
         }
 
+        /**
+         * Sets the timeout for listing tools from all the servers, which are queried in parallel.
+         * The default value is 60 seconds.
+         * A value of zero means no timeout.
+         */
+        public McpToolProvider.Builder toolListTimeout(Duration toolListTimeout) {
+            this.toolListTimeout = toolListTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the executor used to list tools from the servers in parallel.
+         * By default, the executor shared by all components is used:
+         * virtual threads if available, otherwise a cached pool of daemon threads.
+         */
+        public McpToolProvider.Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public McpToolProvider build() {
             return new McpToolProvider(this);
         }
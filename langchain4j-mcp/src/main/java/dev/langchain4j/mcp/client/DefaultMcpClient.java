@@ -2,6 +2,7 @@ package dev.langchain4j.mcp.client;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Collections.unmodifiableList;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -38,9 +39,12 @@ import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-// TODO: currently we request a new list of tools every time, so we should
-// add support for the `ToolListChangedNotification` message, and then we can
-// cache the list
+/**
+ * The list of tools is cached, until the server notifies that it has changed
+ * ({@code notifications/tools/list_changed}) or {@link #evictToolListCache()} is called.
+ * Caching can be disabled with {@link Builder#cacheToolList(boolean)},
+ * for servers that change their tools without sending the notification.
+ */
 public class DefaultMcpClient implements McpClient {
 
     private static final Logger log = LoggerFactory.getLogger(DefaultMcpClient.class);
@@ -53,6 +57,7 @@ public class DefaultMcpClient implements McpClient {
     private final Duration toolExecutionTimeout;
     private final Duration resourcesTimeout;
     private final Duration promptsTimeout;
+    private final boolean cacheToolList;
     private final JsonNode RESULT_TIMEOUT;
     private final String toolExecutionTimeoutErrorMessage;
     private final Map<Long, CompletableFuture<JsonNode>> pendingOperations = new ConcurrentHashMap<>();
@@ -61,6 +66,8 @@ public class DefaultMcpClient implements McpClient {
     private final AtomicReference<List<McpResource>> resourceRefs = new AtomicReference<>();
     private final AtomicReference<List<McpResourceTemplate>> resourceTemplateRefs = new AtomicReference<>();
     private final AtomicReference<List<McpPrompt>> promptRefs = new AtomicReference<>();
+    private final AtomicReference<ToolList> toolListRef = new AtomicReference<>();
+    private final AtomicLong toolListVersion = new AtomicLong(0);
 
     public DefaultMcpClient(Builder builder) {
         transport = ensureNotNull(builder.transport, "transport");
@@ -70,11 +77,13 @@ public class DefaultMcpClient implements McpClient {
         toolExecutionTimeout = getOrDefault(builder.toolExecutionTimeout, Duration.ofSeconds(60));
         resourcesTimeout = getOrDefault(builder.resourcesTimeout, Duration.ofSeconds(60));
         promptsTimeout = getOrDefault(builder.promptsTimeout, Duration.ofSeconds(60));
+        cacheToolList = getOrDefault(builder.cacheToolList, true);
         logHandler = getOrDefault(builder.logHandler, new DefaultMcpLogMessageHandler());
         toolExecutionTimeoutErrorMessage =
                 getOrDefault(builder.toolExecutionTimeoutErrorMessage, "There was a timeout executing the tool");
         RESULT_TIMEOUT = JsonNodeFactory.instance.objectNode();
-        messageHandler = new McpOperationHandler(pendingOperations, transport, logHandler::handleLogMessage);
+        messageHandler = new McpOperationHandler(
+                pendingOperations, transport, logHandler::handleLogMessage, toolListVersion::incrementAndGet);
         ((ObjectNode) RESULT_TIMEOUT)
                 .putObject("result")
                 .putArray("content")
@@ -120,19 +129,55 @@ public class DefaultMcpClient implements McpClient {
 
     @Override
     public List<ToolSpecification> listTools() {
+        ToolList toolList = toolListRef.get();
+        if (!cacheToolList || toolList == null || toolList.version != toolListVersion.get()) {
+            toolList = obtainToolList();
+        }
+        return toolList.toolSpecifications;
+    }
+
+    /**
+     * Discards the cached list of tools, so that the next {@link #listTools()} obtains it from the server again.
+     */
+    public void evictToolListCache() {
+        toolListVersion.incrementAndGet();
+    }
+
+    private synchronized ToolList obtainToolList() {
+        ToolList toolList = toolListRef.get();
+        // the version is read before sending the request, so that a change notified
+        // while the request is in progress invalidates the obtained list
+        long version = toolListVersion.get();
+        if (cacheToolList && toolList != null && toolList.version == version) {
+            return toolList;
+        }
         McpListToolsRequest operation = new McpListToolsRequest(idGenerator.getAndIncrement());
+        long timeoutMillis = toolExecutionTimeout.toMillis() == 0 ? Integer.MAX_VALUE : toolExecutionTimeout.toMillis();
         CompletableFuture<JsonNode> resultFuture = transport.executeOperationWithResponse(operation);
         JsonNode result = null;
         try {
-            result = resultFuture.get();
-        } catch (InterruptedException | ExecutionException e) {
+            result = resultFuture.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // this method holds the client's lock, so it must never wait for an unresponsive server forever
+            resultFuture.cancel(true);
+            transport.executeOperationWithoutResponse(new CancellationNotification(operation.getId(), "Timeout"));
+            throw new RuntimeException(e);
+        } catch (InterruptedException e) {
+            resultFuture.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
             throw new RuntimeException(e);
         } finally {
             pendingOperations.remove(operation.getId());
         }
 
-        return ToolSpecificationHelper.toolSpecificationListFromMcpResponse(
-                (ArrayNode) result.get("result").get("tools"));
+        toolList = new ToolList(
+                version,
+                unmodifiableList(ToolSpecificationHelper.toolSpecificationListFromMcpResponse(
+                        (ArrayNode) result.get("result").get("tools"))));
+        toolListRef.set(toolList);
+        return toolList;
     }
 
     @Override
@@ -288,6 +333,17 @@ public class DefaultMcpClient implements McpClient {
         }
     }
 
+    private static class ToolList {
+
+        private final long version;
+        private final List<ToolSpecification> toolSpecifications;
+
+        private ToolList(long version, List<ToolSpecification> toolSpecifications) {
+            this.version = version;
+            this.toolSpecifications = toolSpecifications;
+        }
+    }
+
     public static class Builder {
 
         private String toolExecutionTimeoutErrorMessage;
@@ -299,6 +355,7 @@ public class DefaultMcpClient implements McpClient {
         private Duration resourcesTimeout;
         private Duration promptsTimeout;
         private McpLogMessageHandler logHandler;
+        private Boolean cacheToolList;
 
         public Builder transport(McpTransport transport) {
             this.transport = transport;
@@ -338,7 +395,7 @@ public class DefaultMcpClient implements McpClient {
 
         /**
          * Sets the timeout for tool execution.
-         * This value applies to each tool execution individually.
+         * This value applies to each tool execution individually, and to obtaining the list of tools.
          * The default value is 60 seconds.
          * A value of zero means no timeout.
          */
@@ -347,6 +404,17 @@ public class DefaultMcpClient implements McpClient {
             return this;
         }
 
+        /**
+         * Sets whether the list of tools is cached until the server notifies that it has changed
+         * ({@code notifications/tools/list_changed}).
+         * Disable it for servers that change their tools without sending this notification.
+         * The default value is {@code true}.
+         */
+        public Builder cacheToolList(boolean cacheToolList) {
+            this.cacheToolList = cacheToolList;
+            return this;
+        }
+
         /**
          * Sets the timeout for resource-related operations (listing resources as well as reading the contents of a resource).
          * The default value is 60 seconds.
@@ -14,6 +14,8 @@ import org.slf4j.LoggerFactory;
  * should call the "handle" method on each received message. A transport also has
  * to call "startOperation" when before starting an operation that requires a response
  * to register its ID in the map of pending operations.
+ * Notifications that the list of tools has changed are passed to the
+ * optional tool list change listener.
  */
 public class McpOperationHandler {
 
@@ -21,14 +23,24 @@ public class McpOperationHandler {
     private static final Logger log = LoggerFactory.getLogger(McpOperationHandler.class);
     private final McpTransport transport;
     private final Consumer<McpLogMessage> logMessageConsumer;
+    private final Runnable toolListChangeListener;
 
     public McpOperationHandler(
             Map<Long, CompletableFuture<JsonNode>> pendingOperations,
             McpTransport transport,
             Consumer<McpLogMessage> logMessageConsumer) {
+        this(pendingOperations, transport, logMessageConsumer, null);
+    }
+
+    public McpOperationHandler(
+            Map<Long, CompletableFuture<JsonNode>> pendingOperations,
+            McpTransport transport,
+            Consumer<McpLogMessage> logMessageConsumer,
+            Runnable toolListChangeListener) {
         this.pendingOperations = pendingOperations;
         this.transport = transport;
         this.logMessageConsumer = logMessageConsumer;
+        this.toolListChangeListener = toolListChangeListener;
     }
 
     public void handle(JsonNode message) {
@@ -56,6 +68,12 @@ public class McpOperationHandler {
             } else {
                 log.warn("Received log message without params: {}", message);
             }
+        } else if (message.has("method")
+                && message.get("method").asText().equals("notifications/tools/list_changed")) {
+            log.debug("Received notification that the list of tools has changed");
+            if (toolListChangeListener != null) {
+                toolListChangeListener.run();
+            }
         } else {
             log.warn("Received unknown message: {}", message);
         }
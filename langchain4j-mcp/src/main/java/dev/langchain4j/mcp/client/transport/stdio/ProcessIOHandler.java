@@ -1,39 +1,69 @@
 package dev.langchain4j.mcp.client.transport.stdio;
 
+import static com.fasterxml.jackson.databind.SerializationFeature.FLUSH_AFTER_WRITE_VALUE;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import dev.langchain4j.mcp.client.transport.McpOperationHandler;
-import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.PrintStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Reads the messages sent by the process (see {@link #run()}) and writes the messages submitted
+ * to the process on a single writer thread.
+ * <p>
+ * Submitting a message only adds it to a lock-free queue.
+ * The writer thread serializes all the queued messages straight to bytes, one JSON message per line,
+ * and writes and flushes them to the process together.
+ * Messages sent by the process are parsed as a stream of JSON values straight from its output.
+ */
 class ProcessIOHandler implements Runnable {
 
-    private final Process process;
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectReader MESSAGE_READER = OBJECT_MAPPER.readerFor(JsonNode.class);
+    private static final ObjectWriter MESSAGE_WRITER = OBJECT_MAPPER.writer().without(FLUSH_AFTER_WRITE_VALUE);
+    private static final int MAX_BATCH_SIZE_BYTES = 64 * 1024;
     private static final Logger log = LoggerFactory.getLogger(ProcessIOHandler.class);
+
+    private final Process process;
     private final boolean logEvents;
     private final McpOperationHandler messageHandler;
-    private final PrintStream out;
+    private final OutputStream out;
+    private final Queue<PendingMessage> pendingMessages = new ConcurrentLinkedQueue<>();
+    private final Thread writerThread;
+    private volatile boolean closed;
 
     public ProcessIOHandler(Process process, McpOperationHandler messageHandler, boolean logEvents) {
         this.process = process;
         this.logEvents = logEvents;
         this.messageHandler = messageHandler;
-        this.out = new PrintStream(process.getOutputStream(), true);
+        this.out = process.getOutputStream();
+        this.writerThread = new Thread(this::writeMessages, "mcp-stdio-writer-" + process.pid());
+        this.writerThread.setDaemon(true);
     }
 
     @Override
     public void run() {
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
+        try (MappingIterator<JsonNode> messages = MESSAGE_READER.readValues(process.getInputStream())) {
+            while (messages.hasNextValue()) {
+                JsonNode message = messages.nextValue();
                 if (logEvents) {
-                    log.debug("< {}", line);
+                    log.debug("< {}", message);
                 }
-                messageHandler.handle(OBJECT_MAPPER.readTree(line));
+                messageHandler.handle(message);
             }
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -41,10 +71,129 @@ class ProcessIOHandler implements Runnable {
         log.debug("ProcessIOHandler has finished reading output from process with PID = {}", process.pid());
     }
 
-    public void submit(String message) throws IOException {
-        if (logEvents) {
-            log.debug("> {}", message);
+    void startWriter() {
+        writerThread.start();
+    }
+
+    /**
+     * Queues a message to be written to the process.
+     *
+     * @param message           the message to write
+     * @param future            completed exceptionally if the message cannot be written
+     * @param completeOnWritten whether to complete the future (with null) once the message is written,
+     *                          for messages that do not expect a response
+     */
+    public void submit(Object message, CompletableFuture<JsonNode> future, boolean completeOnWritten) {
+        if (closed) {
+            future.completeExceptionally(new IOException("The transport is closed"));
+            return;
+        }
+        pendingMessages.add(new PendingMessage(message, future, completeOnWritten));
+        if (closed) {
+            // closed in the meantime, the writer thread might not write this message anymore
+            failPendingMessages();
+        } else {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    void close() {
+        closed = true;
+        LockSupport.unpark(writerThread);
+    }
+
+    private void writeMessages() {
+        Batch batch = new Batch();
+        List<PendingMessage> batchMessages = new ArrayList<>();
+        while (!closed) {
+            PendingMessage pendingMessage = pendingMessages.poll();
+            if (pendingMessage == null) {
+                // a message submitted in the meantime unparks this thread, so it is never missed
+                LockSupport.park(this);
+                continue;
+            }
+            do {
+                serialize(pendingMessage, batch, batchMessages);
+            } while (batch.size() < MAX_BATCH_SIZE_BYTES && (pendingMessage = pendingMessages.poll()) != null);
+            try {
+                batch.writeTo(out);
+                out.flush();
+                batchMessages.forEach(PendingMessage::written);
+            } catch (IOException e) {
+                batchMessages.forEach(message -> message.failed(e));
+            }
+            batch.reset();
+            batchMessages.clear();
+        }
+        failPendingMessages();
+    }
+
+    private void failPendingMessages() {
+        IOException closedException = new IOException("The transport is closed");
+        PendingMessage pendingMessage;
+        while ((pendingMessage = pendingMessages.poll()) != null) {
+            pendingMessage.failed(closedException);
+        }
+    }
+
+    private void serialize(PendingMessage pendingMessage, Batch batch, List<PendingMessage> batchMessages) {
+        int start = batch.size();
+        try {
+            MESSAGE_WRITER.writeValue(batch, pendingMessage.message);
+            if (logEvents) {
+                log.debug("> {}", batch.toUtf8String(start));
+            }
+            batch.write('\n');
+            batchMessages.add(pendingMessage);
+        } catch (IOException e) {
+            batch.truncate(start);
+            pendingMessage.failed(e);
+        }
+    }
+
+    private static class PendingMessage {
+
+        private final Object message;
+        private final CompletableFuture<JsonNode> future;
+        private final boolean completeOnWritten;
+
+        private PendingMessage(Object message, CompletableFuture<JsonNode> future, boolean completeOnWritten) {
+            this.message = message;
+            this.future = future;
+            this.completeOnWritten = completeOnWritten;
+        }
+
+        private void written() {
+            if (completeOnWritten) {
+                future.complete(null);
+            }
+        }
+
+        private void failed(IOException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Buffer of the serialized messages, reused for all the batches.
+     */
+    private static class Batch extends ByteArrayOutputStream {
+
+        private Batch() {
+            super(8 * 1024);
+        }
+
+        private void truncate(int size) {
+            count = size;
+        }
+
+        private String toUtf8String(int start) {
+            return new String(buf, start, count - start, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void close() {
+            // the buffer is reused, and ObjectWriter closes the stream it writes to
         }
-        out.println(message);
     }
 }
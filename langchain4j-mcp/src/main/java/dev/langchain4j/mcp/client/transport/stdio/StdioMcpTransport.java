@@ -1,8 +1,6 @@
 package dev.langchain4j.mcp.client.transport.stdio;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.langchain4j.mcp.client.protocol.InitializationNotification;
 import dev.langchain4j.mcp.client.protocol.McpClientMessage;
 import dev.langchain4j.mcp.client.protocol.McpInitializeRequest;
@@ -22,7 +20,6 @@ public class StdioMcpTransport implements McpTransport {
     private Process process;
     private ProcessIOHandler processIOHandler;
     private final boolean logEvents;
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final Logger log = LoggerFactory.getLogger(StdioMcpTransport.class);
     private volatile McpOperationHandler messageHandler;
 
@@ -48,6 +45,7 @@ public class StdioMcpTransport implements McpTransport {
             throw new RuntimeException(e);
         }
         processIOHandler = new ProcessIOHandler(process, messageHandler, logEvents);
+        processIOHandler.startWriter();
         // FIXME: where should we obtain the thread?
         new Thread(processIOHandler).start();
         new Thread(new ProcessStderrHandler(process)).start();
@@ -55,56 +53,42 @@ public class StdioMcpTransport implements McpTransport {
 
     @Override
     public CompletableFuture<JsonNode> initialize(McpInitializeRequest operation) {
-        try {
-            String requestString = OBJECT_MAPPER.writeValueAsString(operation);
-            String initializationNotification = OBJECT_MAPPER.writeValueAsString(new InitializationNotification());
-            return execute(requestString, operation.getId())
-                    .thenCompose(originalResponse -> execute(initializationNotification, null)
-                            .thenCompose(nullNode -> CompletableFuture.completedFuture(originalResponse)));
-        } catch (JsonProcessingException e) {
-            return CompletableFuture.failedFuture(e);
-        }
+        return execute(operation, operation.getId())
+                .thenCompose(originalResponse -> execute(new InitializationNotification(), null)
+                        .thenCompose(nullNode -> CompletableFuture.completedFuture(originalResponse)));
     }
 
     @Override
     public CompletableFuture<JsonNode> executeOperationWithResponse(McpClientMessage operation) {
-        try {
-            String requestString = OBJECT_MAPPER.writeValueAsString(operation);
-            return execute(requestString, operation.getId());
-        } catch (JsonProcessingException e) {
-            return CompletableFuture.failedFuture(e);
-        }
+        return execute(operation, operation.getId());
     }
 
     @Override
     public void executeOperationWithoutResponse(McpClientMessage operation) {
-        try {
-            String requestString = OBJECT_MAPPER.writeValueAsString(operation);
-            execute(requestString, null);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
+        // the message is written asynchronously, failures are only logged
+        execute(operation, null).whenComplete((ignored, e) -> {
+            if (e != null) {
+                log.warn("Failed to send message to the MCP server", e);
+            }
+        });
     }
 
     @Override
     public void close() throws IOException {
+        if (processIOHandler != null) {
+            processIOHandler.close();
+        }
         process.destroy();
     }
 
-    private CompletableFuture<JsonNode> execute(String request, Long id) {
+    private CompletableFuture<JsonNode> execute(McpClientMessage request, Long id) {
         CompletableFuture<JsonNode> future = new CompletableFuture<>();
         if (id != null) {
             messageHandler.startOperation(id, future);
         }
-        try {
-            processIOHandler.submit(request);
-            // For messages with null ID, we don't wait for a corresponding response
-            if (id == null) {
-                future.complete(null);
-            }
-        } catch (IOException e) {
-            future.completeExceptionally(e);
-        }
+        // For messages with null ID, we don't wait for a corresponding response,
+        // the future is completed as soon as the message is written
+        processIOHandler.submit(request, future, id == null);
         return future;
     }
 
@@ -0,0 +1,86 @@
+package dev.langchain4j.mcp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.mcp.client.McpClient;
+import dev.langchain4j.service.tool.ToolProviderResult;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class McpToolProviderTest {
+
+    @Test
+    void should_list_tools_from_all_clients_in_parallel() {
+        CountDownLatch latch = new CountDownLatch(2);
+        McpClient first = clientListing(latch, "first");
+        McpClient second = clientListing(latch, "second");
+
+        McpToolProvider toolProvider = McpToolProvider.builder()
+                .mcpClients(first, second)
+                .failIfOneServerFails(true)
+                .build();
+
+        // each client waits for the other one to be called, so this only succeeds if they are called in parallel
+        ToolProviderResult result = toolProvider.provideTools(null);
+
+        assertThat(result.tools().keySet())
+                .extracting(ToolSpecification::name)
+                .containsExactlyInAnyOrder("first", "second");
+    }
+
+    @Test
+    void should_ignore_client_that_does_not_list_tools_in_time() {
+        McpClient slow = clientListing(new CountDownLatch(2), "slow");
+        McpClient fast = mock(McpClient.class);
+        when(fast.listTools()).thenReturn(List.of(tool("fast")));
+
+        McpToolProvider toolProvider = McpToolProvider.builder()
+                .mcpClients(slow, fast)
+                .toolListTimeout(Duration.ofMillis(200))
+                .build();
+
+        ToolProviderResult result = toolProvider.provideTools(null);
+
+        assertThat(result.tools().keySet()).extracting(ToolSpecification::name).containsExactly("fast");
+    }
+
+    @Test
+    void should_fail_when_one_client_fails() {
+        McpClient failing = mock(McpClient.class);
+        when(failing.listTools()).thenThrow(new IllegalStateException("server is down"));
+        McpClient working = mock(McpClient.class);
+        when(working.listTools()).thenReturn(List.of(tool("working")));
+
+        McpToolProvider toolProvider = McpToolProvider.builder()
+                .mcpClients(failing, working)
+                .failIfOneServerFails(true)
+                .build();
+
+        assertThatThrownBy(() -> toolProvider.provideTools(null))
+                .hasMessage("Failed to retrieve tools from MCP server")
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private static McpClient clientListing(CountDownLatch latch, String toolName) {
+        McpClient mcpClient = mock(McpClient.class);
+        when(mcpClient.listTools()).thenAnswer(invocation -> {
+            latch.countDown();
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Not listed in parallel");
+            }
+            return List.of(tool(toolName));
+        });
+        return mcpClient;
+    }
+
+    private static ToolSpecification tool(String name) {
+        return ToolSpecification.builder().name(name).build();
+    }
+}
@@ -0,0 +1,148 @@
+package dev.langchain4j.mcp.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.mcp.client.protocol.CancellationNotification;
+import dev.langchain4j.mcp.client.protocol.McpClientMessage;
+import dev.langchain4j.mcp.client.protocol.McpInitializeRequest;
+import dev.langchain4j.mcp.client.protocol.McpListToolsRequest;
+import dev.langchain4j.mcp.client.transport.McpOperationHandler;
+import dev.langchain4j.mcp.client.transport.McpTransport;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class DefaultMcpClientToolListCacheTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    void should_cache_tools_until_list_changed_notification() {
+        ToolListingTransport transport = new ToolListingTransport();
+        McpClient mcpClient = new DefaultMcpClient.Builder().transport(transport).build();
+
+        assertThat(mcpClient.listTools()).extracting(ToolSpecification::name).containsExactly("tool_1");
+        assertThat(mcpClient.listTools()).extracting(ToolSpecification::name).containsExactly("tool_1");
+        assertThat(transport.listToolsRequests.get()).isEqualTo(1);
+
+        transport.messageHandler.handle(toJsonNode(
+                """
+                {
+                  "jsonrpc" : "2.0",
+                  "method" : "notifications/tools/list_changed"
+                }
+                """));
+
+        assertThat(mcpClient.listTools()).extracting(ToolSpecification::name).containsExactly("tool_2");
+        assertThat(mcpClient.listTools()).extracting(ToolSpecification::name).containsExactly("tool_2");
+        assertThat(transport.listToolsRequests.get()).isEqualTo(2);
+    }
+
+    @Test
+    void should_obtain_tools_again_after_eviction() {
+        ToolListingTransport transport = new ToolListingTransport();
+        DefaultMcpClient mcpClient = new DefaultMcpClient.Builder().transport(transport).build();
+
+        assertThat(mcpClient.listTools()).extracting(ToolSpecification::name).containsExactly("tool_1");
+
+        mcpClient.evictToolListCache();
+
+        assertThat(mcpClient.listTools()).extracting(ToolSpecification::name).containsExactly("tool_2");
+        assertThat(transport.listToolsRequests.get()).isEqualTo(2);
+    }
+
+    @Test
+    void should_not_cache_tools_when_disabled() {
+        ToolListingTransport transport = new ToolListingTransport();
+        McpClient mcpClient = new DefaultMcpClient.Builder()
+                .transport(transport)
+                .cacheToolList(false)
+                .build();
+
+        assertThat(mcpClient.listTools()).extracting(ToolSpecification::name).containsExactly("tool_1");
+        assertThat(mcpClient.listTools()).extracting(ToolSpecification::name).containsExactly("tool_2");
+    }
+
+    @Test
+    void should_time_out_when_server_does_not_list_tools() {
+        ToolListingTransport transport = new ToolListingTransport();
+        transport.respond = false;
+        McpClient mcpClient = new DefaultMcpClient.Builder()
+                .transport(transport)
+                .toolExecutionTimeout(Duration.ofMillis(100))
+                .build();
+
+        assertThatThrownBy(mcpClient::listTools).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(transport.lastResponse).isCancelled();
+        assertThat(transport.cancellations.get()).isEqualTo(1);
+
+        // the client is not blocked by the unanswered request
+        transport.respond = true;
+        assertThat(mcpClient.listTools()).extracting(ToolSpecification::name).containsExactly("tool_2");
+    }
+
+    private static class ToolListingTransport implements McpTransport {
+
+        private final AtomicInteger listToolsRequests = new AtomicInteger();
+        private final AtomicInteger cancellations = new AtomicInteger();
+        private McpOperationHandler messageHandler;
+        private volatile boolean respond = true;
+        private volatile CompletableFuture<JsonNode> lastResponse;
+
+        @Override
+        public void start(McpOperationHandler messageHandler) {
+            this.messageHandler = messageHandler;
+        }
+
+        @Override
+        public CompletableFuture<JsonNode> initialize(McpInitializeRequest request) {
+            return CompletableFuture.completedFuture(toJsonNode("{\"result\" : {}}"));
+        }
+
+        @Override
+        public CompletableFuture<JsonNode> executeOperationWithResponse(McpClientMessage request) {
+            assertThat(request).isInstanceOf(McpListToolsRequest.class);
+            int count = listToolsRequests.incrementAndGet();
+            if (!respond) {
+                lastResponse = new CompletableFuture<>();
+                return lastResponse;
+            }
+            return CompletableFuture.completedFuture(toJsonNode(
+                    """
+                    {
+                      "result" : {
+                        "tools" : [ {
+                          "name" : "tool_%s",
+                          "inputSchema" : { "type" : "object", "properties" : { } }
+                        } ]
+                      }
+                    }
+                    """
+                            .formatted(count)));
+        }
+
+        @Override
+        public void executeOperationWithoutResponse(McpClientMessage request) {
+            assertThat(request).isInstanceOf(CancellationNotification.class);
+            cancellations.incrementAndGet();
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    private static JsonNode toJsonNode(String json) {
+        try {
+            return OBJECT_MAPPER.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
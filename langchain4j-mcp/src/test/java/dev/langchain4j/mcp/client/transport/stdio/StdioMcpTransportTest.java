@@ -0,0 +1,74 @@
+package dev.langchain4j.mcp.client.transport.stdio;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.condition.OS.WINDOWS;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.langchain4j.mcp.client.protocol.McpListToolsRequest;
+import dev.langchain4j.mcp.client.transport.McpOperationHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+
+@DisabledOnOs(WINDOWS)
+class StdioMcpTransportTest {
+
+    StdioMcpTransport transport;
+
+    @BeforeEach
+    void startEchoProcess() {
+        // every message is sent back as is, so each request is "answered" by itself
+        transport = new StdioMcpTransport.Builder().command(List.of("cat")).build();
+        transport.start(new McpOperationHandler(new ConcurrentHashMap<>(), transport, null));
+    }
+
+    @AfterEach
+    void closeTransport() throws Exception {
+        transport.close();
+    }
+
+    @Test
+    void should_write_and_read_messages_from_many_threads() throws Exception {
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<JsonNode>> responses = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                long id = i;
+                responses.add(CompletableFuture.supplyAsync(
+                                () -> transport.executeOperationWithResponse(new McpListToolsRequest(id)), executor)
+                        .thenCompose(response -> response));
+            }
+
+            for (int i = 0; i < responses.size(); i++) {
+                JsonNode response = responses.get(i).get(10, TimeUnit.SECONDS);
+                assertThat(response.get("id").asLong()).isEqualTo(i);
+                assertThat(response.get("method").asText()).isEqualTo("tools/list");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_fail_operations_submitted_after_close() throws Exception {
+
+        transport.close();
+
+        CompletableFuture<JsonNode> response = transport.executeOperationWithResponse(new McpListToolsRequest(1L));
+
+        assertThatThrownBy(() -> response.get(10, TimeUnit.SECONDS))
+                .isExactlyInstanceOf(ExecutionException.class)
+                .hasMessageContaining("The transport is closed");
+    }
+}
@@ -3,6 +3,8 @@ package dev.langchain4j.model.openai;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.internal.DefaultExecutorProvider;
+import dev.langchain4j.model.Tokenizer;
 import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
 import dev.langchain4j.model.openai.internal.OpenAiClient;
 import dev.langchain4j.model.openai.internal.embedding.EmbeddingRequest;
@@ -16,9 +18,16 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.isNullOrBlank;
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.model.openai.InternalOpenAiHelper.DEFAULT_OPENAI_URL;
 import static dev.langchain4j.model.openai.InternalOpenAiHelper.DEFAULT_USER_AGENT;
@@ -28,6 +37,14 @@ import static java.time.Duration.ofSeconds;
 
 /**
  * Represents an OpenAI embedding model, such as text-embedding-ada-002.
+ * <p>
+ * {@link #embedAll(List)} splits the text segments into batches of at most
+ * {@link OpenAiEmbeddingModelBuilder#maxSegmentsPerBatch(Integer)} segments and, optionally,
+ * at most {@link OpenAiEmbeddingModelBuilder#maxTokensPerBatch(Integer)} tokens.
+ * By default, the batches are sent one after another. Up to
+ * {@link OpenAiEmbeddingModelBuilder#maxConcurrentBatches(Integer)} batches can be sent concurrently instead.
+ * In both cases, the embeddings are returned in the order of the text segments,
+ * and the token usage is the sum of the token usages of all batches.
  */
 public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
 
@@ -37,6 +54,11 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
     private final String user;
     private final Integer maxRetries;
     private final Integer maxSegmentsPerBatch;
+    private final String encodingFormat;
+    private final Integer maxTokensPerBatch;
+    private final Tokenizer tokenizer;
+    private final int maxConcurrentBatches;
+    private final Executor executor;
 
     public OpenAiEmbeddingModel(OpenAiEmbeddingModelBuilder builder) {
 
@@ -67,6 +89,22 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
         this.maxRetries = getOrDefault(builder.maxRetries, 3);
         this.maxSegmentsPerBatch = getOrDefault(builder.maxSegmentsPerBatch, 2048);
         ensureGreaterThanZero(this.maxSegmentsPerBatch, "maxSegmentsPerBatch");
+        this.encodingFormat = builder.encodingFormat;
+        this.maxTokensPerBatch = builder.maxTokensPerBatch;
+        if (this.maxTokensPerBatch != null) {
+            ensureGreaterThanZero(this.maxTokensPerBatch, "maxTokensPerBatch");
+            if (builder.tokenizer == null && isNullOrBlank(builder.modelName)) {
+                throw illegalArgument("Either modelName or tokenizer must be set when maxTokensPerBatch is set");
+            }
+            this.tokenizer = getOrDefault(builder.tokenizer, () -> new OpenAiTokenizer(builder.modelName));
+        } else {
+            this.tokenizer = null;
+        }
+        this.maxConcurrentBatches = ensureGreaterThanZero(
+                getOrDefault(builder.maxConcurrentBatches, 1), "maxConcurrentBatches");
+        this.executor = this.maxConcurrentBatches > 1
+                ? getOrDefault(builder.executor, DefaultExecutorProvider::getDefaultExecutor)
+                : null;
     }
 
     @Override
@@ -87,7 +125,9 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
 
         List<String> texts = textSegments.stream().map(TextSegment::text).toList();
 
-        List<List<String>> textBatches = partition(texts, maxSegmentsPerBatch);
+        List<List<String>> textBatches = maxTokensPerBatch == null
+                ? partition(texts, maxSegmentsPerBatch)
+                : partition(texts, maxSegmentsPerBatch, maxTokensPerBatch);
 
         return embedBatchedTexts(textBatches);
     }
@@ -102,11 +142,40 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
         return result;
     }
 
+    /**
+     * Packs consecutive texts into batches of at most {@code maxSize} texts and {@code maxTokens} tokens.
+     * A text that alone exceeds {@code maxTokens} is sent in a batch of its own (and will likely be rejected by the API).
+     */
+    private List<List<String>> partition(List<String> inputList, int maxSize, int maxTokens) {
+        List<List<String>> result = new ArrayList<>();
+        int fromIndex = 0;
+        int batchTokens = 0;
+        for (int i = 0; i < inputList.size(); i++) {
+            int tokens = tokenizer.estimateTokenCountInText(inputList.get(i));
+            boolean batchIsFull = i - fromIndex == maxSize || batchTokens + tokens > maxTokens;
+            if (batchIsFull && i > fromIndex) {
+                result.add(inputList.subList(fromIndex, i));
+                fromIndex = i;
+                batchTokens = 0;
+            }
+            batchTokens += tokens;
+        }
+        if (fromIndex < inputList.size()) {
+            result.add(inputList.subList(fromIndex, inputList.size()));
+        }
+        return result;
+    }
+
     private Response<List<Embedding>> embedBatchedTexts(List<List<String>> textBatches) {
-        List<Response<List<Embedding>>> responses = new ArrayList<>();
-        for (List<String> batch : textBatches) {
-            Response<List<Embedding>> response = embedTexts(batch);
-            responses.add(response);
+        List<Response<List<Embedding>>> responses;
+        if (maxConcurrentBatches > 1 && textBatches.size() > 1) {
+            responses = embedBatchesConcurrently(textBatches);
+        } else {
+            responses = new ArrayList<>();
+            for (List<String> batch : textBatches) {
+                Response<List<Embedding>> response = embedTexts(batch);
+                responses.add(response);
+            }
         }
         return Response.from(
                 responses.stream()
@@ -119,6 +188,43 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
                         .orElse(null));
     }
 
+    /**
+     * Sends the batches using up to {@link #maxConcurrentBatches} tasks, each taking the next batch when done.
+     * After the first failure, no more batches are sent, and the failure is rethrown once the running batches complete.
+     */
+    private List<Response<List<Embedding>>> embedBatchesConcurrently(List<List<String>> textBatches) {
+        @SuppressWarnings("unchecked")
+        Response<List<Embedding>>[] responses = new Response[textBatches.size()];
+        AtomicInteger nextBatch = new AtomicInteger();
+        AtomicBoolean failed = new AtomicBoolean();
+
+        int tasks = Math.min(maxConcurrentBatches, textBatches.size());
+        CompletableFuture<?>[] futures = new CompletableFuture[tasks];
+        for (int t = 0; t < tasks; t++) {
+            futures[t] = CompletableFuture.runAsync(() -> {
+                int batch;
+                while (!failed.get() && (batch = nextBatch.getAndIncrement()) < textBatches.size()) {
+                    try {
+                        responses[batch] = embedTexts(textBatches.get(batch));
+                    } catch (RuntimeException e) {
+                        failed.set(true);
+                        throw e;
+                    }
+                }
+            }, executor);
+        }
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+        return List.of(responses);
+    }
+
     private Response<List<Embedding>> embedTexts(List<String> texts) {
 
         EmbeddingRequest request = EmbeddingRequest.builder()
@@ -126,12 +232,13 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
                 .model(modelName)
                 .dimensions(dimensions)
                 .user(user)
+                .encodingFormat(encodingFormat)
                 .build();
 
         EmbeddingResponse response = withRetryMappingExceptions(() -> client.embedding(request).execute(), maxRetries);
 
         List<Embedding> embeddings = response.data().stream()
-                .map(openAiEmbedding -> Embedding.from(openAiEmbedding.embedding()))
+                .map(openAiEmbedding -> Embedding.from(openAiEmbedding.vector()))
                 .toList();
 
         return Response.from(embeddings, tokenUsageFrom(response.usage()));
@@ -158,6 +265,11 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
         private Duration timeout;
         private Integer maxRetries;
         private Integer maxSegmentsPerBatch;
+        private String encodingFormat;
+        private Integer maxTokensPerBatch;
+        private Tokenizer tokenizer;
+        private Integer maxConcurrentBatches;
+        private Executor executor;
         private Boolean logRequests;
         private Boolean logResponses;
         private Map<String, String> customHeaders;
@@ -241,6 +353,63 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
             return this;
         }
 
+        /**
+         * @param encodingFormat The format in which the embeddings are returned: {@code float} or {@code base64}.
+         *                       With {@code base64}, each embedding is a compact base64 string of little-endian floats,
+         *                       which is decoded straight into a {@code float[]}, instead of a JSON array of numbers.
+         *                       This makes responses several times smaller and much cheaper to parse.
+         *                       Optional. Not sent by default, in which case OpenAI uses {@code float}.
+         *                       Not all OpenAI-compatible APIs support {@code base64}.
+         * @return builder
+         */
+        public OpenAiEmbeddingModelBuilder encodingFormat(String encodingFormat) {
+            this.encodingFormat = encodingFormat;
+            return this;
+        }
+
+        /**
+         * @param maxTokensPerBatch The maximum number of tokens sent in one request, across all its text segments.
+         *                          OpenAI accepts up to 300,000 tokens per request.
+         *                          Optional. By default, batches are limited only by {@link #maxSegmentsPerBatch(Integer)}.
+         * @return builder
+         */
+        public OpenAiEmbeddingModelBuilder maxTokensPerBatch(Integer maxTokensPerBatch) {
+            this.maxTokensPerBatch = maxTokensPerBatch;
+            return this;
+        }
+
+        /**
+         * @param tokenizer The {@link Tokenizer} estimating the number of tokens of each text segment,
+         *                  when {@link #maxTokensPerBatch(Integer)} is set.
+         *                  Optional. An {@link OpenAiTokenizer} for the model is used by default.
+         * @return builder
+         */
+        public OpenAiEmbeddingModelBuilder tokenizer(Tokenizer tokenizer) {
+            this.tokenizer = tokenizer;
+            return this;
+        }
+
+        /**
+         * @param maxConcurrentBatches The maximum number of batches sent concurrently by {@link OpenAiEmbeddingModel#embedAll(List)}.
+         *                             Optional. 1 by default, which means that the batches are sent one after another.
+         * @return builder
+         */
+        public OpenAiEmbeddingModelBuilder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * @param executor The {@link Executor} sending the batches when {@link #maxConcurrentBatches(Integer)} is greater than 1.
+         *                 Optional. By default, an executor shared by all models is used:
+         *                 virtual threads when running on Java 21+, otherwise a cached pool of daemon threads.
+         * @return builder
+         */
+        public OpenAiEmbeddingModelBuilder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public OpenAiEmbeddingModel build() {
             return new OpenAiEmbeddingModel(this);
         }
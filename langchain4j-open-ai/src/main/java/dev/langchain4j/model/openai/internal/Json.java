@@ -3,6 +3,9 @@ package dev.langchain4j.model.openai.internal;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES;
 import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
 
@@ -27,4 +30,14 @@ class Json {
             throw new RuntimeException(jpe);
         }
     }
+
+    static <T> T fromJson(byte[] json, Class<T> type) {
+        try {
+            return OBJECT_MAPPER.readValue(json, type);
+        } catch (JsonProcessingException jpe) {
+            throw new RuntimeException(jpe);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
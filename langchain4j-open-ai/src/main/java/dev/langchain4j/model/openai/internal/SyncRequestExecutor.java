@@ -18,6 +18,7 @@ class SyncRequestExecutor<Response> {
 
     Response execute() {
         SuccessfulHttpResponse successfulHttpResponse = httpClient.execute(httpRequest);
-        return Json.fromJson(successfulHttpResponse.body(), responseClass);
+        // parsed from bytes, so that large responses (e.g., embeddings) are not decoded into a String first
+        return Json.fromJson(successfulHttpResponse.bodyBytes(), responseClass);
     }
 }
@@ -8,10 +8,11 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-
-import static java.util.Collections.unmodifiableList;
+import java.util.RandomAccess;
 
 @JsonDeserialize(builder = Embedding.Builder.class)
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -19,7 +20,7 @@ import static java.util.Collections.unmodifiableList;
 public final class Embedding {
 
     @JsonProperty
-    private final List<Float> embedding;
+    private final float[] embedding;
     @JsonProperty
     private final Integer index;
 
@@ -28,7 +29,18 @@ public final class Embedding {
         this.index = builder.index;
     }
 
+    /**
+     * @return a boxed view of the vector. Prefer {@link #vector()}, which does not box each value.
+     */
     public List<Float> embedding() {
+        return embedding == null ? null : new FloatListView(embedding);
+    }
+
+    /**
+     * @return the vector, decoded from either a JSON array of numbers or a base64 string
+     * (see {@link EmbeddingRequest.Builder#encodingFormat(String)}).
+     */
+    public float[] vector() {
         return embedding;
     }
 
@@ -44,14 +56,14 @@ public final class Embedding {
     }
 
     private boolean equalTo(Embedding another) {
-        return Objects.equals(embedding, another.embedding)
+        return Arrays.equals(embedding, another.embedding)
                 && Objects.equals(index, another.index);
     }
 
     @Override
     public int hashCode() {
         int h = 5381;
-        h += (h << 5) + Objects.hashCode(embedding);
+        h += (h << 5) + Arrays.hashCode(embedding);
         h += (h << 5) + Objects.hashCode(index);
         return h;
     }
@@ -59,7 +71,7 @@ public final class Embedding {
     @Override
     public String toString() {
         return "Embedding{"
-                + "embedding=" + embedding
+                + "embedding=" + Arrays.toString(embedding)
                 + ", index=" + index
                 + "}";
     }
@@ -73,13 +85,12 @@ public final class Embedding {
     @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
     public static final class Builder {
 
-        private List<Float> embedding;
+        private float[] embedding;
         private Integer index;
 
-        public Builder embedding(List<Float> embedding) {
-            if (embedding != null) {
-                this.embedding = unmodifiableList(embedding);
-            }
+        @JsonDeserialize(using = EmbeddingVectorDeserializer.class)
+        public Builder embedding(float[] embedding) {
+            this.embedding = embedding;
             return this;
         }
 
@@ -92,4 +103,23 @@ public final class Embedding {
             return new Embedding(this);
         }
     }
+
+    private static class FloatListView extends AbstractList<Float> implements RandomAccess {
+
+        private final float[] vector;
+
+        private FloatListView(float[] vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        public Float get(int index) {
+            return vector[index];
+        }
+
+        @Override
+        public int size() {
+            return vector.length;
+        }
+    }
 }
@@ -0,0 +1,38 @@
+package dev.langchain4j.model.openai.internal.embedding;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Deserializes an embedding vector directly into a {@code float[]}, without boxing each value.
+ * The vector can be either a JSON array of numbers (the default {@code encoding_format})
+ * or a base64 string of little-endian 32-bit floats ({@code encoding_format=base64}).
+ */
+public class EmbeddingVectorDeserializer extends StdDeserializer<float[]> {
+
+    public EmbeddingVectorDeserializer() {
+        super(float[].class);
+    }
+
+    @Override
+    public float[] deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            byte[] bytes = parser.getBinaryValue();
+            if (bytes.length % Float.BYTES != 0) {
+                return (float[]) context.handleWeirdStringValue(float[].class, parser.getText(),
+                        "base64 embedding length (%d bytes) is not a multiple of %d", bytes.length, Float.BYTES);
+            }
+            float[] vector = new float[bytes.length / Float.BYTES];
+            ByteBuffer.wrap(bytes).order(LITTLE_ENDIAN).asFloatBuffer().get(vector);
+            return vector;
+        }
+        return context.readValue(parser, float[].class);
+    }
+}
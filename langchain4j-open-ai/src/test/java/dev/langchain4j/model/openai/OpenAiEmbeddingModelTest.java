@@ -0,0 +1,274 @@
+package dev.langchain4j.model.openai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.exception.HttpException;
+import dev.langchain4j.http.client.HttpClient;
+import dev.langchain4j.http.client.HttpClientBuilder;
+import dev.langchain4j.http.client.HttpRequest;
+import dev.langchain4j.http.client.SuccessfulHttpResponse;
+import dev.langchain4j.http.client.sse.ServerSentEventListener;
+import dev.langchain4j.http.client.sse.ServerSentEventParser;
+import dev.langchain4j.model.Tokenizer;
+import dev.langchain4j.model.output.Response;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class OpenAiEmbeddingModelTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    void should_embed_batches_concurrently_and_keep_order() {
+
+        // given
+        FakeEmbeddingHttpClient httpClient = new FakeEmbeddingHttpClient(50);
+
+        OpenAiEmbeddingModel model = OpenAiEmbeddingModel.builder()
+                .httpClientBuilder(new FakeHttpClientBuilder(httpClient))
+                .apiKey("key")
+                .modelName("text-embedding-3-small")
+                .maxSegmentsPerBatch(2)
+                .maxConcurrentBatches(4)
+                .maxRetries(0)
+                .build();
+
+        List<TextSegment> segments = IntStream.range(0, 15)
+                .mapToObj(i -> TextSegment.from(String.valueOf(i)))
+                .toList();
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(segments);
+
+        // then
+        assertThat(response.content())
+                .extracting(embedding -> (int) embedding.vector()[0])
+                .containsExactlyElementsOf(IntStream.range(0, 15).boxed().toList());
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(15);
+        assertThat(httpClient.batchSizes).hasSize(8);
+        assertThat(httpClient.maxConcurrentRequests.get()).isBetween(2, 4);
+    }
+
+    @Test
+    void should_pack_batches_by_tokens() {
+
+        // given
+        FakeEmbeddingHttpClient httpClient = new FakeEmbeddingHttpClient(0);
+
+        OpenAiEmbeddingModel model = OpenAiEmbeddingModel.builder()
+                .httpClientBuilder(new FakeHttpClientBuilder(httpClient))
+                .apiKey("key")
+                .modelName("text-embedding-3-small")
+                .maxSegmentsPerBatch(3)
+                .maxTokensPerBatch(10)
+                .tokenizer(new OneTokenPerCharacterTokenizer())
+                .build();
+
+        List<TextSegment> segments = List.of(
+                TextSegment.from("1"),
+                TextSegment.from("22222"),
+                TextSegment.from("33333"),
+                TextSegment.from("4444444444444"),
+                TextSegment.from("5"),
+                TextSegment.from("6"),
+                TextSegment.from("7"),
+                TextSegment.from("8"));
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(segments);
+
+        // then
+        assertThat(httpClient.batchSizes).containsExactly(2, 1, 1, 3, 1);
+        assertThat(response.content()).hasSize(8);
+    }
+
+    @Test
+    void should_request_and_decode_base64_embeddings() {
+
+        // given
+        FakeEmbeddingHttpClient httpClient = new FakeEmbeddingHttpClient(0);
+
+        OpenAiEmbeddingModel model = OpenAiEmbeddingModel.builder()
+                .httpClientBuilder(new FakeHttpClientBuilder(httpClient))
+                .apiKey("key")
+                .modelName("text-embedding-3-small")
+                .encodingFormat("base64")
+                .build();
+
+        // when
+        Response<List<Embedding>> response = model.embedAll(List.of(TextSegment.from("1"), TextSegment.from("2")));
+
+        // then
+        assertThat(httpClient.encodingFormats).containsExactly("base64");
+        assertThat(response.content())
+                .extracting(Embedding::vector)
+                .containsExactly(new float[] {1, 0.5f}, new float[] {2, 0.5f});
+    }
+
+    @Test
+    void should_rethrow_first_failure_of_concurrent_batches() {
+
+        // given
+        FakeEmbeddingHttpClient httpClient = new FakeEmbeddingHttpClient(0) {
+
+            @Override
+            public SuccessfulHttpResponse execute(HttpRequest request) {
+                if (request.body().contains("\"fail\"")) {
+                    throw new HttpException(400, "invalid input");
+                }
+                return super.execute(request);
+            }
+        };
+
+        OpenAiEmbeddingModel model = OpenAiEmbeddingModel.builder()
+                .httpClientBuilder(new FakeHttpClientBuilder(httpClient))
+                .apiKey("key")
+                .modelName("text-embedding-3-small")
+                .maxSegmentsPerBatch(1)
+                .maxConcurrentBatches(2)
+                .maxRetries(0)
+                .build();
+
+        List<TextSegment> segments = List.of(TextSegment.from("1"), TextSegment.from("fail"), TextSegment.from("3"));
+
+        // when-then
+        assertThatThrownBy(() -> model.embedAll(segments)).hasRootCauseInstanceOf(HttpException.class);
+    }
+
+    @Test
+    void should_require_model_name_or_tokenizer_to_batch_by_tokens() {
+
+        assertThatThrownBy(() -> OpenAiEmbeddingModel.builder()
+                .httpClientBuilder(new FakeHttpClientBuilder(new FakeEmbeddingHttpClient(0)))
+                .apiKey("key")
+                .maxTokensPerBatch(100)
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Either modelName or tokenizer must be set when maxTokensPerBatch is set");
+    }
+
+    private static class FakeEmbeddingHttpClient implements HttpClient {
+
+        private final long latencyMillis;
+        private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> encodingFormats = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger concurrentRequests = new AtomicInteger();
+        private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+
+        FakeEmbeddingHttpClient(long latencyMillis) {
+            this.latencyMillis = latencyMillis;
+        }
+
+        @Override
+        public SuccessfulHttpResponse execute(HttpRequest request) {
+            int concurrent = concurrentRequests.incrementAndGet();
+            maxConcurrentRequests.accumulateAndGet(concurrent, Math::max);
+            try {
+                Thread.sleep(latencyMillis);
+
+                JsonNode requestJson = OBJECT_MAPPER.readTree(request.body());
+                JsonNode input = requestJson.get("input");
+                batchSizes.add(input.size());
+                boolean base64 = requestJson.has("encoding_format");
+                if (base64) {
+                    encodingFormats.add(requestJson.get("encoding_format").asText());
+                }
+
+                StringBuilder data = new StringBuilder();
+                for (int i = 0; i < input.size(); i++) {
+                    if (i > 0) {
+                        data.append(',');
+                    }
+                    float value = input.get(i).asText().length() < 3 ? Float.parseFloat(input.get(i).asText()) : 0;
+                    String embedding = base64 ? "\"" + base64(value, 0.5f) + "\"" : "[" + value + ",0.5]";
+                    data.append("{\"embedding\":").append(embedding).append(",\"index\":").append(i).append('}');
+                }
+                String body = "{\"data\":[" + data + "],\"usage\":{\"prompt_tokens\":" + input.size()
+                        + ",\"total_tokens\":" + input.size() + "}}";
+
+                return SuccessfulHttpResponse.builder().statusCode(200).body(body).build();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            } finally {
+                concurrentRequests.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void execute(HttpRequest request, ServerSentEventParser parser, ServerSentEventListener listener) {
+            throw new UnsupportedOperationException();
+        }
+
+        private static String base64(float... vector) {
+            ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.asFloatBuffer().put(vector);
+            return Base64.getEncoder().encodeToString(buffer.array());
+        }
+    }
+
+    private static class FakeHttpClientBuilder implements HttpClientBuilder {
+
+        private final HttpClient httpClient;
+
+        FakeHttpClientBuilder(HttpClient httpClient) {
+            this.httpClient = httpClient;
+        }
+
+        @Override
+        public Duration connectTimeout() {
+            return null;
+        }
+
+        @Override
+        public HttpClientBuilder connectTimeout(Duration timeout) {
+            return this;
+        }
+
+        @Override
+        public Duration readTimeout() {
+            return null;
+        }
+
+        @Override
+        public HttpClientBuilder readTimeout(Duration timeout) {
+            return this;
+        }
+
+        @Override
+        public HttpClient build() {
+            return httpClient;
+        }
+    }
+
+    private static class OneTokenPerCharacterTokenizer implements Tokenizer {
+
+        @Override
+        public int estimateTokenCountInText(String text) {
+            return text.length();
+        }
+
+        @Override
+        public int estimateTokenCountInMessage(ChatMessage message) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -74,12 +74,9 @@ class ColumnsMetadataHandler implements MetadataHandler {
 
     @Override
     public void setMetadata(PreparedStatement upsertStmt, Integer parameterInitialIndex, Metadata metadata) {
-        Map<String, Object> metadataMap = metadata.toMap();
         int i = 0;
-        // only column names fields will be stored
-        for (String columnName : this.columnsName) {
+        for (String metadataValue : metadataValues(metadata)) {
             try {
-                String metadataValue = Objects.toString(metadataMap.get(columnName), null);
                 upsertStmt.setObject(parameterInitialIndex + i, metadataValue, Types.OTHER);
                 i++;
             } catch (SQLException e) {
@@ -88,6 +85,15 @@ class ColumnsMetadataHandler implements MetadataHandler {
         }
     }
 
+    @Override
+    public List<String> metadataValues(Metadata metadata) {
+        Map<String, Object> metadataMap = metadata.toMap();
+        // only column names fields will be stored
+        return this.columnsName.stream()
+                .map(columnName -> Objects.toString(metadataMap.get(columnName), null))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public String whereClause(Filter filter) {
         return filterMapper.map(filter);
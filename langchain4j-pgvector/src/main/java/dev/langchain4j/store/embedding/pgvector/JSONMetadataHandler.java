@@ -83,9 +83,17 @@ class JSONMetadataHandler implements MetadataHandler {
     @Override
     public void setMetadata(PreparedStatement upsertStmt, Integer parameterInitialIndex, Metadata metadata) {
         try {
-            upsertStmt.setObject(parameterInitialIndex,
-                    OBJECT_MAPPER.writeValueAsString(toStringValueMap(metadata.toMap())), Types.OTHER);
-        } catch (SQLException | JsonProcessingException e) {
+            upsertStmt.setObject(parameterInitialIndex, metadataValues(metadata).get(0), Types.OTHER);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public List<String> metadataValues(Metadata metadata) {
+        try {
+            return Collections.singletonList(OBJECT_MAPPER.writeValueAsString(toStringValueMap(metadata.toMap())));
+        } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
     }
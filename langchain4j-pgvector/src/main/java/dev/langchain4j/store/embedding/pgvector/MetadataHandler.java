@@ -69,5 +69,13 @@ interface MetadataHandler {
      */
     void setMetadata(PreparedStatement upsertStmt, Integer parameterInitialIndex, Metadata metadata);
 
+    /**
+     * Text representation of meta data values following metadata and metadata definition,
+     * in the same order as {@link #columnsNames()}
+     *
+     * @param metadata metadata values
+     * @return list of values, null values are allowed
+     */
+    List<String> metadataValues(Metadata metadata);
 
 }
@@ -9,11 +9,15 @@ import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.filter.Filter;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
 import org.postgresql.ds.PGSimpleDataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.sql.Array;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -22,10 +26,12 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.WeakHashMap;
 import java.util.stream.IntStream;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
@@ -46,11 +52,21 @@ import static java.util.stream.Collectors.toList;
  * PGVector EmbeddingStore Implementation
  * <p>
  * Only cosine similarity is used.
- * Only ivfflat index is used.
+ * An <a href="https://github.com/pgvector/pgvector#ivfflat">IVFFlat</a>
+ * or an <a href="https://github.com/pgvector/pgvector#hnsw">HNSW</a> index can be used.
+ * Embeddings can be stored as {@code halfvec} (half-precision) instead of {@code vector},
+ * which halves the size of the table and of the index.
+ * <p>
+ * The {@code vector} extension is created once, when the store is created,
+ * and the {@code vector} type is registered once per physical connection,
+ * so that connections borrowed from a pooled {@link DataSource} are not initialized again.
+ * Queries use bind parameters, so that the driver can reuse their server-side prepared statements
+ * (see the {@code prepareThreshold} and {@code preparedStatementCacheQueries} properties of the PostgreSQL driver).
  */
 // Needed for inherited bean injection validation
 public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
     private static final Logger log = LoggerFactory.getLogger(PgVectorEmbeddingStore.class);
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
     /**
      * Datasource used to create the store
      */
@@ -64,6 +80,20 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
      */
     final MetadataHandler metadataHandler;
 
+    // physical connections on which the vector type is already registered
+    private final Set<PGConnection> initializedConnections =
+            Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>()));
+
+    private final PgVectorIndexType indexType;
+    private final Integer hnswM;
+    private final Integer hnswEfConstruction;
+    private final boolean useHalfVec;
+    private final String upsertSql;
+    private final String copySql;
+    private final String removeByIdsSql;
+    private final String searchSql;
+    private final String searchSettingsSql;
+
     /**
      * Constructor for PgVectorEmbeddingStore Class
      *
@@ -84,10 +114,84 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
                                      Boolean createTable,
                                      Boolean dropTableFirst,
                                      MetadataStorageConfig metadataStorageConfig) {
+        this(datasource, table, dimension, useIndex, null, indexListSize, null, null, null, null, null,
+                createTable, dropTableFirst, metadataStorageConfig);
+    }
+
+    /**
+     * Constructor for PgVectorEmbeddingStore Class
+     *
+     * @param datasource            The datasource to use
+     * @param table                 The database table
+     * @param dimension             The vector dimension
+     * @param useIndex              Should create an index on the embedding column
+     * @param indexType             The {@link PgVectorIndexType} of the index, IVFFLAT by default
+     * @param indexListSize         The IVFFlat number of lists
+     * @param hnswM                 The HNSW maximum number of connections per layer, pgvector's default if null
+     * @param hnswEfConstruction    The HNSW size of the dynamic candidate list used to build the graph,
+     *                              pgvector's default if null
+     * @param hnswEfSearch          The HNSW size of the dynamic candidate list used to search ({@code hnsw.ef_search}),
+     *                              set for each search, pgvector's default if null
+     * @param ivfflatProbes         The number of IVFFlat lists to search ({@code ivfflat.probes}),
+     *                              set for each search, pgvector's default if null
+     * @param useHalfVec            Should store embeddings as {@code halfvec} instead of {@code vector}
+     * @param createTable           Should create table automatically
+     * @param dropTableFirst        Should drop table first, usually for testing
+     * @param metadataStorageConfig The {@link MetadataStorageConfig} config.
+     */
+    protected PgVectorEmbeddingStore(DataSource datasource,
+                                     String table,
+                                     Integer dimension,
+                                     Boolean useIndex,
+                                     PgVectorIndexType indexType,
+                                     Integer indexListSize,
+                                     Integer hnswM,
+                                     Integer hnswEfConstruction,
+                                     Integer hnswEfSearch,
+                                     Integer ivfflatProbes,
+                                     Boolean useHalfVec,
+                                     Boolean createTable,
+                                     Boolean dropTableFirst,
+                                     MetadataStorageConfig metadataStorageConfig) {
         this.datasource = ensureNotNull(datasource, "datasource");
         this.table = ensureNotBlank(table, "table");
         MetadataStorageConfig config = getOrDefault(metadataStorageConfig, DefaultMetadataStorageConfig.defaultConfig());
         this.metadataHandler = MetadataHandlerFactory.get(config);
+        this.indexType = getOrDefault(indexType, PgVectorIndexType.IVFFLAT);
+        this.hnswM = hnswM == null ? null : ensureGreaterThanZero(hnswM, "hnswM");
+        this.hnswEfConstruction = hnswEfConstruction == null
+                ? null
+                : ensureGreaterThanZero(hnswEfConstruction, "hnswEfConstruction");
+        this.useHalfVec = getOrDefault(useHalfVec, false);
+        // halfvec embeddings are converted from and to vector, which is the type of PGvector
+        String vectorParameter = this.useHalfVec ? "?::halfvec" : "?";
+        this.upsertSql = String.format(
+                "INSERT INTO %s (embedding_id, embedding, text, %s) VALUES (?, " + vectorParameter + ", ?, %s)" +
+                        "ON CONFLICT (embedding_id) DO UPDATE SET " +
+                        "embedding = EXCLUDED.embedding," +
+                        "text = EXCLUDED.text," +
+                        "%s;",
+                table, join(",", metadataHandler.columnsNames()),
+                join(",", nCopies(metadataHandler.columnsNames().size(), "?")),
+                metadataHandler.insertClause());
+        this.copySql = String.format("COPY %s (embedding_id, embedding, text, %s) FROM STDIN",
+                table, join(",", metadataHandler.columnsNames()));
+        this.removeByIdsSql = String.format("DELETE FROM %s WHERE embedding_id = ANY (?)", table);
+        // the filter condition, if any, replaces the last %s
+        this.searchSql = String.format(
+                "SELECT (2 - (embedding <=> %1$s)) / 2 AS score, embedding_id, %2$s, text, %3$s FROM %4$s " +
+                        "WHERE round(cast(float8 (embedding <=> %1$s) as numeric), 8) <= round(2 - 2 * ?, 8) %%s " +
+                        "ORDER BY embedding <=> %1$s LIMIT ?",
+                vectorParameter, this.useHalfVec ? "embedding::vector AS embedding" : "embedding",
+                join(",", metadataHandler.columnsNames()), table);
+        List<String> searchSettings = new ArrayList<>();
+        if (hnswEfSearch != null) {
+            searchSettings.add("SET LOCAL hnsw.ef_search = " + ensureGreaterThanZero(hnswEfSearch, "hnswEfSearch"));
+        }
+        if (ivfflatProbes != null) {
+            searchSettings.add("SET LOCAL ivfflat.probes = " + ensureGreaterThanZero(ivfflatProbes, "ivfflatProbes"));
+        }
+        this.searchSettingsSql = searchSettings.isEmpty() ? null : join("; ", searchSettings);
         useIndex = getOrDefault(useIndex, false);
         createTable = getOrDefault(createTable, true);
         dropTableFirst = getOrDefault(dropTableFirst, false);
@@ -126,15 +230,75 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
             Boolean createTable,
             Boolean dropTableFirst,
             MetadataStorageConfig metadataStorageConfig
+    ) {
+        this(host, port, user, password, database, table, dimension, useIndex, null, indexListSize,
+                null, null, null, null, null, createTable, dropTableFirst, metadataStorageConfig);
+    }
+
+    /**
+     * Constructor for PgVectorEmbeddingStore Class
+     * Use this builder when you don't have datasource management.
+     *
+     * @param host                  The database host
+     * @param port                  The database port
+     * @param user                  The database user
+     * @param password              The database password
+     * @param database              The database name
+     * @param table                 The database table
+     * @param dimension             The vector dimension
+     * @param useIndex              Should create an index on the embedding column
+     * @param indexType             The {@link PgVectorIndexType} of the index, IVFFLAT by default
+     * @param indexListSize         The IVFFlat number of lists
+     * @param hnswM                 The HNSW maximum number of connections per layer, pgvector's default if null
+     * @param hnswEfConstruction    The HNSW size of the dynamic candidate list used to build the graph,
+     *                              pgvector's default if null
+     * @param hnswEfSearch          The HNSW size of the dynamic candidate list used to search ({@code hnsw.ef_search}),
+     *                              set for each search, pgvector's default if null
+     * @param ivfflatProbes         The number of IVFFlat lists to search ({@code ivfflat.probes}),
+     *                              set for each search, pgvector's default if null
+     * @param useHalfVec            Should store embeddings as {@code halfvec} instead of {@code vector}
+     * @param createTable           Should create table automatically
+     * @param dropTableFirst        Should drop table first, usually for testing
+     * @param metadataStorageConfig The {@link MetadataStorageConfig} config.
+     */
+    protected PgVectorEmbeddingStore(
+            String host,
+            Integer port,
+            String user,
+            String password,
+            String database,
+            String table,
+            Integer dimension,
+            Boolean useIndex,
+            PgVectorIndexType indexType,
+            Integer indexListSize,
+            Integer hnswM,
+            Integer hnswEfConstruction,
+            Integer hnswEfSearch,
+            Integer ivfflatProbes,
+            Boolean useHalfVec,
+            Boolean createTable,
+            Boolean dropTableFirst,
+            MetadataStorageConfig metadataStorageConfig
     ) {
         this(createDataSource(host, port, user, password, database),
-                table, dimension, useIndex, indexListSize, createTable, dropTableFirst, metadataStorageConfig);
+                table, dimension, useIndex, indexType, indexListSize, hnswM, hnswEfConstruction, hnswEfSearch,
+                ivfflatProbes, useHalfVec, createTable, dropTableFirst, metadataStorageConfig);
     }
 
     public PgVectorEmbeddingStore() {
         this.datasource = null;
         this.table = null;
         this.metadataHandler = null;
+        this.indexType = null;
+        this.hnswM = null;
+        this.hnswEfConstruction = null;
+        this.useHalfVec = false;
+        this.upsertSql = null;
+        this.copySql = null;
+        this.removeByIdsSql = null;
+        this.searchSql = null;
+        this.searchSettingsSql = null;
     }
 
     private static DataSource createDataSource(String host, Integer port, String user, String password, String database) {
@@ -168,7 +332,7 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
      *
      * @param dropTableFirst Should drop table first, usually for testing
      * @param createTable    Should create table automatically
-     * @param useIndex       Should use <a href="https://github.com/pgvector/pgvector#ivfflat">IVFFlat</a> index
+     * @param useIndex       Should create an index of the configured {@link PgVectorIndexType}
      * @param dimension      The vector dimension
      * @param indexListSize  The IVFFlat number of lists
      */
@@ -176,24 +340,43 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
                              Integer indexListSize) {
         String query = "init";
         try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            query = "CREATE EXTENSION IF NOT EXISTS vector";
+            statement.executeUpdate(query);
             if (dropTableFirst) {
                 statement.executeUpdate(String.format("DROP TABLE IF EXISTS %s", table));
             }
             if (createTable) {
                 query = String.format("CREATE TABLE IF NOT EXISTS %s (embedding_id UUID PRIMARY KEY, " +
-                                "embedding vector(%s), text TEXT NULL, %s )",
-                        table, ensureGreaterThanZero(dimension, "dimension"),
+                                "embedding %s(%s), text TEXT NULL, %s )",
+                        table, useHalfVec ? "halfvec" : "vector", ensureGreaterThanZero(dimension, "dimension"),
                         metadataHandler.columnDefinitionsString());
                 statement.executeUpdate(query);
                 metadataHandler.createMetadataIndexes(statement, table);
             }
             if (useIndex) {
-                final String indexName = table + "_ivfflat_index";
-                query = String.format(
-                        "CREATE INDEX IF NOT EXISTS %s ON %s " +
-                                "USING ivfflat (embedding vector_cosine_ops) " +
-                                "WITH (lists = %s)",
-                        indexName, table, ensureGreaterThanZero(indexListSize, "indexListSize"));
+                String operatorClass = useHalfVec ? "halfvec_cosine_ops" : "vector_cosine_ops";
+                if (indexType == PgVectorIndexType.HNSW) {
+                    final String indexName = table + "_hnsw_index";
+                    List<String> options = new ArrayList<>();
+                    if (hnswM != null) {
+                        options.add("m = " + hnswM);
+                    }
+                    if (hnswEfConstruction != null) {
+                        options.add("ef_construction = " + hnswEfConstruction);
+                    }
+                    query = String.format(
+                            "CREATE INDEX IF NOT EXISTS %s ON %s " +
+                                    "USING hnsw (embedding %s)%s",
+                            indexName, table, operatorClass,
+                            options.isEmpty() ? "" : " WITH (" + join(", ", options) + ")");
+                } else {
+                    final String indexName = table + "_ivfflat_index";
+                    query = String.format(
+                            "CREATE INDEX IF NOT EXISTS %s ON %s " +
+                                    "USING ivfflat (embedding %s) " +
+                                    "WITH (lists = %s)",
+                            indexName, table, operatorClass, ensureGreaterThanZero(indexListSize, "indexListSize"));
+                }
                 statement.executeUpdate(query);
             }
         } catch (SQLException e) {
@@ -255,9 +438,8 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
     @Override
     public void removeAll(Collection<String> ids) {
         ensureNotEmpty(ids, "ids");
-        String sql = String.format("DELETE FROM %s WHERE embedding_id = ANY (?)", table);
         try (Connection connection = getConnection();
-             PreparedStatement statement = connection.prepareStatement(sql)) {
+             PreparedStatement statement = connection.prepareStatement(removeByIdsSql)) {
             Array array = connection.createArrayOf("uuid", ids.stream().map(UUID::fromString).toArray());
             statement.setArray(1, array);
             statement.executeUpdate();
@@ -308,16 +490,28 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
 
         List<EmbeddingMatch<TextSegment>> result = new ArrayList<>();
         try (Connection connection = getConnection()) {
-            String referenceVector = Arrays.toString(referenceEmbedding.vector());
+            PGvector referenceVector = new PGvector(referenceEmbedding.vector());
             String whereClause = (filter == null) ? "" : metadataHandler.whereClause(filter);
             whereClause = (whereClause.isEmpty()) ? "" : "AND " + whereClause;
-            String query = String.format(
-                    "SELECT (2 - (embedding <=> '%s')) / 2 AS score, embedding_id, embedding, text, %s FROM %s " +
-                            "WHERE round(cast(float8 (embedding <=> '%s') as numeric), 8) <= round(2 - 2 * %s, 8) %s " + "ORDER BY embedding <=> '%s' LIMIT %s;",
-                    referenceVector, join(",", metadataHandler.columnsNames()), table, referenceVector,
-                    minScore, whereClause, referenceVector, maxResults
-            );
+            String query = String.format(searchSql, whereClause);
+            // SET LOCAL only lasts until the end of the transaction, so a pooled connection is left unchanged.
+            // A transaction is opened only if the caller has not already started one, which must not be committed here.
+            boolean ownTransaction = searchSettingsSql != null && connection.getAutoCommit();
+            if (ownTransaction) {
+                connection.setAutoCommit(false);
+            }
+            boolean succeeded = false;
             try (PreparedStatement selectStmt = connection.prepareStatement(query)) {
+                if (searchSettingsSql != null) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute(searchSettingsSql);
+                    }
+                }
+                selectStmt.setObject(1, referenceVector);
+                selectStmt.setObject(2, referenceVector);
+                selectStmt.setBigDecimal(3, BigDecimal.valueOf(minScore));
+                selectStmt.setObject(4, referenceVector);
+                selectStmt.setInt(5, maxResults);
                 try (ResultSet resultSet = selectStmt.executeQuery()) {
                     while (resultSet.next()) {
                         double score = resultSet.getDouble("score");
@@ -335,6 +529,19 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
                         result.add(new EmbeddingMatch<>(score, embeddingId, embedding, textSegment));
                     }
                 }
+                succeeded = true;
+            } finally {
+                if (ownTransaction) {
+                    try {
+                        if (succeeded) {
+                            connection.commit();
+                        } else {
+                            connection.rollback();
+                        }
+                    } finally {
+                        connection.setAutoCommit(true);
+                    }
+                }
             }
         } catch (SQLException e) {
             throw new RuntimeException(e);
@@ -361,16 +568,7 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
                 "embeddings size is not equal to embedded size");
 
         try (Connection connection = getConnection()) {
-            String query = String.format(
-                    "INSERT INTO %s (embedding_id, embedding, text, %s) VALUES (?, ?, ?, %s)" +
-                            "ON CONFLICT (embedding_id) DO UPDATE SET " +
-                            "embedding = EXCLUDED.embedding," +
-                            "text = EXCLUDED.text," +
-                            "%s;",
-                    table, join(",", metadataHandler.columnsNames()),
-                    join(",", nCopies(metadataHandler.columnsNames().size(), "?")),
-                    metadataHandler.insertClause());
-            try (PreparedStatement upsertStmt = connection.prepareStatement(query)) {
+            try (PreparedStatement upsertStmt = connection.prepareStatement(upsertSql)) {
                 for (int i = 0; i < ids.size(); ++i) {
                     upsertStmt.setObject(1, UUID.fromString(ids.get(i)));
                     upsertStmt.setObject(2, new PGvector(embeddings.get(i).vector()));
@@ -398,23 +596,119 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
         }
     }
 
+    /**
+     * Adds multiple embeddings and the corresponding content that has been embedded to the store,
+     * using <a href="https://www.postgresql.org/docs/current/sql-copy.html">COPY</a>
+     * instead of batched inserts, which is much faster to load large amounts of embeddings.
+     * <p>
+     * Unlike {@link #addAll(List, List, List)}, existing embeddings are not updated:
+     * the whole copy fails if one of the ids is already in the store.
+     *
+     * @param ids        A list of unique identifiers for the embeddings to be added.
+     * @param embeddings A list of embeddings to be added to the store.
+     * @param embedded   A list of original contents that were embedded, could be null.
+     */
+    public void copyAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+        if (isNullOrEmpty(ids) || isNullOrEmpty(embeddings)) {
+            log.info("Empty embeddings - no ops");
+            return;
+        }
+        ensureTrue(ids.size() == embeddings.size(), "ids size is not equal to embeddings size");
+        ensureTrue(embedded == null || embeddings.size() == embedded.size(),
+                "embeddings size is not equal to embedded size");
+
+        int metadataColumnsCount = metadataHandler.columnsNames().size();
+        try (Connection connection = getConnection()) {
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copySql);
+            try {
+                StringBuilder rows = new StringBuilder(COPY_BUFFER_SIZE);
+                for (int i = 0; i < ids.size(); ++i) {
+                    rows.append(UUID.fromString(ids.get(i))).append('\t');
+                    appendVector(rows, embeddings.get(i).vector());
+                    if (embedded != null && embedded.get(i) != null) {
+                        rows.append('\t');
+                        appendCopyValue(rows, embedded.get(i).text());
+                        for (String metadataValue : metadataHandler.metadataValues(embedded.get(i).metadata())) {
+                            rows.append('\t');
+                            appendCopyValue(rows, metadataValue);
+                        }
+                    } else {
+                        for (int j = 0; j <= metadataColumnsCount; j++) {
+                            rows.append('\t');
+                            appendCopyValue(rows, null);
+                        }
+                    }
+                    rows.append('\n');
+                    if (rows.length() >= COPY_BUFFER_SIZE) {
+                        writeCopyRows(copyIn, rows);
+                    }
+                }
+                writeCopyRows(copyIn, rows);
+                copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void writeCopyRows(CopyIn copyIn, StringBuilder rows) throws SQLException {
+        byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        rows.setLength(0);
+    }
+
+    private static void appendVector(StringBuilder sb, float[] vector) {
+        sb.append('[');
+        for (int i = 0; i < vector.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(vector[i]);
+        }
+        sb.append(']');
+    }
+
+    /**
+     * Appends a value following COPY text format: null is \N, backslashes and delimiters are escaped.
+     */
+    private static void appendCopyValue(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("\\N");
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case '\t' -> sb.append("\\t");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                default -> sb.append(c);
+            }
+        }
+    }
+
     /**
      * Datasource connection
-     * Creates the vector extension and add the vector type if it does not exist.
-     * Could be overridden in case extension creation and adding type is done at datasource initialization step.
+     * Adds the vector type, the first time a physical connection is used.
+     * The datasource could handle a connection pool, so the same physical connection
+     * can be borrowed many times, but it is initialized only once.
+     * Could be overridden in case adding the type is done at datasource initialization step.
      *
      * @return Datasource connection
      * @throws SQLException exception
      */
     protected Connection getConnection() throws SQLException {
         Connection connection = datasource.getConnection();
-        // Find a way to do the following code in connection initialization.
-        // Here we assume the datasource could handle a connection pool
-        // and we should add the vector type on each connection
-        try (Statement statement = connection.createStatement()) {
-            statement.executeUpdate("CREATE EXTENSION IF NOT EXISTS vector");
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        if (!initializedConnections.contains(pgConnection)) {
+            PGvector.addVectorType(connection);
+            initializedConnections.add(pgConnection);
         }
-        PGvector.addVectorType(connection);
         return connection;
     }
 
@@ -423,7 +717,13 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
         private String table;
         private Integer dimension;
         private Boolean useIndex;
+        private PgVectorIndexType indexType;
         private Integer indexListSize;
+        private Integer hnswM;
+        private Integer hnswEfConstruction;
+        private Integer hnswEfSearch;
+        private Integer ivfflatProbes;
+        private Boolean useHalfVec;
         private Boolean createTable;
         private Boolean dropTableFirst;
         private MetadataStorageConfig metadataStorageConfig;
@@ -451,11 +751,41 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
             return this;
         }
 
+        public DatasourceBuilder indexType(PgVectorIndexType indexType) {
+            this.indexType = indexType;
+            return this;
+        }
+
         public DatasourceBuilder indexListSize(Integer indexListSize) {
             this.indexListSize = indexListSize;
             return this;
         }
 
+        public DatasourceBuilder hnswM(Integer hnswM) {
+            this.hnswM = hnswM;
+            return this;
+        }
+
+        public DatasourceBuilder hnswEfConstruction(Integer hnswEfConstruction) {
+            this.hnswEfConstruction = hnswEfConstruction;
+            return this;
+        }
+
+        public DatasourceBuilder hnswEfSearch(Integer hnswEfSearch) {
+            this.hnswEfSearch = hnswEfSearch;
+            return this;
+        }
+
+        public DatasourceBuilder ivfflatProbes(Integer ivfflatProbes) {
+            this.ivfflatProbes = ivfflatProbes;
+            return this;
+        }
+
+        public DatasourceBuilder useHalfVec(Boolean useHalfVec) {
+            this.useHalfVec = useHalfVec;
+            return this;
+        }
+
         public DatasourceBuilder createTable(Boolean createTable) {
             this.createTable = createTable;
             return this;
@@ -472,11 +802,11 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
         }
 
         public PgVectorEmbeddingStore build() {
-            return new PgVectorEmbeddingStore(this.datasource, this.table, this.dimension, this.useIndex, this.indexListSize, this.createTable, this.dropTableFirst, this.metadataStorageConfig);
+            return new PgVectorEmbeddingStore(this.datasource, this.table, this.dimension, this.useIndex, this.indexType, this.indexListSize, this.hnswM, this.hnswEfConstruction, this.hnswEfSearch, this.ivfflatProbes, this.useHalfVec, this.createTable, this.dropTableFirst, this.metadataStorageConfig);
         }
 
         public String toString() {
-            return "PgVectorEmbeddingStore.DatasourceBuilder(datasource=" + this.datasource + ", table=" + this.table + ", dimension=" + this.dimension + ", useIndex=" + this.useIndex + ", indexListSize=" + this.indexListSize + ", createTable=" + this.createTable + ", dropTableFirst=" + this.dropTableFirst + ", metadataStorageConfig=" + this.metadataStorageConfig + ")";
+            return "PgVectorEmbeddingStore.DatasourceBuilder(datasource=" + this.datasource + ", table=" + this.table + ", dimension=" + this.dimension + ", useIndex=" + this.useIndex + ", indexType=" + this.indexType + ", indexListSize=" + this.indexListSize + ", hnswM=" + this.hnswM + ", hnswEfConstruction=" + this.hnswEfConstruction + ", hnswEfSearch=" + this.hnswEfSearch + ", ivfflatProbes=" + this.ivfflatProbes + ", useHalfVec=" + this.useHalfVec + ", createTable=" + this.createTable + ", dropTableFirst=" + this.dropTableFirst + ", metadataStorageConfig=" + this.metadataStorageConfig + ")";
         }
     }
 
@@ -489,7 +819,13 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
         private String table;
         private Integer dimension;
         private Boolean useIndex;
+        private PgVectorIndexType indexType;
         private Integer indexListSize;
+        private Integer hnswM;
+        private Integer hnswEfConstruction;
+        private Integer hnswEfSearch;
+        private Integer ivfflatProbes;
+        private Boolean useHalfVec;
         private Boolean createTable;
         private Boolean dropTableFirst;
         private MetadataStorageConfig metadataStorageConfig;
@@ -537,11 +873,41 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
             return this;
         }
 
+        public PgVectorEmbeddingStoreBuilder indexType(PgVectorIndexType indexType) {
+            this.indexType = indexType;
+            return this;
+        }
+
         public PgVectorEmbeddingStoreBuilder indexListSize(Integer indexListSize) {
             this.indexListSize = indexListSize;
             return this;
         }
 
+        public PgVectorEmbeddingStoreBuilder hnswM(Integer hnswM) {
+            this.hnswM = hnswM;
+            return this;
+        }
+
+        public PgVectorEmbeddingStoreBuilder hnswEfConstruction(Integer hnswEfConstruction) {
+            this.hnswEfConstruction = hnswEfConstruction;
+            return this;
+        }
+
+        public PgVectorEmbeddingStoreBuilder hnswEfSearch(Integer hnswEfSearch) {
+            this.hnswEfSearch = hnswEfSearch;
+            return this;
+        }
+
+        public PgVectorEmbeddingStoreBuilder ivfflatProbes(Integer ivfflatProbes) {
+            this.ivfflatProbes = ivfflatProbes;
+            return this;
+        }
+
+        public PgVectorEmbeddingStoreBuilder useHalfVec(Boolean useHalfVec) {
+            this.useHalfVec = useHalfVec;
+            return this;
+        }
+
         public PgVectorEmbeddingStoreBuilder createTable(Boolean createTable) {
             this.createTable = createTable;
             return this;
@@ -558,11 +924,11 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
         }
 
         public PgVectorEmbeddingStore build() {
-            return new PgVectorEmbeddingStore(this.host, this.port, this.user, this.password, this.database, this.table, this.dimension, this.useIndex, this.indexListSize, this.createTable, this.dropTableFirst, this.metadataStorageConfig);
+            return new PgVectorEmbeddingStore(this.host, this.port, this.user, this.password, this.database, this.table, this.dimension, this.useIndex, this.indexType, this.indexListSize, this.hnswM, this.hnswEfConstruction, this.hnswEfSearch, this.ivfflatProbes, this.useHalfVec, this.createTable, this.dropTableFirst, this.metadataStorageConfig);
         }
 
         public String toString() {
-            return "PgVectorEmbeddingStore.PgVectorEmbeddingStoreBuilder(host=" + this.host + ", port=" + this.port + ", user=" + this.user + ", password=" + this.password + ", database=" + this.database + ", table=" + this.table + ", dimension=" + this.dimension + ", useIndex=" + this.useIndex + ", indexListSize=" + this.indexListSize + ", createTable=" + this.createTable + ", dropTableFirst=" + this.dropTableFirst + ", metadataStorageConfig=" + this.metadataStorageConfig + ")";
+            return "PgVectorEmbeddingStore.PgVectorEmbeddingStoreBuilder(host=" + this.host + ", port=" + this.port + ", user=" + this.user + ", password=" + this.password + ", database=" + this.database + ", table=" + this.table + ", dimension=" + this.dimension + ", useIndex=" + this.useIndex + ", indexType=" + this.indexType + ", indexListSize=" + this.indexListSize + ", hnswM=" + this.hnswM + ", hnswEfConstruction=" + this.hnswEfConstruction + ", hnswEfSearch=" + this.hnswEfSearch + ", ivfflatProbes=" + this.ivfflatProbes + ", useHalfVec=" + this.useHalfVec + ", createTable=" + this.createTable + ", dropTableFirst=" + this.dropTableFirst + ", metadataStorageConfig=" + this.metadataStorageConfig + ")";
         }
     }
 }
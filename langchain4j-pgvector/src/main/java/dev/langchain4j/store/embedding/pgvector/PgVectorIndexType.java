@@ -0,0 +1,22 @@
+package dev.langchain4j.store.embedding.pgvector;
+
+/**
+ * Type of the index created on the embedding column
+ * <ul>
+ * <li>IVFFLAT: divides vectors into lists, and then searches a subset of those lists closest to the query vector.
+ * <li>HNSW: creates a multilayer graph. Slower to build and uses more memory than IVFFLAT,
+ * but has better query performance (in terms of speed-recall tradeoff).
+ * </ul>
+ * <p>
+ * Default value: IVFFLAT
+ */
+public enum PgVectorIndexType {
+    /**
+     * IVFFLAT: <a href="https://github.com/pgvector/pgvector#ivfflat">IVFFlat</a> index, requires a number of lists.
+     */
+    IVFFLAT,
+    /**
+     * HNSW: <a href="https://github.com/pgvector/pgvector#hnsw">HNSW</a> index.
+     */
+    HNSW
+}
@@ -0,0 +1,208 @@
+package dev.langchain4j.store.embedding.pgvector;
+
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Percentage.withPercentage;
+import static org.testcontainers.shaded.org.apache.commons.lang3.RandomUtils.nextInt;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+class PgVectorEmbeddingHnswIndexedStoreIT extends EmbeddingStoreWithFilteringIT {
+
+    @Container
+    static PostgreSQLContainer<?> pgVector = new PostgreSQLContainer<>("pgvector/pgvector:pg15");
+
+    private final EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    private PgVectorEmbeddingStore embeddingStore;
+
+    @Override
+    protected void ensureStoreIsReady() {
+        embeddingStore = PgVectorEmbeddingStore.builder()
+                .host(pgVector.getHost())
+                .port(pgVector.getFirstMappedPort())
+                .user("test")
+                .password("test")
+                .database("test")
+                .table("test" + nextInt(1, 1000))
+                .dimension(embeddingModel.dimension())
+                .useIndex(true)
+                .indexType(PgVectorIndexType.HNSW)
+                .hnswM(16)
+                .hnswEfConstruction(64)
+                .hnswEfSearch(100)
+                .dropTableFirst(true)
+                .build();
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+
+    @Test
+    void should_copy_all_embeddings() {
+
+        TextSegment first = TextSegment.from("first\ttext\nwith \\ special characters", new Metadata().put("key", "a"));
+        TextSegment second = TextSegment.from("second text");
+        Embedding firstEmbedding = embeddingModel.embed(first).content();
+        Embedding secondEmbedding = embeddingModel.embed(second).content();
+        List<String> ids = List.of(randomUUID(), randomUUID());
+
+        embeddingStore.copyAll(ids, List.of(firstEmbedding, secondEmbedding), List.of(first, second));
+
+        List<EmbeddingMatch<TextSegment>> matches = embeddingStore.search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(firstEmbedding)
+                        .maxResults(2)
+                        .build())
+                .matches();
+        assertThat(matches).hasSize(2);
+        assertThat(matches.get(0).embeddingId()).isEqualTo(ids.get(0));
+        assertThat(matches.get(0).embedding()).isEqualTo(firstEmbedding);
+        assertThat(matches.get(0).embedded()).isEqualTo(first);
+        assertThat(matches.get(1).embeddingId()).isEqualTo(ids.get(1));
+        assertThat(matches.get(1).embedded()).isEqualTo(second);
+    }
+
+    @Test
+    void should_search_embeddings_stored_as_halfvec() {
+
+        PgVectorEmbeddingStore halfVecStore = PgVectorEmbeddingStore.builder()
+                .host(pgVector.getHost())
+                .port(pgVector.getFirstMappedPort())
+                .user("test")
+                .password("test")
+                .database("test")
+                .table("test_halfvec" + nextInt(1, 1000))
+                .dimension(embeddingModel.dimension())
+                .useIndex(true)
+                .indexType(PgVectorIndexType.HNSW)
+                .useHalfVec(true)
+                .dropTableFirst(true)
+                .build();
+
+        TextSegment segment = TextSegment.from("hello");
+        Embedding embedding = embeddingModel.embed(segment).content();
+        String id = halfVecStore.add(embedding, segment);
+
+        List<EmbeddingMatch<TextSegment>> matches = halfVecStore.search(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(embedding)
+                        .maxResults(1)
+                        .build())
+                .matches();
+        assertThat(matches).hasSize(1);
+        assertThat(matches.get(0).embeddingId()).isEqualTo(id);
+        assertThat(matches.get(0).score()).isCloseTo(1, withPercentage(0.1));
+        assertThat(matches.get(0).embedded()).isEqualTo(segment);
+    }
+
+    @Test
+    void should_apply_search_settings_within_transaction_of_caller() throws Exception {
+
+        // given
+        PGSimpleDataSource source = new PGSimpleDataSource();
+        source.setServerNames(new String[] {pgVector.getHost()});
+        source.setPortNumbers(new int[] {pgVector.getFirstMappedPort()});
+        source.setDatabaseName("test");
+        source.setUser("test");
+        source.setPassword("test");
+
+        try (Connection connection = source.getConnection()) {
+            // hands out the caller's connection, like a transaction-aware DataSource does
+            DataSource dataSource = singleConnectionDataSource(connection);
+            PgVectorEmbeddingStore store = PgVectorEmbeddingStore.datasourceBuilder()
+                    .datasource(dataSource)
+                    .table("test_transaction" + nextInt(1, 1000))
+                    .dimension(embeddingModel.dimension())
+                    .useIndex(true)
+                    .indexType(PgVectorIndexType.HNSW)
+                    .hnswEfSearch(100)
+                    .ivfflatProbes(7)
+                    .dropTableFirst(true)
+                    .build();
+
+            Embedding committed = embeddingModel.embed("committed").content();
+            store.add(committed);
+
+            connection.setAutoCommit(false);
+            store.add(embeddingModel.embed("not committed").content());
+
+            // when
+            List<EmbeddingMatch<TextSegment>> matches = store.search(EmbeddingSearchRequest.builder()
+                            .queryEmbedding(committed)
+                            .maxResults(10)
+                            .build())
+                    .matches();
+
+            // then
+            assertThat(matches).hasSize(2);
+            assertThat(connection.getAutoCommit()).isFalse();
+            assertThat(setting(connection, "hnsw.ef_search")).isEqualTo("100");
+            assertThat(setting(connection, "ivfflat.probes")).isEqualTo("7");
+
+            connection.rollback();
+            connection.setAutoCommit(true);
+            assertThat(setting(connection, "hnsw.ef_search")).isEqualTo("40");
+            assertThat(store.search(EmbeddingSearchRequest.builder()
+                            .queryEmbedding(committed)
+                            .maxResults(10)
+                            .build())
+                    .matches())
+                    .hasSize(1);
+        }
+    }
+
+    private static DataSource singleConnectionDataSource(Connection connection) {
+        Connection unclosableConnection = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (proxy, method, args) -> method.getName().equals("close") ? null : method.invoke(connection, args));
+        return (DataSource) Proxy.newProxyInstance(
+                DataSource.class.getClassLoader(),
+                new Class<?>[] {DataSource.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getConnection")) {
+                        return unclosableConnection;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static String setting(Connection connection, String name) throws Exception {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SHOW " + name)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package dev.langchain4j.store.embedding.qdrant;
 
 import static dev.langchain4j.internal.Utils.isNullOrEmpty;
 import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static io.qdrant.client.PointIdFactory.id;
 import static io.qdrant.client.ValueFactory.value;
 import static io.qdrant.client.VectorsFactory.vectors;
@@ -12,6 +13,10 @@ import static java.util.Comparator.comparingDouble;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
@@ -27,16 +32,20 @@ import io.qdrant.client.grpc.Points.PointStruct;
 import io.qdrant.client.grpc.Points.PointsSelector;
 import io.qdrant.client.grpc.Points.ScoredPoint;
 import io.qdrant.client.grpc.Points.SearchPoints;
+import io.qdrant.client.grpc.Points.UpdateResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import javax.annotation.Nullable;
 
@@ -44,14 +53,23 @@ import javax.annotation.Nullable;
  * Represents a <a href="https://qdrant.tech/">Qdrant</a> collection as an
  * embedding store. With
  * support for storing {@link dev.langchain4j.data.document.Metadata}.
+ * <p>
+ * {@link #addAll(List, List, List)} upserts points in batches of {@code upsertBatchSize} points,
+ * with up to {@code maxInFlightUpserts} batches being sent concurrently while the next batch is being built.
+ * As a consequence, if the same id is added more than once in a single call, it is not defined which
+ * of the points is stored.
  */
 public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
     private static final Logger log = LoggerFactory.getLogger(QdrantEmbeddingStore.class);
 
+  private static final int DEFAULT_UPSERT_BATCH_SIZE = 1000;
+  private static final int DEFAULT_MAX_IN_FLIGHT_UPSERTS = 4;
 
   private final QdrantClient client;
   private final String payloadTextKey;
   private final String collectionName;
+  private final int upsertBatchSize;
+  private final int maxInFlightUpserts;
 
   /**
    * @param collectionName The name of the Qdrant collection.
@@ -69,6 +87,30 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
       boolean useTls,
       String payloadTextKey,
       @Nullable String apiKey) {
+    this(collectionName, host, port, useTls, payloadTextKey, apiKey,
+        DEFAULT_UPSERT_BATCH_SIZE, DEFAULT_MAX_IN_FLIGHT_UPSERTS);
+  }
+
+  /**
+   * @param collectionName     The name of the Qdrant collection.
+   * @param host               The host of the Qdrant instance.
+   * @param port               The GRPC port of the Qdrant instance.
+   * @param useTls             Whether to use TLS(HTTPS).
+   * @param payloadTextKey     The field name of the text segment in the Qdrant
+   *                           payload.
+   * @param apiKey             The Qdrant API key to authenticate with.
+   * @param upsertBatchSize    The max number of points sent in a single upsert request.
+   * @param maxInFlightUpserts The max number of upsert requests sent concurrently.
+   */
+  public QdrantEmbeddingStore(
+      String collectionName,
+      String host,
+      int port,
+      boolean useTls,
+      String payloadTextKey,
+      @Nullable String apiKey,
+      int upsertBatchSize,
+      int maxInFlightUpserts) {
 
     QdrantGrpcClient.Builder grpcClientBuilder = QdrantGrpcClient.newBuilder(host, port, useTls);
 
@@ -79,6 +121,8 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
     this.client = new QdrantClient(grpcClientBuilder.build());
     this.collectionName = collectionName;
     this.payloadTextKey = payloadTextKey;
+    this.upsertBatchSize = ensureGreaterThanZero(upsertBatchSize, "upsertBatchSize");
+    this.maxInFlightUpserts = ensureGreaterThanZero(maxInFlightUpserts, "maxInFlightUpserts");
   }
 
   /**
@@ -88,9 +132,28 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
    *                       payload.
    */
   public QdrantEmbeddingStore(QdrantClient client, String collectionName, String payloadTextKey) {
+    this(client, collectionName, payloadTextKey, DEFAULT_UPSERT_BATCH_SIZE, DEFAULT_MAX_IN_FLIGHT_UPSERTS);
+  }
+
+  /**
+   * @param client             A Qdrant client instance.
+   * @param collectionName     The name of the Qdrant collection.
+   * @param payloadTextKey     The field name of the text segment in the Qdrant
+   *                           payload.
+   * @param upsertBatchSize    The max number of points sent in a single upsert request.
+   * @param maxInFlightUpserts The max number of upsert requests sent concurrently.
+   */
+  public QdrantEmbeddingStore(
+      QdrantClient client,
+      String collectionName,
+      String payloadTextKey,
+      int upsertBatchSize,
+      int maxInFlightUpserts) {
     this.client = client;
     this.collectionName = collectionName;
     this.payloadTextKey = payloadTextKey;
+    this.upsertBatchSize = ensureGreaterThanZero(upsertBatchSize, "upsertBatchSize");
+    this.maxInFlightUpserts = ensureGreaterThanZero(maxInFlightUpserts, "maxInFlightUpserts");
   }
 
   @Override
@@ -136,36 +199,55 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
          log.info("Empty embeddings - no ops");
          return;
     }
+    Deque<ListenableFuture<UpdateResult>> inFlightUpserts = new ArrayDeque<>(maxInFlightUpserts);
     try {
-      List<PointStruct> points = new ArrayList<>(embeddings.size());
+      for (int from = 0; from < embeddings.size(); from += upsertBatchSize) {
+        // the next batch is built while the previous ones are being sent
+        List<PointStruct> points = toPoints(ids, embeddings, textSegments, from,
+            Math.min(from + upsertBatchSize, embeddings.size()));
 
-      for (int i = 0; i < embeddings.size(); i++) {
+        if (inFlightUpserts.size() == maxInFlightUpserts) {
+          inFlightUpserts.removeFirst().get();
+        }
+        inFlightUpserts.addLast(client.upsertAsync(collectionName, points));
+      }
 
-        String id = ids.get(i);
-        UUID uuid = UUID.fromString(id);
-        Embedding embedding = embeddings.get(i);
+      while (!inFlightUpserts.isEmpty()) {
+        inFlightUpserts.removeFirst().get();
+      }
+    } catch (InterruptedException | ExecutionException e) {
+      inFlightUpserts.forEach(upsert -> upsert.cancel(true));
+      throw new RuntimeException(e);
+    }
+  }
 
-        PointStruct.Builder pointBuilder = PointStruct.newBuilder().setId(id(uuid))
-            .setVectors(vectors(embedding.vector()));
+  private List<PointStruct> toPoints(
+      List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments, int from, int to) {
+    List<PointStruct> points = new ArrayList<>(to - from);
 
-        if (textSegments != null) {
-          Map<String, Object> metadata = textSegments
-              .get(i)
-              .metadata()
-              .toMap();
+    for (int i = from; i < to; i++) {
 
-          Map<String, Value> payload = ValueMapFactory.valueMap(metadata);
-          payload.put(payloadTextKey, value(textSegments.get(i).text()));
-          pointBuilder.putAllPayload(payload);
-        }
+      String id = ids.get(i);
+      UUID uuid = UUID.fromString(id);
+      Embedding embedding = embeddings.get(i);
 
-        points.add(pointBuilder.build());
+      PointStruct.Builder pointBuilder = PointStruct.newBuilder().setId(id(uuid))
+          .setVectors(vectors(embedding.vector()));
+
+      if (textSegments != null) {
+        Map<String, Object> metadata = textSegments
+            .get(i)
+            .metadata()
+            .toMap();
+
+        Map<String, Value> payload = ValueMapFactory.valueMap(metadata);
+        payload.put(payloadTextKey, value(textSegments.get(i).text()));
+        pointBuilder.putAllPayload(payload);
       }
 
-      client.upsertAsync(collectionName, points).get();
-    } catch (InterruptedException | ExecutionException e) {
-      throw new RuntimeException(e);
+      points.add(pointBuilder.build());
     }
+    return points;
   }
 
   @Override
@@ -230,6 +312,32 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
   @Override
   public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
 
+    List<ScoredPoint> results;
+
+    try {
+      results = client.searchAsync(toSearchPoints(request)).get();
+    } catch (InterruptedException | ExecutionException e) {
+      throw new RuntimeException(e);
+    }
+
+    return toSearchResult(results, request);
+  }
+
+  /**
+   * Searches for the most similar (closest in the embedding space) {@link Embedding}s,
+   * without blocking the calling thread.
+   *
+   * @param request A request to search in an {@link EmbeddingStore}. Contains all search criteria.
+   * @return A {@link CompletableFuture} completed with an {@link EmbeddingSearchResult} containing all found
+   * {@link Embedding}s, or completed exceptionally if the search fails.
+   * Cancelling it cancels the underlying GRPC call.
+   */
+  public CompletableFuture<EmbeddingSearchResult<TextSegment>> searchAsync(EmbeddingSearchRequest request) {
+    return toCompletableFuture(client.searchAsync(toSearchPoints(request)))
+        .thenApply(results -> toSearchResult(results, request));
+  }
+
+  private SearchPoints toSearchPoints(EmbeddingSearchRequest request) {
     SearchPoints.Builder searchBuilder = SearchPoints.newBuilder()
         .setCollectionName(collectionName)
         .addAllVector(request.queryEmbedding().vectorAsList())
@@ -242,14 +350,11 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
       searchBuilder.setFilter(filter);
     }
 
-    List<ScoredPoint> results;
-
-    try {
-      results = client.searchAsync(searchBuilder.build()).get();
-    } catch (InterruptedException | ExecutionException e) {
-      throw new RuntimeException(e);
-    }
+    return searchBuilder.build();
+  }
 
+  private EmbeddingSearchResult<TextSegment> toSearchResult(
+      List<ScoredPoint> results, EmbeddingSearchRequest request) {
     if (results.isEmpty()) {
       return new EmbeddingSearchResult<>(emptyList());
     }
@@ -284,6 +389,28 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
     }
   }
 
+  private static <T> CompletableFuture<T> toCompletableFuture(ListenableFuture<T> listenableFuture) {
+    CompletableFuture<T> completableFuture = new CompletableFuture<>() {
+      @Override
+      public boolean cancel(boolean mayInterruptIfRunning) {
+        listenableFuture.cancel(mayInterruptIfRunning);
+        return super.cancel(mayInterruptIfRunning);
+      }
+    };
+    Futures.addCallback(listenableFuture, new FutureCallback<>() {
+      @Override
+      public void onSuccess(T result) {
+        completableFuture.complete(result);
+      }
+
+      @Override
+      public void onFailure(Throwable t) {
+        completableFuture.completeExceptionally(t);
+      }
+    }, MoreExecutors.directExecutor());
+    return completableFuture;
+  }
+
   /** Closes the underlying GRPC client. */
   public void close() {
     client.close();
@@ -324,6 +451,8 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
     private String payloadTextKey = "text_segment";
     private String apiKey = null;
     private QdrantClient client = null;
+    private int upsertBatchSize = DEFAULT_UPSERT_BATCH_SIZE;
+    private int maxInFlightUpserts = DEFAULT_MAX_IN_FLIGHT_UPSERTS;
 
     /**
      * @param host The host of the Qdrant instance. Defaults to "localhost".
@@ -386,13 +515,31 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
       return this;
     }
 
+    /**
+     * @param upsertBatchSize The max number of points sent in a single upsert request. Defaults to 1000.
+     */
+    public Builder upsertBatchSize(int upsertBatchSize) {
+      this.upsertBatchSize = upsertBatchSize;
+      return this;
+    }
+
+    /**
+     * @param maxInFlightUpserts The max number of upsert requests sent concurrently by
+     *                           {@link QdrantEmbeddingStore#addAll(List, List, List)}. Defaults to 4.
+     */
+    public Builder maxInFlightUpserts(int maxInFlightUpserts) {
+      this.maxInFlightUpserts = maxInFlightUpserts;
+      return this;
+    }
+
     public QdrantEmbeddingStore build() {
       Objects.requireNonNull(collectionName, "collectionName cannot be null");
 
       if (client != null) {
-        return new QdrantEmbeddingStore(client, collectionName, payloadTextKey);
+        return new QdrantEmbeddingStore(client, collectionName, payloadTextKey, upsertBatchSize, maxInFlightUpserts);
       }
-      return new QdrantEmbeddingStore(collectionName, host, port, useTls, payloadTextKey, apiKey);
+      return new QdrantEmbeddingStore(
+          collectionName, host, port, useTls, payloadTextKey, apiKey, upsertBatchSize, maxInFlightUpserts);
     }
   }
 }
@@ -2,11 +2,15 @@ package dev.langchain4j.store.embedding.qdrant;
 
 import static dev.langchain4j.internal.Utils.randomUUID;
 import static io.qdrant.client.grpc.Collections.Distance.Cosine;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
 import dev.langchain4j.store.embedding.filter.Filter;
@@ -25,9 +29,11 @@ import java.lang.reflect.Method;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -89,6 +95,43 @@ class QdrantEmbeddingStoreIT extends EmbeddingStoreWithFilteringIT {
         EMBEDDING_STORE.clearStore();
     }
 
+    @Test
+    void should_upsert_in_batches_and_search_asynchronously() throws Exception {
+
+        QdrantEmbeddingStore batchingStore = QdrantEmbeddingStore.builder()
+                .host(QDRANT_CONTAINER.getHost())
+                .port(QDRANT_CONTAINER.getGrpcPort())
+                .collectionName(COLLECTION_NAME)
+                .upsertBatchSize(3)
+                .maxInFlightUpserts(2)
+                .build();
+
+        try {
+            List<TextSegment> segments = IntStream.range(0, 10)
+                    .mapToObj(i -> TextSegment.from("segment " + i))
+                    .toList();
+            List<Embedding> embeddings =
+                    EMBEDDING_MODEL.embedAll(segments).content();
+            List<String> ids = segments.stream().map(ignored -> randomUUID()).toList();
+
+            batchingStore.addAll(ids, embeddings, segments);
+
+            List<EmbeddingMatch<TextSegment>> matches = batchingStore
+                    .searchAsync(EmbeddingSearchRequest.builder()
+                            .queryEmbedding(embeddings.get(7))
+                            .maxResults(10)
+                            .build())
+                    .get()
+                    .matches();
+            assertThat(matches).hasSize(10);
+            assertThat(matches.get(0).embeddingId()).isEqualTo(ids.get(7));
+            assertThat(matches.get(0).embedded()).isEqualTo(segments.get(7));
+            assertThat(matches).extracting(EmbeddingMatch::embeddingId).containsExactlyInAnyOrderElementsOf(ids);
+        } finally {
+            batchingStore.close();
+        }
+    }
+
     @Override
     @ParameterizedTest
     @MethodSource("should_filter_by_metadata_not_qdrant")
@@ -3,18 +3,20 @@ package dev.langchain4j.classification;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
-import dev.langchain4j.store.embedding.CosineSimilarity;
 import dev.langchain4j.store.embedding.RelevanceScore;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.internal.VectorMath.dotProduct;
+import static dev.langchain4j.store.embedding.CosineSimilarity.EPSILON;
 import static java.util.Comparator.comparingDouble;
 import static java.util.stream.Collectors.toList;
 
@@ -24,6 +26,10 @@ import static java.util.stream.Collectors.toList;
  * The classification quality improves with a greater number of examples for each label.
  * Examples can be easily generated with the help of an LLM.
  * <p>
+ * The embeddings of the examples are normalized once, when the classifier is created,
+ * so each classification only computes one dot product per example.
+ * Use {@link #classifyAll(List)} or {@link #classifyAllWithScores(List)} to classify many texts at once.
+ * <p>
  * Example:
  * <pre>{@code
  * enum Sentiment {
@@ -49,7 +55,15 @@ import static java.util.stream.Collectors.toList;
 public class EmbeddingModelTextClassifier<L> implements TextClassifier<L> {
 
     private final EmbeddingModel embeddingModel;
-    private final Map<L, List<Embedding>> exampleEmbeddingsByLabel;
+    private final List<L> labels;
+    /**
+     * The normalized embeddings of all examples, one after another, grouped by label.
+     * The examples of the label at index {@code i} are the rows from {@code labelOffsets[i]}
+     * (inclusive) to {@code labelOffsets[i + 1]} (exclusive).
+     */
+    private final float[] exampleVectors;
+    private final int[] labelOffsets;
+    private final int dimension;
     private final int maxResults;
     private final double minScore;
     private final double meanToMaxScoreRatio;
@@ -96,14 +110,37 @@ public class EmbeddingModelTextClassifier<L> implements TextClassifier<L> {
         this.embeddingModel = ensureNotNull(embeddingModel, "embeddingModel");
         ensureNotNull(examplesByLabel, "examplesByLabel");
 
-        this.exampleEmbeddingsByLabel = new HashMap<>();
-        examplesByLabel.forEach((label, examples) ->
-                exampleEmbeddingsByLabel.put(label, embeddingModel.embedAll(
-                        examples.stream()
-                                .map(TextSegment::from)
-                                .collect(toList())).content()
-                )
-        );
+        this.labels = new ArrayList<>(examplesByLabel.size());
+        List<List<Embedding>> exampleEmbeddings = new ArrayList<>(examplesByLabel.size());
+        examplesByLabel.forEach((label, examples) -> {
+            labels.add(label);
+            exampleEmbeddings.add(embeddingModel.embedAll(
+                    examples.stream()
+                            .map(TextSegment::from)
+                            .collect(toList())).content()
+            );
+        });
+
+        this.dimension = exampleEmbeddings.stream()
+                .flatMap(List::stream)
+                .findFirst()
+                .map(Embedding::dimension)
+                .orElse(0);
+        this.labelOffsets = new int[labels.size() + 1];
+        this.exampleVectors = new float[exampleEmbeddings.stream().mapToInt(List::size).sum() * dimension];
+        int row = 0;
+        for (int i = 0; i < exampleEmbeddings.size(); i++) {
+            labelOffsets[i] = row;
+            for (Embedding exampleEmbedding : exampleEmbeddings.get(i)) {
+                if (exampleEmbedding.dimension() != dimension) {
+                    throw illegalArgument("All example embeddings must have the same length, but found %s and %s",
+                            dimension, exampleEmbedding.dimension());
+                }
+                normalize(exampleEmbedding.vector(), exampleVectors, row * dimension);
+                row++;
+            }
+        }
+        labelOffsets[labels.size()] = row;
 
         this.maxResults = ensureGreaterThanZero(maxResults, "maxResults");
         this.minScore = ensureBetween(minScore, 0.0, 1.0, "minScore");
@@ -112,38 +149,109 @@ public class EmbeddingModelTextClassifier<L> implements TextClassifier<L> {
 
     @Override
     public ClassificationResult<L> classifyWithScores(String text) {
-
         Embedding textEmbedding = embeddingModel.embed(text).content();
+        return classifyWithScores(List.of(textEmbedding)).get(0);
+    }
 
-        List<ScoredLabel<L>> scoredLabels = new ArrayList<>();
-        exampleEmbeddingsByLabel.forEach((label, exampleEmbeddings) -> {
+    /**
+     * Classifies the given texts and returns labels with scores.
+     * All the texts are embedded with a single {@link EmbeddingModel#embedAll(List)} call,
+     * and scored together against the examples.
+     *
+     * @param texts Texts to classify.
+     * @return a result object for each text, in the same order as the texts.
+     */
+    @Override
+    public List<ClassificationResult<L>> classifyAllWithScores(List<String> texts) {
+        ensureNotNull(texts, "texts");
+        if (texts.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Embedding> textEmbeddings = embeddingModel.embedAll(
+                texts.stream()
+                        .map(TextSegment::from)
+                        .collect(toList())).content();
 
-            double meanScore = 0;
-            double maxScore = 0;
-            for (Embedding exampleEmbedding : exampleEmbeddings) {
-                double cosineSimilarity = CosineSimilarity.between(textEmbedding, exampleEmbedding);
-                double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
-                meanScore += score;
-                maxScore = Math.max(score, maxScore);
+        return classifyWithScores(textEmbeddings);
+    }
+
+    private List<ClassificationResult<L>> classifyWithScores(List<Embedding> textEmbeddings) {
+
+        int textCount = textEmbeddings.size();
+        if (exampleVectors.length == 0) {
+            // without examples, no label can be scored
+            return textEmbeddings.stream()
+                    .map(textEmbedding -> new ClassificationResult<L>(new ArrayList<>()))
+                    .collect(toList());
+        }
+
+        float[] textVectors = new float[textCount * dimension];
+        for (int t = 0; t < textCount; t++) {
+            float[] textVector = textEmbeddings.get(t).vector();
+            if (textVector.length != dimension) {
+                throw illegalArgument("Length of the text embedding (%s) must be equal to the length of the example embeddings (%s)",
+                        textVector.length, dimension);
             }
-            meanScore /= exampleEmbeddings.size();
+            normalize(textVector, textVectors, t * dimension);
+        }
+
+        List<List<ScoredLabel<L>>> scoredLabels = new ArrayList<>(textCount);
+        for (int t = 0; t < textCount; t++) {
+            scoredLabels.add(new ArrayList<>());
+        }
 
-            double aggregateScore = aggregatedScore(meanScore, maxScore);
-            if (aggregateScore >= minScore) {
-                scoredLabels.add(new ScoredLabel<>(label, aggregateScore));
+        double[] cosineSimilaritySums = new double[textCount];
+        double[] maxCosineSimilarities = new double[textCount];
+        for (int i = 0; i < labels.size(); i++) {
+            Arrays.fill(cosineSimilaritySums, 0);
+            Arrays.fill(maxCosineSimilarities, -1);
+
+            // each example is read once for all the texts
+            for (int row = labelOffsets[i]; row < labelOffsets[i + 1]; row++) {
+                for (int t = 0; t < textCount; t++) {
+                    double cosineSimilarity = dotProduct(exampleVectors, row * dimension, textVectors, t * dimension, dimension);
+                    cosineSimilaritySums[t] += cosineSimilarity;
+                    maxCosineSimilarities[t] = Math.max(cosineSimilarity, maxCosineSimilarities[t]);
+                }
             }
-        });
 
-        return new ClassificationResult<>(
-                scoredLabels.stream()
-                        // sorting in descending order to return highest score first
-                        .sorted(comparingDouble(classificationResult -> 1 - classificationResult.score()))
-                        .limit(maxResults)
-                        .collect(toList())
-        );
+            int exampleCount = labelOffsets[i + 1] - labelOffsets[i];
+            for (int t = 0; t < textCount; t++) {
+                double meanScore = RelevanceScore.fromCosineSimilarity(cosineSimilaritySums[t] / exampleCount);
+                double maxScore = RelevanceScore.fromCosineSimilarity(maxCosineSimilarities[t]);
+
+                double aggregateScore = aggregatedScore(meanScore, maxScore);
+                if (aggregateScore >= minScore) {
+                    scoredLabels.get(t).add(new ScoredLabel<>(labels.get(i), aggregateScore));
+                }
+            }
+        }
+
+        return scoredLabels.stream()
+                .map(labelsOfText -> new ClassificationResult<>(
+                        labelsOfText.stream()
+                                // sorting in descending order to return highest score first
+                                .sorted(comparingDouble(classificationResult -> 1 - classificationResult.score()))
+                                .limit(maxResults)
+                                .collect(toList())
+                ))
+                .collect(toList());
     }
 
     private double aggregatedScore(double meanScore, double maxScore) {
         return (meanToMaxScoreRatio * meanScore) + ((1 - meanToMaxScoreRatio) * maxScore);
     }
+
+    /**
+     * Copies the vector to the given position of the target, scaled to unit length.
+     * All-zeros vectors stay all-zeros, so they are orthogonal to all other vectors.
+     */
+    private static void normalize(float[] vector, float[] target, int offset) {
+        double norm = Math.sqrt(dotProduct(vector, 0, vector, 0, vector.length));
+        double scale = 1 / Math.max(norm, EPSILON);
+        for (int i = 0; i < vector.length; i++) {
+            target[offset + i] = (float) (vector[i] * scale);
+        }
+    }
 }
@@ -47,6 +47,21 @@ public interface TextClassifier<L> {
         return classify(document.text());
     }
 
+    /**
+     * Classifies the given texts.
+     *
+     * @param texts Texts to classify.
+     * @return A list of labels for each text, in the same order as the texts.
+     * Each list can contain zero, one, or multiple labels.
+     */
+    default List<List<L>> classifyAll(List<String> texts) {
+        return classifyAllWithScores(texts).stream()
+                .map(classificationResult -> classificationResult.scoredLabels().stream()
+                        .map(ScoredLabel::label)
+                        .collect(toList()))
+                .collect(toList());
+    }
+
     /**
      * Classifies the given text and returns labels with scores.
      *
@@ -77,4 +92,17 @@ public interface TextClassifier<L> {
     default ClassificationResult<L> classifyWithScores(Document document) {
         return classifyWithScores(document.text());
     }
+
+    /**
+     * Classifies the given texts and returns labels with scores.
+     * By default, the texts are classified one by one.
+     *
+     * @param texts Texts to classify.
+     * @return a result object for each text, in the same order as the texts.
+     */
+    default List<ClassificationResult<L>> classifyAllWithScores(List<String> texts) {
+        return texts.stream()
+                .map(this::classifyWithScores)
+                .collect(toList());
+    }
 }
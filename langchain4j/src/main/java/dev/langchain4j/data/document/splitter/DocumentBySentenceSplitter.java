@@ -17,6 +17,8 @@ import java.io.InputStream;
  * For token-based limit, a {@link Tokenizer} must be provided.
  * <p>
  * Sentence boundaries are detected using the Apache OpenNLP library with the English sentence model.
+ * The model is loaded once, when it is first needed, and shared by all instances.
+ * Each thread uses its own sentence detector, so an instance can be used by multiple threads concurrently.
  * <p>
  * If multiple sentences fit within {@code maxSegmentSize}, they are joined together using a space (" ").
  * <p>
@@ -30,26 +32,25 @@ import java.io.InputStream;
  */
 public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
 
-    private final SentenceModel sentenceModel;
+    // SentenceModel is thread-safe, SentenceDetectorME is not
+    private static final ThreadLocal<SentenceDetectorME> SENTENCE_DETECTOR =
+            ThreadLocal.withInitial(() -> new SentenceDetectorME(SentenceModelHolder.SENTENCE_MODEL));
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInChars,
                                       int maxOverlapSizeInChars) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, null);
-        this.sentenceModel = createSentenceModel();
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInChars,
                                       int maxOverlapSizeInChars,
                                       DocumentSplitter subSplitter) {
         super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, subSplitter);
-        this.sentenceModel = createSentenceModel();
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInTokens,
                                       int maxOverlapSizeInTokens,
                                       Tokenizer tokenizer) {
         super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenizer, null);
-        this.sentenceModel = createSentenceModel();
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInTokens,
@@ -57,22 +58,15 @@ public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
                                       Tokenizer tokenizer,
                                       DocumentSplitter subSplitter) {
         super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenizer, subSplitter);
-        this.sentenceModel = createSentenceModel();
-    }
-
-    private SentenceModel createSentenceModel() {
-        String sentenceModelFilePath = "/opennlp/opennlp-en-ud-ewt-sentence-1.0-1.9.3.bin";
-        try (InputStream is = getClass().getResourceAsStream(sentenceModelFilePath)) {
-            return new SentenceModel(is);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
     }
 
     @Override
     public String[] split(String text) {
-        SentenceDetectorME sentenceDetector = new SentenceDetectorME(sentenceModel);
-        return sentenceDetector.sentDetect(text);
+        return splitIntoSentences(text);
+    }
+
+    static String[] splitIntoSentences(String text) {
+        return SENTENCE_DETECTOR.get().sentDetect(text);
     }
 
     @Override
@@ -84,4 +78,21 @@ public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
     protected DocumentSplitter defaultSubSplitter() {
         return new DocumentByWordSplitter(maxSegmentSize, maxOverlapSize, tokenizer);
     }
+
+    /**
+     * Loads the sentence model lazily, the first time a sentence is detected, and only once per class loader.
+     */
+    private static class SentenceModelHolder {
+
+        private static final SentenceModel SENTENCE_MODEL = createSentenceModel();
+
+        private static SentenceModel createSentenceModel() {
+            String sentenceModelFilePath = "/opennlp/opennlp-en-ud-ewt-sentence-1.0-1.9.3.bin";
+            try (InputStream is = DocumentBySentenceSplitter.class.getResourceAsStream(sentenceModelFilePath)) {
+                return new SentenceModel(is);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
 }
@@ -24,14 +24,6 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  * when a single segment is too long.
  */
 public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
-    private HierarchicalDocumentSplitter overlapSentenceSplitter;
-
-    private HierarchicalDocumentSplitter getOverlapSentenceSplitter() {
-        if (overlapSentenceSplitter == null) {
-            overlapSentenceSplitter = new DocumentBySentenceSplitter(1, 0, null, null);
-        }
-        return overlapSentenceSplitter;
-    }
 
     private static final String INDEX = "index";
 
@@ -122,7 +114,7 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
         ensureNotNull(document, "document");
 
         List<TextSegment> segments = new ArrayList<>();
-        SegmentBuilder segmentBuilder = new SegmentBuilder(maxSegmentSize, this::estimateSize, joinDelimiter());
+        SegmentBuilder segmentBuilder = createSegmentBuilder(maxSegmentSize);
         AtomicInteger index = new AtomicInteger(0);
 
         String[] parts = split(document.text());
@@ -132,7 +124,7 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
 
             if (segmentBuilder.hasSpaceFor(partSize)) {
                 // The part fits in the current segment, so we append it.
-                segmentBuilder.append(part);
+                segmentBuilder.append(part, partSize);
                 continue;
             }
 
@@ -149,7 +141,7 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
 
                     if (segmentBuilder.hasSpaceFor(partSize)) {
                         // The part fits in the current segment, so we append it.
-                        segmentBuilder.append(part);
+                        segmentBuilder.append(part, partSize);
                         continue;
                     }
                 }
@@ -161,14 +153,14 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
                         "The text \"%s...\" (%s %s long) doesn't fit into the maximum segment size (%s %s), " +
                                 "and there is no subSplitter defined to split it further.",
                         firstChars(part, 30),
-                        estimateSize(part), tokenizer == null ? "characters" : "tokens",
+                        partSize, tokenizer == null ? "characters" : "tokens",
                         maxSegmentSize, tokenizer == null ? "characters" : "tokens"
 
                 ));
             }
 
             // Delegate the splitting of the part to the sub-splitter.
-            segmentBuilder.append(part);
+            segmentBuilder.append(part, partSize);
             for (TextSegment segment : subSplitter.split(Document.from(segmentBuilder.toString()))) {
                 segments.add(createSegment(segment.text(), document, index.getAndIncrement()));
             }
@@ -180,8 +172,11 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
             segmentBuilder.append(overlap);
         }
 
-        if (segmentBuilder.isNotEmpty() && !segmentBuilder.toString().equals(overlap)) {
-            segments.add(createSegment(segmentBuilder.toString(), document, index.getAndIncrement()));
+        if (segmentBuilder.isNotEmpty()) {
+            String segmentText = segmentBuilder.toString();
+            if (!segmentText.equals(overlap)) {
+                segments.add(createSegment(segmentText, document, index.getAndIncrement()));
+            }
         }
 
         return segments;
@@ -199,13 +194,14 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
         }
 
         // always split by sentence, as it is the smallest meaningful unit of text
-        List<String> sentences = Arrays.asList(getOverlapSentenceSplitter().split(segmentText));
+        List<String> sentences = Arrays.asList(DocumentBySentenceSplitter.splitIntoSentences(segmentText));
         Collections.reverse(sentences);
 
-        SegmentBuilder overlapBuilder = new SegmentBuilder(maxOverlapSize, this::estimateSize, joinDelimiter());
+        SegmentBuilder overlapBuilder = createSegmentBuilder(maxOverlapSize);
         for (String sentence : sentences) {
-            if (overlapBuilder.hasSpaceFor(sentence)) {
-                overlapBuilder.prepend(sentence);
+            int sentenceSize = overlapBuilder.sizeOf(sentence);
+            if (overlapBuilder.hasSpaceFor(sentenceSize)) {
+                overlapBuilder.prepend(sentence, sentenceSize);
             } else {
                 break;
             }
@@ -213,6 +209,15 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
         return overlapBuilder.toString();
     }
 
+    /**
+     * Creates a {@link SegmentBuilder} that joins parts with the {@link #joinDelimiter()}.
+     * Sizes in characters are additive, so the builder does not need to re-measure the joined text
+     * after each part, as it does for sizes in tokens.
+     */
+    private SegmentBuilder createSegmentBuilder(int maxSize) {
+        return new SegmentBuilder(maxSize, this::estimateSize, tokenizer == null, joinDelimiter());
+    }
+
     /**
      * Estimates the size in the provided text.
      *
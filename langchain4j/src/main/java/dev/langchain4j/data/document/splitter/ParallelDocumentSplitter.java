@@ -0,0 +1,90 @@
+package dev.langchain4j.data.document.splitter;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.segment.TextSegment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link DocumentSplitter} that splits multiple documents in parallel, delegating to another {@link DocumentSplitter}.
+ * <p>
+ * {@link #splitAll(List)} splits each document on the configured {@link Executor}
+ * ({@link ForkJoinPool#commonPool()} by default) and returns the segments in the same order
+ * as a sequential {@link DocumentSplitter#splitAll(List)} would.
+ * Since each document is split independently, segment metadata (such as the {@code index} of a segment
+ * within its document) is the same as well.
+ * {@link #split(Document)} simply delegates to the wrapped splitter.
+ * <p>
+ * The wrapped splitter must be thread-safe. All splitters in this package are.
+ * <p>
+ * This is useful, for example, to use all CPU cores during the split phase of an {@code EmbeddingStoreIngestor}:
+ * <pre>
+ * EmbeddingStoreIngestor.builder()
+ *         .documentSplitter(new ParallelDocumentSplitter(DocumentSplitters.recursive(300, 0)))
+ *         ...
+ * </pre>
+ */
+public class ParallelDocumentSplitter implements DocumentSplitter {
+
+    private final DocumentSplitter documentSplitter;
+    private final Executor executor;
+
+    /**
+     * Creates a new instance of {@link ParallelDocumentSplitter} that uses {@link ForkJoinPool#commonPool()}.
+     *
+     * @param documentSplitter The splitter to split each document with.
+     */
+    public ParallelDocumentSplitter(DocumentSplitter documentSplitter) {
+        this(documentSplitter, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new instance of {@link ParallelDocumentSplitter}.
+     *
+     * @param documentSplitter The splitter to split each document with.
+     * @param executor         The executor to split documents on, for example, a dedicated {@link ForkJoinPool}.
+     */
+    public ParallelDocumentSplitter(DocumentSplitter documentSplitter, Executor executor) {
+        this.documentSplitter = ensureNotNull(documentSplitter, "documentSplitter");
+        this.executor = ensureNotNull(executor, "executor");
+    }
+
+    @Override
+    public List<TextSegment> split(Document document) {
+        return documentSplitter.split(document);
+    }
+
+    @Override
+    public List<TextSegment> splitAll(List<Document> documents) {
+        if (documents.size() <= 1) {
+            return documentSplitter.splitAll(documents);
+        }
+
+        List<CompletableFuture<List<TextSegment>>> futures = new ArrayList<>(documents.size());
+        for (Document document : documents) {
+            futures.add(CompletableFuture.supplyAsync(() -> documentSplitter.split(document), executor));
+        }
+
+        List<TextSegment> segments = new ArrayList<>();
+        try {
+            for (CompletableFuture<List<TextSegment>> future : futures) {
+                segments.addAll(future.join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+        return segments;
+    }
+}
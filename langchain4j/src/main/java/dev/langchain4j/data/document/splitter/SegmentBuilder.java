@@ -1,5 +1,7 @@
 package dev.langchain4j.data.document.splitter;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
@@ -7,14 +9,23 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 /**
  * Segment builder utility class for HierarchicalDocumentSplitter.
+ * <p>
+ * The appended texts are only referenced, and joined once, when {@link #toString()} is called.
+ * When the size function is additive (the size of joined texts is the sum of their sizes,
+ * as when counting characters), the size of the segment is maintained incrementally.
+ * Otherwise (for example, when counting tokens), it is computed on the joined texts when it is needed.
  */
 class SegmentBuilder {
     private final int maxSegmentSize;
     private final Function<String, Integer> sizeFunction;
+    private final boolean additiveSize;
     private final String joinSeparator;
     private final int joinSeparatorSize;
-    private String segment = "";
+    private final List<String> texts = new ArrayList<>();
+    private int length = 0;
     private int segmentSize = 0;
+    private boolean segmentSizeValid = true;
+    private String segment = "";
 
     /**
      * Creates a new instance of {@link SegmentBuilder}.
@@ -24,8 +35,24 @@ class SegmentBuilder {
      * @param joinSeparator  The separator to use when joining multiple texts into a single segment.
      */
     public SegmentBuilder(int maxSegmentSize, Function<String, Integer> sizeFunction, String joinSeparator) {
+        this(maxSegmentSize, sizeFunction, false, joinSeparator);
+    }
+
+    /**
+     * Creates a new instance of {@link SegmentBuilder}.
+     *
+     * @param maxSegmentSize The maximum size of a segment.
+     * @param sizeFunction   The function to use to estimate the size of a text.
+     * @param additiveSize   Whether the size of joined texts is the sum of the sizes of the texts and separators.
+     * @param joinSeparator  The separator to use when joining multiple texts into a single segment.
+     */
+    public SegmentBuilder(int maxSegmentSize,
+                          Function<String, Integer> sizeFunction,
+                          boolean additiveSize,
+                          String joinSeparator) {
         this.maxSegmentSize = ensureGreaterThanZero(maxSegmentSize, "maxSegmentSize");
         this.sizeFunction = ensureNotNull(sizeFunction, "sizeFunction");
+        this.additiveSize = additiveSize;
         this.joinSeparator = ensureNotNull(joinSeparator, "joinSeparator");
         this.joinSeparatorSize = sizeOf(joinSeparator);
     }
@@ -36,6 +63,10 @@ class SegmentBuilder {
      * @return The current size of the segment.
      */
     public int getSize() {
+        if (!segmentSizeValid) {
+            segmentSize = sizeOf(join());
+            segmentSizeValid = true;
+        }
         return segmentSize;
     }
 
@@ -46,11 +77,7 @@ class SegmentBuilder {
      * @return {@code true} if the provided text can be added to the current segment.
      */
     public boolean hasSpaceFor(String text) {
-        int totalSize = sizeOf(text);
-        if (isNotEmpty()) {
-            totalSize += segmentSize + joinSeparatorSize;
-        }
-        return totalSize <= maxSegmentSize;
+        return hasSpaceFor(sizeOf(text));
     }
 
     /**
@@ -62,7 +89,7 @@ class SegmentBuilder {
     public boolean hasSpaceFor(int size) {
         int totalSize = size;
         if (isNotEmpty()) {
-            totalSize += segmentSize + joinSeparatorSize;
+            totalSize += getSize() + joinSeparatorSize;
         }
         return totalSize <= maxSegmentSize;
     }
@@ -83,11 +110,17 @@ class SegmentBuilder {
      * @param text The text to append.
      */
     public void append(String text) {
-        if (isNotEmpty()) {
-            segment += joinSeparator;
-        }
-        segment += text;
-        segmentSize = sizeOf(segment);
+        append(text, additiveSize ? sizeOf(text) : -1);
+    }
+
+    /**
+     * Appends the provided text, whose size is already known, to the current segment.
+     *
+     * @param text     The text to append.
+     * @param textSize The size of the text, as returned by {@link #sizeOf(String)}.
+     */
+    public void append(String text, int textSize) {
+        add(texts.size(), text, textSize);
     }
 
     /**
@@ -96,12 +129,38 @@ class SegmentBuilder {
      * @param text The text to prepend.
      */
     public void prepend(String text) {
+        prepend(text, additiveSize ? sizeOf(text) : -1);
+    }
+
+    /**
+     * Prepends the provided text, whose size is already known, to the current segment.
+     *
+     * @param text     The text to prepend.
+     * @param textSize The size of the text, as returned by {@link #sizeOf(String)}.
+     */
+    public void prepend(String text, int textSize) {
+        add(0, text, textSize);
+    }
+
+    private void add(int position, String text, int textSize) {
         if (isNotEmpty()) {
-            segment = text + joinSeparator + segment;
+            length += joinSeparator.length();
+            if (additiveSize) {
+                segmentSize += joinSeparatorSize;
+            }
         } else {
-            segment = text;
+            // texts can only contain empty strings here, which must not be joined with a separator
+            texts.clear();
+            position = 0;
         }
-        segmentSize = sizeOf(segment);
+        texts.add(position, text);
+        length += text.length();
+        if (additiveSize) {
+            segmentSize += textSize;
+        } else {
+            segmentSizeValid = false;
+        }
+        segment = null;
     }
 
     /**
@@ -110,19 +169,36 @@ class SegmentBuilder {
      * @return {@code true} if the current segment is not empty.
      */
     public boolean isNotEmpty() {
-        return !segment.isEmpty();
+        return length > 0;
     }
 
     @Override
     public String toString() {
-        return segment.trim();
+        return join().trim();
+    }
+
+    private String join() {
+        if (segment == null) {
+            StringBuilder sb = new StringBuilder(length);
+            for (int i = 0; i < texts.size(); i++) {
+                if (i > 0) {
+                    sb.append(joinSeparator);
+                }
+                sb.append(texts.get(i));
+            }
+            segment = sb.toString();
+        }
+        return segment;
     }
 
     /**
      * Resets the current segment.
      */
     public void reset() {
-        segment = "";
+        texts.clear();
+        length = 0;
         segmentSize = 0;
+        segmentSizeValid = true;
+        segment = "";
     }
 }
@@ -12,12 +12,18 @@ import dev.langchain4j.store.memory.chat.ChatMemoryStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Collections.singletonList;
 
 /**
  * This chat memory operates as a sliding window of {@link #maxTokens} tokens.
@@ -46,6 +52,15 @@ public class TokenWindowChatMemory implements ChatMemory {
     private final Tokenizer tokenizer;
     private final ChatMemoryStore store;
 
+    // The messages of the store, with their token counts, as of the last read or write.
+    // Since the tokenizer never changes, a message is tokenized only once, when it is added or first read.
+    private final Deque<TokenCountedMessage> window = new ArrayDeque<>();
+    private int windowTokenCount;
+    // The list last written to or read from the store, which the window reflects.
+    // In-memory stores return the list they were given, so the window is usually validated by identity alone.
+    private List<ChatMessage> windowSource;
+    private Integer extraTokensPerRequest;
+
     private TokenWindowChatMemory(Builder builder) {
         this.id = ensureNotNull(builder.id, "id");
         this.maxTokens = ensureGreaterThanZero(builder.maxTokens, "maxTokens");
@@ -60,72 +75,169 @@ public class TokenWindowChatMemory implements ChatMemory {
 
     @Override
     public void add(ChatMessage message) {
-        List<ChatMessage> messages = messages();
-        if (message instanceof SystemMessage) {
-            Optional<SystemMessage> maybeSystemMessage = findSystemMessage(messages);
-            if (maybeSystemMessage.isPresent()) {
-                if (maybeSystemMessage.get().equals(message)) {
-                    return; // do not add the same system message
-                } else {
-                    messages.remove(maybeSystemMessage.get()); // need to replace existing system message
+        synchronized (window) {
+            loadWindow();
+            if (message instanceof SystemMessage) {
+                Optional<TokenCountedMessage> maybeSystemMessage = findSystemMessage();
+                if (maybeSystemMessage.isPresent()) {
+                    if (maybeSystemMessage.get().message.equals(message)) {
+                        return; // do not add the same system message
+                    } else {
+                        remove(maybeSystemMessage.get()); // need to replace existing system message
+                    }
                 }
             }
+            append(message, tokenizer.estimateTokenCountInMessage(message));
+            ensureCapacity();
+            windowSource = windowMessages();
+            store.updateMessages(id, windowSource);
         }
-        messages.add(message);
-        ensureCapacity(messages, maxTokens, tokenizer);
-        store.updateMessages(id, messages);
     }
 
-    private static Optional<SystemMessage> findSystemMessage(List<ChatMessage> messages) {
-        return messages.stream()
-                .filter(message -> message instanceof SystemMessage)
-                .map(message -> (SystemMessage) message)
+    private Optional<TokenCountedMessage> findSystemMessage() {
+        return window.stream()
+                .filter(entry -> entry.message instanceof SystemMessage)
                 .findAny();
     }
 
     @Override
     public List<ChatMessage> messages() {
-        List<ChatMessage> messages = new LinkedList<>(store.getMessages(id));
-        ensureCapacity(messages, maxTokens, tokenizer);
+        synchronized (window) {
+            loadWindow();
+            return windowMessages();
+        }
+    }
+
+    /**
+     * Makes {@link #window} reflect the messages currently in the {@link ChatMemoryStore}, evicted to capacity.
+     * <p>
+     * Usually, the store still holds the messages written by the last {@link #add(ChatMessage)}.
+     * When it returns the very same list (as in-memory stores do),
+     * the window is used as is, without comparing the messages.
+     * Otherwise (for example, when the store was modified by someone else, or deserializes the messages),
+     * the messages are compared with the window, which is rebuilt if they differ.
+     * Only the messages that were not already in the window are tokenized.
+     */
+    private void loadWindow() {
+        List<ChatMessage> storedMessages = store.getMessages(id);
+        if (storedMessages == windowSource) {
+            return;
+        }
+        windowSource = storedMessages;
+        if (!windowContainsExactly(storedMessages)) {
+            Map<ChatMessage, Integer> knownTokenCounts = new HashMap<>();
+            for (TokenCountedMessage entry : window) {
+                knownTokenCounts.put(entry.message, entry.tokenCount);
+            }
+            window.clear();
+            windowTokenCount = 0;
+            for (ChatMessage message : storedMessages) {
+                Integer tokenCount = knownTokenCounts.get(message);
+                append(message, tokenCount != null ? tokenCount : tokenizer.estimateTokenCountInMessage(message));
+            }
+        }
+        ensureCapacity();
+    }
+
+    private boolean windowContainsExactly(List<ChatMessage> messages) {
+        if (messages.size() != window.size()) {
+            return false;
+        }
+        Iterator<TokenCountedMessage> entries = window.iterator();
+        for (ChatMessage message : messages) {
+            ChatMessage windowMessage = entries.next().message;
+            if (windowMessage != message && !windowMessage.equals(message)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<ChatMessage> windowMessages() {
+        List<ChatMessage> messages = new ArrayList<>(window.size());
+        for (TokenCountedMessage entry : window) {
+            messages.add(entry.message);
+        }
         return messages;
     }
 
-    private static void ensureCapacity(List<ChatMessage> messages, int maxTokens, Tokenizer tokenizer) {
+    private void append(ChatMessage message, int tokenCount) {
+        window.addLast(new TokenCountedMessage(message, tokenCount));
+        windowTokenCount += tokenCount;
+    }
 
-        if (messages.isEmpty()) {
-            return;
+    private void remove(TokenCountedMessage entry) {
+        window.remove(entry);
+        windowTokenCount -= entry.tokenCount;
+    }
+
+    /**
+     * The token count of the whole window, as {@link Tokenizer#estimateTokenCountInMessages(Iterable)} would return it:
+     * the sum of the token counts of the messages, plus the tokens that the tokenizer adds once per request.
+     * The latter are computed once, from the first message.
+     */
+    private int currentTokenCount() {
+        if (extraTokensPerRequest == null) {
+            TokenCountedMessage first = window.getFirst();
+            extraTokensPerRequest = tokenizer.estimateTokenCountInMessages(singletonList(first.message)) - first.tokenCount;
         }
+        return windowTokenCount + extraTokensPerRequest;
+    }
 
-        int currentTokenCount = tokenizer.estimateTokenCountInMessages(messages);
-        while (currentTokenCount > maxTokens) {
+    private void ensureCapacity() {
 
-            int messageToEvictIndex = 0;
-            if (messages.get(0) instanceof SystemMessage) {
-                messageToEvictIndex = 1;
+        while (!window.isEmpty() && currentTokenCount() > maxTokens) {
+
+            // the system message is never evicted; when it is the oldest message, the next one is evicted instead
+            TokenCountedMessage systemMessage = null;
+            if (window.getFirst().message instanceof SystemMessage) {
+                if (window.size() == 1) {
+                    log.warn("The system message alone exceeds the capacity of {} tokens", maxTokens);
+                    return;
+                }
+                systemMessage = window.removeFirst();
             }
 
-            ChatMessage evictedMessage = messages.remove(messageToEvictIndex);
-            int tokenCountOfEvictedMessage = tokenizer.estimateTokenCountInMessage(evictedMessage);
+            TokenCountedMessage evicted = window.removeFirst();
+            windowTokenCount -= evicted.tokenCount;
             log.trace("Evicting the following message ({} tokens) to comply with the capacity requirement: {}",
-                    tokenCountOfEvictedMessage, evictedMessage);
-            currentTokenCount -= tokenCountOfEvictedMessage;
+                    evicted.tokenCount, evicted.message);
 
-            if (evictedMessage instanceof AiMessage && ((AiMessage) evictedMessage).hasToolExecutionRequests()) {
-                while (messages.size() > messageToEvictIndex
-                        && messages.get(messageToEvictIndex) instanceof ToolExecutionResultMessage) {
+            if (evicted.message instanceof AiMessage && ((AiMessage) evicted.message).hasToolExecutionRequests()) {
+                while (!window.isEmpty() && window.getFirst().message instanceof ToolExecutionResultMessage) {
                     // Some LLMs (e.g. OpenAI) prohibit ToolExecutionResultMessage(s) without corresponding AiMessage,
                     // so we have to automatically evict orphan ToolExecutionResultMessage(s) if AiMessage was evicted
-                    ChatMessage orphanToolExecutionResultMessage = messages.remove(messageToEvictIndex);
-                    log.trace("Evicting orphan {}", orphanToolExecutionResultMessage);
-                    currentTokenCount -= tokenizer.estimateTokenCountInMessage(orphanToolExecutionResultMessage);
+                    TokenCountedMessage orphanToolExecutionResultMessage = window.removeFirst();
+                    windowTokenCount -= orphanToolExecutionResultMessage.tokenCount;
+                    log.trace("Evicting orphan {}", orphanToolExecutionResultMessage.message);
                 }
             }
+
+            if (systemMessage != null) {
+                window.addFirst(systemMessage);
+            }
         }
     }
 
     @Override
     public void clear() {
-        store.deleteMessages(id);
+        synchronized (window) {
+            store.deleteMessages(id);
+            window.clear();
+            windowTokenCount = 0;
+            windowSource = null;
+        }
+    }
+
+    private static class TokenCountedMessage {
+
+        private final ChatMessage message;
+        private final int tokenCount;
+
+        private TokenCountedMessage(ChatMessage message, int tokenCount) {
+            this.message = message;
+            this.tokenCount = tokenCount;
+        }
     }
 
     public static Builder builder() {
@@ -26,15 +26,18 @@ import dev.langchain4j.rag.RetrievalAugmentor;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.content.retriever.ContentRetriever;
 import dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever;
+import dev.langchain4j.service.memory.ChatMemoryService;
 import dev.langchain4j.service.tool.ToolExecutor;
 import dev.langchain4j.service.tool.ToolProvider;
 import dev.langchain4j.spi.services.AiServicesFactory;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.function.Function;
 
@@ -134,6 +137,9 @@ public abstract class AiServices<T> {
 
     private boolean contentRetrieverSet = false;
     private boolean retrievalAugmentorSet = false;
+    private boolean chatMemorySet = false;
+    private boolean chatMemoryProviderSet = false;
+    private boolean chatMemoryServiceSet = false;
 
     protected AiServices(AiServiceContext context) {
         this.context = context;
@@ -248,6 +254,10 @@ public abstract class AiServices<T> {
      * @return builder
      */
     public AiServices<T> chatMemory(ChatMemory chatMemory) {
+        if (chatMemoryServiceSet) {
+            throw illegalConfiguration("chatMemoryService cannot be set together with chatMemory or chatMemoryProvider");
+        }
+        chatMemorySet = true;
         context.initChatMemories(chatMemory);
         return this;
     }
@@ -273,10 +283,47 @@ public abstract class AiServices<T> {
      * @return builder
      */
     public AiServices<T> chatMemoryProvider(ChatMemoryProvider chatMemoryProvider) {
+        if (chatMemoryServiceSet) {
+            throw illegalConfiguration("chatMemoryService cannot be set together with chatMemory or chatMemoryProvider");
+        }
+        chatMemoryProviderSet = true;
         context.initChatMemories(chatMemoryProvider);
         return this;
     }
 
+    /**
+     * Configures the {@link ChatMemoryService} that holds a dedicated instance of {@link ChatMemory}
+     * for each user/conversation.
+     * This is an alternative to {@link #chatMemoryProvider(ChatMemoryProvider)} for when the number of
+     * users/conversations is large: the {@link ChatMemoryService} can be bounded in size and idle time,
+     * and reports hit, miss and eviction statistics. For example:
+     * <pre>
+     * ChatMemoryService chatMemoryService = ChatMemoryService.builder()
+     *         .chatMemoryProvider(memoryId -&gt; MessageWindowChatMemory.builder()
+     *                 .id(memoryId)
+     *                 .maxMessages(10)
+     *                 .chatMemoryStore(store)
+     *                 .build())
+     *         .maxChatMemories(10_000)
+     *         .expireAfterAccess(Duration.ofMinutes(30))
+     *         .build();
+     * </pre>
+     * <p>
+     * Either a {@link ChatMemory}, a {@link ChatMemoryProvider} or a {@link ChatMemoryService} can be configured,
+     * but not several simultaneously.
+     *
+     * @param chatMemoryService The service providing a {@link ChatMemory} for each user/conversation.
+     * @return builder
+     */
+    public AiServices<T> chatMemoryService(ChatMemoryService chatMemoryService) {
+        if (chatMemorySet || chatMemoryProviderSet) {
+            throw illegalConfiguration("chatMemoryService cannot be set together with chatMemory or chatMemoryProvider");
+        }
+        chatMemoryServiceSet = true;
+        context.chatMemoryService = ensureNotNull(chatMemoryService, "chatMemoryService");
+        return this;
+    }
+
     /**
      * Configures a moderation model to be used for automatic content moderation.
      * If a method in the AI Service is annotated with {@link Moderate}, the moderation model will be invoked
@@ -356,6 +403,52 @@ public abstract class AiServices<T> {
         return this;
     }
 
+    /**
+     * Configures the AI Service to execute the tools requested by the LLM in a single response concurrently,
+     * instead of one after another.
+     * Tools are executed on a default executor shared by all AI services:
+     * virtual threads when running on Java 21+, otherwise a cached pool of daemon threads.
+     * The results are added to the chat memory in the same order in which the LLM requested the tools.
+     *
+     * @return builder
+     * @see #executeToolsConcurrently(Executor)
+     * @see #toolExecutionTimeout(Duration)
+     */
+    public AiServices<T> executeToolsConcurrently() {
+        context.toolService.executeToolsConcurrently();
+        return this;
+    }
+
+    /**
+     * Configures the AI Service to execute the tools requested by the LLM in a single response concurrently,
+     * using the provided {@link Executor}.
+     * The results are added to the chat memory in the same order in which the LLM requested the tools.
+     *
+     * @param executor The executor to be used to execute the tools.
+     * @return builder
+     * @see #toolExecutionTimeout(Duration)
+     */
+    public AiServices<T> executeToolsConcurrently(Executor executor) {
+        context.toolService.executeToolsConcurrently(executor);
+        return this;
+    }
+
+    /**
+     * Configures the maximum time a single tool may run when tools are executed concurrently.
+     * If a tool does not complete in time, an error message is sent to the LLM as the result of this tool,
+     * while the results of the other tools are kept.
+     * The thread executing the timed out tool is interrupted; a tool that does not react to interruption
+     * keeps running in the background.
+     *
+     * @param toolExecutionTimeout The timeout for a single tool execution.
+     * @return builder
+     * @see #executeToolsConcurrently()
+     */
+    public AiServices<T> toolExecutionTimeout(Duration toolExecutionTimeout) {
+        context.toolService.toolExecutionTimeout(toolExecutionTimeout);
+        return this;
+    }
+
     /**
      * Configures a content retriever to be invoked on every method call for retrieving relevant content
      * related to the user's message from an underlying data source
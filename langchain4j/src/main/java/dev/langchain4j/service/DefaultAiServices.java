@@ -49,6 +49,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Scanner;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -122,6 +123,7 @@ class DefaultAiServices<T> extends AiServices<T> {
                 new InvocationHandler() {
 
                     private final ExecutorService executor = Executors.newCachedThreadPool();
+                    private final Map<Method, InvocationPlan> invocationPlans = new ConcurrentHashMap<>();
 
                     @Override
                     public Object invoke(Object proxy, Method method, Object[] args) throws Exception {
@@ -139,13 +141,13 @@ class DefaultAiServices<T> extends AiServices<T> {
                             };
                         }
 
-                        validateParameters(method);
+                        InvocationPlan plan = invocationPlans.computeIfAbsent(method, DefaultAiServices.this::createInvocationPlan);
 
-                        final Object memoryId = findMemoryId(method, args).orElse(ChatMemoryService.DEFAULT);
+                        final Object memoryId = plan.memoryId(args);
                         final ChatMemory chatMemory = context.hasChatMemory() ? context.chatMemoryService.getOrCreateChatMemory(memoryId) : null;
 
-                        Optional<SystemMessage> systemMessage = prepareSystemMessage(memoryId, method, args);
-                        UserMessage userMessage = prepareUserMessage(method, args);
+                        Optional<SystemMessage> systemMessage = prepareSystemMessage(plan, memoryId, args);
+                        UserMessage userMessage = prepareUserMessage(plan, args);
                         AugmentationResult augmentationResult = null;
                         if (context.retrievalAugmentor != null) {
                             List<ChatMessage> chatMemoryMessages = chatMemory != null ? chatMemory.messages() : null;
@@ -155,21 +157,12 @@ class DefaultAiServices<T> extends AiServices<T> {
                             userMessage = (UserMessage) augmentationResult.chatMessage();
                         }
 
-                        // TODO give user ability to provide custom OutputParser
-                        Type returnType = method.getGenericReturnType();
+                        Type returnType = plan.returnType;
+                        boolean streaming = plan.streaming;
 
-                        boolean streaming = returnType == TokenStream.class || canAdaptTokenStreamTo(returnType);
-
-                        boolean supportsJsonSchema =
-                                supportsJsonSchema(); // TODO should it be called for returnType==String?
-                        Optional<JsonSchema> jsonSchema = Optional.empty();
-                        if (supportsJsonSchema && !streaming) {
-                            jsonSchema = jsonSchemaFrom(returnType);
-                        }
-
-                        if ((!supportsJsonSchema || jsonSchema.isEmpty()) && !streaming) {
+                        if (plan.outputFormatInstructions != null) {
                             // TODO append after storing in the memory?
-                            userMessage = appendOutputFormatInstructions(returnType, userMessage);
+                            userMessage = appendOutputFormatInstructions(plan.outputFormatInstructions, userMessage);
                         }
 
                         List<ChatMessage> messages;
@@ -183,7 +176,7 @@ class DefaultAiServices<T> extends AiServices<T> {
                             messages.add(userMessage);
                         }
 
-                        Future<Moderation> moderationFuture = triggerModerationIfNeeded(method, messages);
+                        Future<Moderation> moderationFuture = triggerModerationIfNeeded(plan, messages);
 
                         ToolExecutionContext toolExecutionContext =
                                 context.toolService.executionContext(memoryId, userMessage);
@@ -204,13 +197,7 @@ class DefaultAiServices<T> extends AiServices<T> {
                             }
                         }
 
-                        ResponseFormat responseFormat = null;
-                        if (supportsJsonSchema && jsonSchema.isPresent()) {
-                            responseFormat = ResponseFormat.builder()
-                                    .type(JSON)
-                                    .jsonSchema(jsonSchema.get())
-                                    .build();
-                        }
+                        ResponseFormat responseFormat = plan.responseFormat;
 
                         ChatRequestParameters parameters = ChatRequestParameters.builder()
                                 .toolSpecifications(toolExecutionContext.toolSpecifications())
@@ -241,7 +228,7 @@ class DefaultAiServices<T> extends AiServices<T> {
                                 chatResponse.aiMessage(), toolExecutionResult.tokenUsageAccumulator(), finishReason);
 
                         Object parsedResponse = serviceOutputParser.parse(response, returnType);
-                        if (typeHasRawClass(returnType, Result.class)) {
+                        if (plan.returnsResult) {
                             return Result.builder()
                                     .content(parsedResponse)
                                     .tokenUsage(toolExecutionResult.tokenUsageAccumulator())
@@ -254,15 +241,6 @@ class DefaultAiServices<T> extends AiServices<T> {
                         }
                     }
 
-                    private boolean canAdaptTokenStreamTo(Type returnType) {
-                        for (TokenStreamAdapter tokenStreamAdapter : tokenStreamAdapters) {
-                            if (tokenStreamAdapter.canAdaptTokenStreamTo(returnType)) {
-                                return true;
-                            }
-                        }
-                        return false;
-                    }
-
                     private Object adapt(TokenStream tokenStream, Type returnType) {
                         for (TokenStreamAdapter tokenStreamAdapter : tokenStreamAdapters) {
                             if (tokenStreamAdapter.canAdaptTokenStreamTo(returnType)) {
@@ -272,13 +250,7 @@ class DefaultAiServices<T> extends AiServices<T> {
                         throw new IllegalStateException("Can't find suitable TokenStreamAdapter");
                     }
 
-                    private boolean supportsJsonSchema() {
-                        return context.chatModel != null
-                                && context.chatModel.supportedCapabilities().contains(RESPONSE_FORMAT_JSON_SCHEMA);
-                    }
-
-                    private UserMessage appendOutputFormatInstructions(Type returnType, UserMessage userMessage) {
-                        String outputFormatInstructions = serviceOutputParser.outputFormatInstructions(returnType);
+                    private UserMessage appendOutputFormatInstructions(String outputFormatInstructions, UserMessage userMessage) {
                         String text = userMessage.singleText() + outputFormatInstructions;
                         if (isNotNullOrBlank(userMessage.name())) {
                             userMessage = UserMessage.from(userMessage.name(), text);
@@ -288,8 +260,8 @@ class DefaultAiServices<T> extends AiServices<T> {
                         return userMessage;
                     }
 
-                    private Future<Moderation> triggerModerationIfNeeded(Method method, List<ChatMessage> messages) {
-                        if (method.isAnnotationPresent(Moderate.class)) {
+                    private Future<Moderation> triggerModerationIfNeeded(InvocationPlan plan, List<ChatMessage> messages) {
+                        if (plan.moderated) {
                             return executor.submit(() -> {
                                 List<ChatMessage> messagesToModerate = removeToolMessages(messages);
                                 return context.moderationModel
@@ -304,40 +276,117 @@ class DefaultAiServices<T> extends AiServices<T> {
         return (T) proxyInstance;
     }
 
-    private Optional<SystemMessage> prepareSystemMessage(Object memoryId, Method method, Object[] args) {
-        return findSystemMessageTemplate(memoryId, method)
-                .map(systemMessageTemplate -> PromptTemplate.from(systemMessageTemplate)
-                        .apply(findTemplateVariables(systemMessageTemplate, method, args))
-                        .toSystemMessage());
-    }
-
-    private Optional<String> findSystemMessageTemplate(Object memoryId, Method method) {
-        dev.langchain4j.service.SystemMessage annotation =
-                method.getAnnotation(dev.langchain4j.service.SystemMessage.class);
-        if (annotation != null) {
-            return Optional.of(getTemplate(
-                    method, "System", annotation.fromResource(), annotation.value(), annotation.delimiter()));
+    private boolean canAdaptTokenStreamTo(Type returnType) {
+        for (TokenStreamAdapter tokenStreamAdapter : tokenStreamAdapters) {
+            if (tokenStreamAdapter.canAdaptTokenStreamTo(returnType)) {
+                return true;
+            }
         }
+        return false;
+    }
 
-        return context.systemMessageProvider.apply(memoryId);
+    private boolean supportsJsonSchema() {
+        return context.chatModel != null
+                && context.chatModel.supportedCapabilities().contains(RESPONSE_FORMAT_JSON_SCHEMA);
     }
 
-    private static Map<String, Object> findTemplateVariables(String template, Method method, Object[] args) {
-        Parameter[] parameters = method.getParameters();
+    /**
+     * Does all the reflection needed to invoke the given method of the AI service, once per method.
+     */
+    private InvocationPlan createInvocationPlan(Method method) {
+        validateParameters(method);
 
-        Map<String, Object> variables = new HashMap<>();
+        Parameter[] parameters = method.getParameters();
+        String[] variableNames = new String[parameters.length];
+        int memoryIdIndex = -1;
+        int userMessageIndex = -1;
+        int userNameIndex = -1;
         for (int i = 0; i < parameters.length; i++) {
-            String variableName = getVariableName(parameters[i]);
-            Object variableValue = args[i];
-            variables.put(variableName, variableValue);
+            variableNames[i] = getVariableName(parameters[i]);
+            if (memoryIdIndex < 0 && parameters[i].isAnnotationPresent(MemoryId.class)) {
+                memoryIdIndex = i;
+            }
+            if (userMessageIndex < 0 && parameters[i].isAnnotationPresent(dev.langchain4j.service.UserMessage.class)) {
+                userMessageIndex = i;
+            }
+            if (userNameIndex < 0 && parameters[i].isAnnotationPresent(UserName.class)) {
+                userNameIndex = i;
+            }
+        }
+
+        PromptTemplate systemMessageTemplate = Optional.ofNullable(
+                        method.getAnnotation(dev.langchain4j.service.SystemMessage.class))
+                .map(a -> PromptTemplate.from(
+                        getTemplate(method, "System", a.fromResource(), a.value(), a.delimiter())))
+                .orElse(null);
+
+        PromptTemplate userMessageTemplate = Optional.ofNullable(
+                        method.getAnnotation(dev.langchain4j.service.UserMessage.class))
+                .map(a -> PromptTemplate.from(getTemplate(method, "User", a.fromResource(), a.value(), a.delimiter())))
+                .orElse(null);
+        if (userMessageTemplate != null && userMessageIndex >= 0) {
+            throw illegalConfiguration(
+                    "Error: The method '%s' has multiple @UserMessage annotations. Please use only one.",
+                    method.getName());
+        }
+        boolean userMessageFromTheOnlyArgument = parameters.length == 1 && parameters[0].getAnnotations().length == 0;
+        if (userMessageTemplate == null && userMessageIndex < 0 && !userMessageFromTheOnlyArgument) {
+            throw illegalConfiguration("Error: The method '%s' does not have a user message defined.", method.getName());
+        }
+
+        // TODO give user ability to provide custom OutputParser
+        Type returnType = method.getGenericReturnType();
+        boolean streaming = returnType == TokenStream.class || canAdaptTokenStreamTo(returnType);
+
+        boolean supportsJsonSchema = supportsJsonSchema(); // TODO should it be called for returnType==String?
+        Optional<JsonSchema> jsonSchema = Optional.empty();
+        if (supportsJsonSchema && !streaming) {
+            jsonSchema = jsonSchemaFrom(returnType);
+        }
+
+        String outputFormatInstructions = null;
+        if ((!supportsJsonSchema || jsonSchema.isEmpty()) && !streaming) {
+            outputFormatInstructions = serviceOutputParser.outputFormatInstructions(returnType);
         }
 
-        if (template.contains("{{it}}") && !variables.containsKey("it")) {
-            String itValue = getValueOfVariableIt(parameters, args);
-            variables.put("it", itValue);
+        ResponseFormat responseFormat = null;
+        if (supportsJsonSchema && jsonSchema.isPresent()) {
+            responseFormat = ResponseFormat.builder()
+                    .type(JSON)
+                    .jsonSchema(jsonSchema.get())
+                    .build();
         }
 
-        return variables;
+        return new InvocationPlan(
+                method,
+                variableNames,
+                memoryIdIndex,
+                userMessageIndex,
+                userNameIndex,
+                findItParameterIndex(parameters),
+                systemMessageTemplate,
+                userMessageTemplate,
+                returnType,
+                streaming,
+                outputFormatInstructions,
+                responseFormat,
+                typeHasRawClass(returnType, Result.class),
+                method.isAnnotationPresent(Moderate.class));
+    }
+
+    private Optional<SystemMessage> prepareSystemMessage(InvocationPlan plan, Object memoryId, Object[] args) {
+        return findSystemMessageTemplate(plan, memoryId)
+                .map(systemMessageTemplate -> systemMessageTemplate
+                        .apply(plan.templateVariables(systemMessageTemplate.template(), args))
+                        .toSystemMessage());
+    }
+
+    private Optional<PromptTemplate> findSystemMessageTemplate(InvocationPlan plan, Object memoryId) {
+        if (plan.systemMessageTemplate != null) {
+            return Optional.of(plan.systemMessageTemplate);
+        }
+
+        return context.systemMessageProvider.apply(memoryId).map(PromptTemplate::from);
     }
 
     private static String getVariableName(Parameter parameter) {
@@ -349,24 +398,29 @@ class DefaultAiServices<T> extends AiServices<T> {
         }
     }
 
-    private static String getValueOfVariableIt(Parameter[] parameters, Object[] args) {
+    /**
+     * Finds the parameter providing the value of the prompt template variable "{{it}}", if any.
+     *
+     * @return the index of the parameter, or -1 if there is none.
+     */
+    private static int findItParameterIndex(Parameter[] parameters) {
         if (parameters.length == 1) {
             Parameter parameter = parameters[0];
             if (!parameter.isAnnotationPresent(MemoryId.class)
                     && !parameter.isAnnotationPresent(dev.langchain4j.service.UserMessage.class)
                     && !parameter.isAnnotationPresent(UserName.class)
                     && (!parameter.isAnnotationPresent(V.class) || isAnnotatedWithIt(parameter))) {
-                return toString(args[0]);
+                return 0;
             }
         }
 
         for (int i = 0; i < parameters.length; i++) {
             if (isAnnotatedWithIt(parameters[i])) {
-                return toString(args[i]);
+                return i;
             }
         }
 
-        throw illegalConfiguration("Error: cannot find the value of the prompt template variable \"{{it}}\".");
+        return -1;
     }
 
     private static boolean isAnnotatedWithIt(Parameter parameter) {
@@ -374,78 +428,19 @@ class DefaultAiServices<T> extends AiServices<T> {
         return annotation != null && "it".equals(annotation.value());
     }
 
-    private static UserMessage prepareUserMessage(Method method, Object[] args) {
+    private static UserMessage prepareUserMessage(InvocationPlan plan, Object[] args) {
 
-        String template = getUserMessageTemplate(method, args);
-        Map<String, Object> variables = findTemplateVariables(template, method, args);
+        PromptTemplate template = plan.userMessageTemplate(args);
+        Map<String, Object> variables = plan.templateVariables(template.template(), args);
 
-        Prompt prompt = PromptTemplate.from(template).apply(variables);
+        Prompt prompt = template.apply(variables);
 
-        Optional<String> maybeUserName = findUserName(method.getParameters(), args);
+        Optional<String> maybeUserName = plan.userName(args);
         return maybeUserName
                 .map(userName -> UserMessage.from(userName, prompt.text()))
                 .orElseGet(prompt::toUserMessage);
     }
 
-    private static String getUserMessageTemplate(Method method, Object[] args) {
-
-        Optional<String> templateFromMethodAnnotation = findUserMessageTemplateFromMethodAnnotation(method);
-        Optional<String> templateFromParameterAnnotation =
-                findUserMessageTemplateFromAnnotatedParameter(method.getParameters(), args);
-
-        if (templateFromMethodAnnotation.isPresent() && templateFromParameterAnnotation.isPresent()) {
-            throw illegalConfiguration(
-                    "Error: The method '%s' has multiple @UserMessage annotations. Please use only one.",
-                    method.getName());
-        }
-
-        if (templateFromMethodAnnotation.isPresent()) {
-            return templateFromMethodAnnotation.get();
-        }
-        if (templateFromParameterAnnotation.isPresent()) {
-            return templateFromParameterAnnotation.get();
-        }
-
-        Optional<String> templateFromTheOnlyArgument =
-                findUserMessageTemplateFromTheOnlyArgument(method.getParameters(), args);
-        if (templateFromTheOnlyArgument.isPresent()) {
-            return templateFromTheOnlyArgument.get();
-        }
-
-        throw illegalConfiguration("Error: The method '%s' does not have a user message defined.", method.getName());
-    }
-
-    private static Optional<String> findUserMessageTemplateFromMethodAnnotation(Method method) {
-        return Optional.ofNullable(method.getAnnotation(dev.langchain4j.service.UserMessage.class))
-                .map(a -> getTemplate(method, "User", a.fromResource(), a.value(), a.delimiter()));
-    }
-
-    private static Optional<String> findUserMessageTemplateFromAnnotatedParameter(
-            Parameter[] parameters, Object[] args) {
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(dev.langchain4j.service.UserMessage.class)) {
-                return Optional.of(toString(args[i]));
-            }
-        }
-        return Optional.empty();
-    }
-
-    private static Optional<String> findUserMessageTemplateFromTheOnlyArgument(Parameter[] parameters, Object[] args) {
-        if (parameters != null && parameters.length == 1 && parameters[0].getAnnotations().length == 0) {
-            return Optional.of(toString(args[0]));
-        }
-        return Optional.empty();
-    }
-
-    private static Optional<String> findUserName(Parameter[] parameters, Object[] args) {
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(UserName.class)) {
-                return Optional.of(args[i].toString());
-            }
-        }
-        return Optional.empty();
-    }
-
     private static String getTemplate(Method method, String type, String resource, String[] value, String delimiter) {
         String messageTemplate;
         if (!resource.trim().isEmpty()) {
@@ -480,20 +475,104 @@ class DefaultAiServices<T> extends AiServices<T> {
         }
     }
 
-    private static Optional<Object> findMemoryId(Method method, Object[] args) {
-        Parameter[] parameters = method.getParameters();
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(MemoryId.class)) {
-                Object memoryId = args[i];
-                if (memoryId == null) {
-                    throw illegalArgument(
-                            "The value of parameter '%s' annotated with @MemoryId in method '%s' must not be null",
-                            parameters[i].getName(), method.getName());
+    /**
+     * Everything about a method of the AI service that does not depend on the arguments of an invocation.
+     * Created once per method, on its first invocation.
+     */
+    private static final class InvocationPlan {
+
+        private final Method method;
+        private final String[] variableNames;
+        private final int memoryIdIndex;
+        private final int userMessageIndex;
+        private final int userNameIndex;
+        private final int itIndex;
+        private final PromptTemplate systemMessageTemplate;
+        private final PromptTemplate userMessageTemplate;
+        private final Type returnType;
+        private final boolean streaming;
+        private final String outputFormatInstructions;
+        private final ResponseFormat responseFormat;
+        private final boolean returnsResult;
+        private final boolean moderated;
+
+        private InvocationPlan(Method method,
+                               String[] variableNames,
+                               int memoryIdIndex,
+                               int userMessageIndex,
+                               int userNameIndex,
+                               int itIndex,
+                               PromptTemplate systemMessageTemplate,
+                               PromptTemplate userMessageTemplate,
+                               Type returnType,
+                               boolean streaming,
+                               String outputFormatInstructions,
+                               ResponseFormat responseFormat,
+                               boolean returnsResult,
+                               boolean moderated) {
+            this.method = method;
+            this.variableNames = variableNames;
+            this.memoryIdIndex = memoryIdIndex;
+            this.userMessageIndex = userMessageIndex;
+            this.userNameIndex = userNameIndex;
+            this.itIndex = itIndex;
+            this.systemMessageTemplate = systemMessageTemplate;
+            this.userMessageTemplate = userMessageTemplate;
+            this.returnType = returnType;
+            this.streaming = streaming;
+            this.outputFormatInstructions = outputFormatInstructions;
+            this.responseFormat = responseFormat;
+            this.returnsResult = returnsResult;
+            this.moderated = moderated;
+        }
+
+        private Object memoryId(Object[] args) {
+            if (memoryIdIndex < 0) {
+                return ChatMemoryService.DEFAULT;
+            }
+            Object memoryId = args[memoryIdIndex];
+            if (memoryId == null) {
+                throw illegalArgument(
+                        "The value of parameter '%s' annotated with @MemoryId in method '%s' must not be null",
+                        method.getParameters()[memoryIdIndex].getName(), method.getName());
+            }
+            return memoryId;
+        }
+
+        private PromptTemplate userMessageTemplate(Object[] args) {
+            if (userMessageTemplate != null) {
+                return userMessageTemplate;
+            }
+            if (userMessageIndex >= 0) {
+                return PromptTemplate.from(DefaultAiServices.toString(args[userMessageIndex]));
+            }
+            // the user message is the only argument
+            return PromptTemplate.from(DefaultAiServices.toString(args[0]));
+        }
+
+        private Optional<String> userName(Object[] args) {
+            if (userNameIndex < 0) {
+                return Optional.empty();
+            }
+            return Optional.of(args[userNameIndex].toString());
+        }
+
+        private Map<String, Object> templateVariables(String template, Object[] args) {
+            Map<String, Object> variables = new HashMap<>();
+            for (int i = 0; i < variableNames.length; i++) {
+                variables.put(variableNames[i], args[i]);
+            }
+
+            if (template.contains("{{it}}") && !variables.containsKey("it")) {
+                if (itIndex < 0) {
+                    throw illegalConfiguration(
+                            "Error: cannot find the value of the prompt template variable \"{{it}}\".");
                 }
-                return Optional.of(memoryId);
+                variables.put("it", DefaultAiServices.toString(args[itIndex]));
             }
+
+            return variables;
         }
-        return Optional.empty();
     }
 
     private static String toString(Object arg) {
@@ -2,20 +2,58 @@ package dev.langchain4j.service.memory;
 
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.memory.chat.ChatMemoryProvider;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
+/**
+ * Holds the {@link ChatMemory} of each memory ID, creating them on demand with a {@link ChatMemoryProvider}.
+ * <p>
+ * By default, a {@link ChatMemory} is held until it is explicitly evicted with {@link #evictChatMemory(Object)}.
+ * When there are many distinct memory IDs (for example, one per user), the number of held chat memories
+ * can be bounded with {@link Builder#maxChatMemories(Integer)}
+ * and idle chat memories can be evicted with {@link Builder#expireAfterAccess(Duration)}.
+ * The least recently used chat memories are evicted first.
+ * Idle chat memories are evicted lazily, the next time this service is accessed.
+ * An evicted chat memory is passed to the {@link Builder#evictionListener(Consumer)}, if any,
+ * so that it can be flushed to its {@link ChatMemoryStore}.
+ * When the same memory ID is used again, a new {@link ChatMemory} is obtained from the {@link ChatMemoryProvider}.
+ */
 public class ChatMemoryService {
 
+    private static final Logger log = LoggerFactory.getLogger(ChatMemoryService.class);
+
     public static final String DEFAULT = "default";
 
     private ChatMemory defaultChatMemory;
     private Map<Object, ChatMemory> chatMemories;
     private ChatMemoryProvider chatMemoryProvider;
 
+    // used instead of chatMemories when the service is bounded, in access order, guarded by itself
+    private LinkedHashMap<Object, CachedChatMemory> boundedChatMemories;
+    private int maxChatMemories;
+    private long expireAfterAccessNanos;
+    private Consumer<ChatMemory> evictionListener;
+    private LongSupplier nanoTime;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
     public ChatMemoryService(ChatMemoryProvider chatMemoryProvider) {
         this.chatMemories = new ConcurrentHashMap<>();
         this.chatMemoryProvider = ensureNotNull(chatMemoryProvider, "chatMemoryProvider");
@@ -25,15 +63,245 @@ public class ChatMemoryService {
         defaultChatMemory = ensureNotNull(chatMemory, "chatMemory");
     }
 
+    private ChatMemoryService(Builder builder) {
+        this(builder.chatMemoryProvider);
+        if (builder.maxChatMemories != null || builder.expireAfterAccess != null) {
+            this.chatMemories = null;
+            this.boundedChatMemories = new LinkedHashMap<>(16, 0.75f, true);
+            this.maxChatMemories = builder.maxChatMemories == null
+                    ? Integer.MAX_VALUE
+                    : ensureGreaterThanZero(builder.maxChatMemories, "maxChatMemories");
+            this.expireAfterAccessNanos = builder.expireAfterAccess == null
+                    ? Long.MAX_VALUE
+                    : builder.expireAfterAccess.toNanos();
+            this.evictionListener = builder.evictionListener;
+            this.nanoTime = builder.nanoTime;
+        }
+    }
+
     public ChatMemory getOrCreateChatMemory(Object memoryId) {
-        return memoryId == DEFAULT ? defaultChatMemory : chatMemories.computeIfAbsent(memoryId, chatMemoryProvider::get);
+        if (memoryId == DEFAULT) {
+            return defaultChatMemory;
+        }
+        if (boundedChatMemories != null) {
+            return getOrCreateBoundedChatMemory(memoryId);
+        }
+
+        ChatMemory chatMemory = chatMemories.get(memoryId);
+        if (chatMemory != null) {
+            hitCount.increment();
+            return chatMemory;
+        }
+        missCount.increment();
+        return chatMemories.computeIfAbsent(memoryId, chatMemoryProvider::get);
+    }
+
+    private ChatMemory getOrCreateBoundedChatMemory(Object memoryId) {
+        List<ChatMemory> evicted = new ArrayList<>(0);
+        ChatMemory chatMemory = get(memoryId, evicted);
+
+        if (chatMemory != null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+            // the provider is called outside the lock, so that creating a chat memory does not block other memory IDs
+            ChatMemory created = chatMemoryProvider.get(memoryId);
+            long now = nanoTime.getAsLong();
+            synchronized (boundedChatMemories) {
+                CachedChatMemory cached = boundedChatMemories.get(memoryId);
+                if (cached != null) {
+                    cached.lastAccessNanos = now; // created concurrently by another thread
+                    chatMemory = cached.chatMemory;
+                } else {
+                    boundedChatMemories.put(memoryId, new CachedChatMemory(created, now));
+                    chatMemory = created;
+                    evictLeastRecentlyUsed(evicted);
+                }
+            }
+        }
+
+        notifyEvicted(evicted);
+        return chatMemory;
     }
 
     public ChatMemory getChatMemory(Object memoryId) {
-        return memoryId == DEFAULT ? defaultChatMemory : chatMemories.get(memoryId);
+        if (memoryId == DEFAULT) {
+            return defaultChatMemory;
+        }
+        if (boundedChatMemories != null) {
+            List<ChatMemory> evicted = new ArrayList<>(0);
+            ChatMemory chatMemory = get(memoryId, evicted);
+            notifyEvicted(evicted);
+            return chatMemory;
+        }
+        return chatMemories.get(memoryId);
     }
 
     public ChatMemory evictChatMemory(Object memoryId) {
+        if (boundedChatMemories != null) {
+            synchronized (boundedChatMemories) {
+                CachedChatMemory cached = boundedChatMemories.remove(memoryId);
+                return cached == null ? null : cached.chatMemory;
+            }
+        }
         return chatMemories.remove(memoryId);
     }
+
+    /**
+     * Returns the statistics of this service.
+     * Hits and misses are counted by {@link #getOrCreateChatMemory(Object)}, excluding the default chat memory.
+     * Evictions include only the chat memories evicted automatically, not those passed to {@link #evictChatMemory(Object)}.
+     *
+     * @return the statistics.
+     */
+    public Stats stats() {
+        int size;
+        if (boundedChatMemories != null) {
+            synchronized (boundedChatMemories) {
+                size = boundedChatMemories.size();
+            }
+        } else {
+            size = chatMemories == null ? 0 : chatMemories.size();
+        }
+        return new Stats(hitCount.sum(), missCount.sum(), evictionCount.sum(), size);
+    }
+
+    private ChatMemory get(Object memoryId, List<ChatMemory> evicted) {
+        long now = nanoTime.getAsLong();
+        synchronized (boundedChatMemories) {
+            evictExpired(now, evicted);
+            CachedChatMemory cached = boundedChatMemories.get(memoryId);
+            if (cached == null) {
+                return null;
+            }
+            cached.lastAccessNanos = now;
+            return cached.chatMemory;
+        }
+    }
+
+    /**
+     * Evicts the chat memories that have not been accessed for {@link #expireAfterAccessNanos}.
+     * Since entries are kept in access order, only the expired ones are visited.
+     */
+    private void evictExpired(long now, List<ChatMemory> evicted) {
+        if (expireAfterAccessNanos == Long.MAX_VALUE) {
+            return;
+        }
+        Iterator<CachedChatMemory> iterator = boundedChatMemories.values().iterator();
+        while (iterator.hasNext()) {
+            CachedChatMemory cached = iterator.next();
+            if (now - cached.lastAccessNanos < expireAfterAccessNanos) {
+                break;
+            }
+            iterator.remove();
+            evicted.add(cached.chatMemory);
+        }
+    }
+
+    private void evictLeastRecentlyUsed(List<ChatMemory> evicted) {
+        Iterator<CachedChatMemory> iterator = boundedChatMemories.values().iterator();
+        while (boundedChatMemories.size() > maxChatMemories) {
+            CachedChatMemory cached = iterator.next();
+            iterator.remove();
+            evicted.add(cached.chatMemory);
+        }
+    }
+
+    private void notifyEvicted(List<ChatMemory> evicted) {
+        for (ChatMemory chatMemory : evicted) {
+            evictionCount.increment();
+            if (evictionListener != null) {
+                try {
+                    evictionListener.accept(chatMemory);
+                } catch (Exception e) {
+                    log.warn("Eviction listener failed for chat memory with id '{}'", chatMemory.id(), e);
+                }
+            }
+        }
+    }
+
+    private static class CachedChatMemory {
+
+        private final ChatMemory chatMemory;
+        private long lastAccessNanos;
+
+        private CachedChatMemory(ChatMemory chatMemory, long lastAccessNanos) {
+            this.chatMemory = chatMemory;
+            this.lastAccessNanos = lastAccessNanos;
+        }
+    }
+
+    /**
+     * Statistics of a {@link ChatMemoryService}.
+     *
+     * @param hitCount      the number of times an existing chat memory was returned
+     * @param missCount     the number of times a chat memory had to be obtained from the {@link ChatMemoryProvider}
+     * @param evictionCount the number of chat memories evicted because of the size or idle-time bounds
+     * @param size          the number of chat memories currently held
+     */
+    public record Stats(long hitCount, long missCount, long evictionCount, int size) {
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private ChatMemoryProvider chatMemoryProvider;
+        private Integer maxChatMemories;
+        private Duration expireAfterAccess;
+        private Consumer<ChatMemory> evictionListener;
+        private LongSupplier nanoTime = System::nanoTime;
+
+        /**
+         * @param chatMemoryProvider The provider of a {@link ChatMemory} for each new memory ID. Mandatory.
+         * @return builder
+         */
+        public Builder chatMemoryProvider(ChatMemoryProvider chatMemoryProvider) {
+            this.chatMemoryProvider = chatMemoryProvider;
+            return this;
+        }
+
+        /**
+         * @param maxChatMemories The maximum number of chat memories to hold.
+         *                        When it is exceeded, the least recently used chat memory is evicted.
+         *                        Optional. Unbounded by default.
+         * @return builder
+         */
+        public Builder maxChatMemories(Integer maxChatMemories) {
+            this.maxChatMemories = maxChatMemories;
+            return this;
+        }
+
+        /**
+         * @param expireAfterAccess The duration after which a chat memory that has not been accessed is evicted.
+         *                          Optional. By default, chat memories do not expire.
+         * @return builder
+         */
+        public Builder expireAfterAccess(Duration expireAfterAccess) {
+            this.expireAfterAccess = expireAfterAccess;
+            return this;
+        }
+
+        /**
+         * @param evictionListener Called with each chat memory evicted because of the size or idle-time bounds,
+         *                         for example, to flush it to its {@link ChatMemoryStore}.
+         *                         Called on the thread that caused the eviction, outside any lock. Optional.
+         * @return builder
+         */
+        public Builder evictionListener(Consumer<ChatMemory> evictionListener) {
+            this.evictionListener = evictionListener;
+            return this;
+        }
+
+        Builder nanoTime(LongSupplier nanoTime) {
+            this.nanoTime = nanoTime;
+            return this;
+        }
+
+        public ChatMemoryService build() {
+            return new ChatMemoryService(this);
+        }
+    }
 }
@@ -1,7 +1,9 @@
 package dev.langchain4j.service.tool;
 
 import static dev.langchain4j.agent.tool.ToolSpecifications.toolSpecificationFrom;
+import static dev.langchain4j.internal.DefaultExecutorProvider.getDefaultExecutor;
 import static dev.langchain4j.internal.Exceptions.runtime;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.service.IllegalConfigurationException.illegalConfiguration;
 
 import dev.langchain4j.agent.tool.Tool;
@@ -19,21 +21,35 @@ import dev.langchain4j.model.chat.response.ChatResponse;
 import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.service.IllegalConfigurationException;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class ToolService {
 
+    private static final Logger log = LoggerFactory.getLogger(ToolService.class);
+
     private static final int MAX_SEQUENTIAL_TOOL_EXECUTIONS = 100;
 
     private List<ToolSpecification> toolSpecifications;
     private Map<String, ToolExecutor> toolExecutors;
     private ToolProvider toolProvider;
 
+    private Executor executor;
+    private Duration toolExecutionTimeout;
+
     private Function<ToolExecutionRequest, ToolExecutionResultMessage> toolHallucinationStrategy =
             HallucinatedToolNameStrategy.THROW_EXCEPTION;
 
@@ -42,6 +58,36 @@ public class ToolService {
         this.toolHallucinationStrategy = toolHallucinationStrategy;
     }
 
+    /**
+     * Enables concurrent execution of the tools requested by the LLM in a single {@link AiMessage}.
+     * Results are still added to the chat memory in the order in which the LLM requested them.
+     *
+     * @param executor the executor used to run the tools
+     */
+    public void executeToolsConcurrently(Executor executor) {
+        this.executor = ensureNotNull(executor, "executor");
+    }
+
+    /**
+     * Enables concurrent execution of the tools using the default executor shared by all AI services:
+     * virtual threads when running on Java 21+, otherwise a cached pool of daemon threads.
+     */
+    public void executeToolsConcurrently() {
+        this.executor = getDefaultExecutor();
+    }
+
+    /**
+     * Sets the maximum time each tool may run when tools are executed concurrently.
+     * When the timeout is exceeded, an error message is returned to the LLM for this tool only,
+     * and the thread executing the tool is interrupted.
+     * A tool that does not react to interruption keeps running in the background.
+     *
+     * @param toolExecutionTimeout the timeout, {@code null} means no timeout
+     */
+    public void toolExecutionTimeout(Duration toolExecutionTimeout) {
+        this.toolExecutionTimeout = toolExecutionTimeout;
+    }
+
     public void toolProvider(ToolProvider toolProvider) {
         if (toolSpecifications != null || toolExecutors != null) {
             throw new IllegalArgumentException(
@@ -149,16 +195,14 @@ public class ToolService {
                 break;
             }
 
-            for (ToolExecutionRequest toolExecutionRequest : aiMessage.toolExecutionRequests()) {
-                ToolExecutor toolExecutor = toolExecutors.get(toolExecutionRequest.name());
+            List<ToolExecutionResultMessage> toolExecutionResultMessages =
+                    executeTools(aiMessage.toolExecutionRequests(), toolExecutors, memoryId);
 
-                ToolExecutionResultMessage toolExecutionResultMessage = toolExecutor == null
-                        ? applyToolHallucinationStrategy(toolExecutionRequest)
-                        : ToolExecutionResultMessage.from(
-                                toolExecutionRequest, toolExecutor.execute(toolExecutionRequest, memoryId));
+            for (int i = 0; i < toolExecutionResultMessages.size(); i++) {
+                ToolExecutionResultMessage toolExecutionResultMessage = toolExecutionResultMessages.get(i);
 
                 toolExecutions.add(ToolExecution.builder()
-                        .request(toolExecutionRequest)
+                        .request(aiMessage.toolExecutionRequests().get(i))
                         .result(toolExecutionResultMessage.text())
                         .build());
 
@@ -187,6 +231,85 @@ public class ToolService {
         return new ToolExecutionResult(chatResponse, toolExecutions, tokenUsageAccumulator);
     }
 
+    private List<ToolExecutionResultMessage> executeTools(
+            List<ToolExecutionRequest> toolExecutionRequests, Map<String, ToolExecutor> toolExecutors, Object memoryId) {
+
+        if (executor == null || (toolExecutionRequests.size() == 1 && toolExecutionTimeout == null)) {
+            List<ToolExecutionResultMessage> toolExecutionResultMessages = new ArrayList<>();
+            for (ToolExecutionRequest toolExecutionRequest : toolExecutionRequests) {
+                ToolExecutor toolExecutor = toolExecutors.get(toolExecutionRequest.name());
+                toolExecutionResultMessages.add(toolExecutor == null
+                        ? applyToolHallucinationStrategy(toolExecutionRequest)
+                        : ToolExecutionResultMessage.from(
+                                toolExecutionRequest, toolExecutor.execute(toolExecutionRequest, memoryId)));
+            }
+            return toolExecutionResultMessages;
+        }
+
+        // hallucinated tool names are resolved upfront, so that the strategy can still fail the whole call
+        List<CompletableFuture<ToolExecutionResultMessage>> futures = new ArrayList<>();
+        for (ToolExecutionRequest toolExecutionRequest : toolExecutionRequests) {
+            ToolExecutor toolExecutor = toolExecutors.get(toolExecutionRequest.name());
+            if (toolExecutor == null) {
+                futures.add(CompletableFuture.completedFuture(applyToolHallucinationStrategy(toolExecutionRequest)));
+            } else {
+                futures.add(executeAsync(toolExecutionRequest, toolExecutor, memoryId));
+            }
+        }
+
+        List<ToolExecutionResultMessage> toolExecutionResultMessages = new ArrayList<>();
+        for (CompletableFuture<ToolExecutionResultMessage> future : futures) {
+            try {
+                toolExecutionResultMessages.add(future.join());
+            } catch (CompletionException e) {
+                // the same exception as when executing the tools sequentially
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                } else if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+        return toolExecutionResultMessages;
+    }
+
+    private CompletableFuture<ToolExecutionResultMessage> executeAsync(
+            ToolExecutionRequest toolExecutionRequest, ToolExecutor toolExecutor, Object memoryId) {
+
+        CompletableFuture<String> future = new CompletableFuture<>();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            try {
+                future.complete(toolExecutor.execute(toolExecutionRequest, memoryId));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }, null);
+        executor.execute(task);
+
+        if (toolExecutionTimeout == null) {
+            return future.thenApply(result -> ToolExecutionResultMessage.from(toolExecutionRequest, result));
+        }
+
+        return future.orTimeout(toolExecutionTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((result, error) -> {
+                    if (error == null) {
+                        return ToolExecutionResultMessage.from(toolExecutionRequest, result);
+                    }
+                    if (error instanceof TimeoutException) {
+                        // interrupts the tool, which stops only if it reacts to interruption
+                        task.cancel(true);
+                        log.warn("Tool '{}' did not complete within {}", toolExecutionRequest.name(), toolExecutionTimeout);
+                        return ToolExecutionResultMessage.from(toolExecutionRequest, String.format(
+                                "Tool '%s' did not complete within %s ms",
+                                toolExecutionRequest.name(), toolExecutionTimeout.toMillis()));
+                    }
+                    throw error instanceof CompletionException completionException
+                            ? completionException
+                            : new CompletionException(error);
+                });
+    }
+
     public ToolExecutionResultMessage applyToolHallucinationStrategy(ToolExecutionRequest toolExecutionRequest) {
         return toolHallucinationStrategy.apply(toolExecutionRequest);
     }
@@ -202,4 +325,12 @@ public class ToolService {
     public ToolProvider toolProvider() {
         return toolProvider;
     }
+
+    public Executor executor() {
+        return executor;
+    }
+
+    public Duration toolExecutionTimeout() {
+        return toolExecutionTimeout;
+    }
 }
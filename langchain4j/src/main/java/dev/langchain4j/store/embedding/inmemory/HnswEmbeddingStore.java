@@ -0,0 +1,672 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.internal.VectorMath;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.RelevanceScore;
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.filter.FilterCompiler;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Collections.nCopies;
+import static java.util.Collections.singletonList;
+
+/**
+ * An {@link EmbeddingStore} that stores embeddings in memory and searches them
+ * with a Hierarchical Navigable Small World (HNSW) graph.
+ * <p>
+ * Unlike {@link InMemoryEmbeddingStore}, which compares the query with every stored embedding,
+ * this store visits only a small part of the graph per query. The search is therefore approximate:
+ * it may occasionally miss some of the best matches, in exchange for a search time
+ * that grows logarithmically with the number of embeddings.
+ * <p>
+ * The graph is tuned with the following parameters (see the
+ * <a href="https://arxiv.org/abs/1603.09320">HNSW paper</a> for details):
+ * <ul>
+ *     <li>{@code m}: the number of neighbours each node keeps per layer (twice as many on the bottom layer).
+ *     Higher values improve recall and increase memory usage and indexing time. Default: 16.</li>
+ *     <li>{@code efConstruction}: the size of the candidate list used when inserting a node.
+ *     Higher values improve the quality of the graph and increase indexing time. Default: 200.</li>
+ *     <li>{@code efSearch}: the size of the candidate list used when searching.
+ *     Higher values improve recall and increase search time.
+ *     It is never lower than the requested {@link EmbeddingSearchRequest#maxResults()}. Default: 50.</li>
+ * </ul>
+ * <p>
+ * Removed embeddings are only marked as deleted (tombstoned): they are still used to navigate the graph,
+ * but are never returned. Once more than half of the nodes are deleted, the graph is rebuilt
+ * from the remaining embeddings, so that removed embeddings stop taking memory and search time.
+ * A {@link Filter} is evaluated while traversing the graph,
+ * so that only matching embeddings are collected, while all nodes can still be used for navigation.
+ * <p>
+ * All embeddings in this store must have the same dimension.
+ * Adding embeddings takes an exclusive lock, searches can run concurrently.
+ *
+ * @param <Embedded> The class of the object that has been embedded.
+ *                   Typically, it is {@link dev.langchain4j.data.segment.TextSegment}.
+ */
+public class HnswEmbeddingStore<Embedded> implements EmbeddingStore<Embedded> {
+
+    private static final int DEFAULT_M = 16;
+    private static final int DEFAULT_EF_CONSTRUCTION = 200;
+    private static final int DEFAULT_EF_SEARCH = 50;
+    private static final double MAX_DELETED_FRACTION = 0.5;
+
+    private static final Comparator<Candidate> BEST_FIRST = (a, b) -> Float.compare(b.similarity, a.similarity);
+    private static final Comparator<Candidate> WORST_FIRST = (a, b) -> Float.compare(a.similarity, b.similarity);
+
+    private final int m;
+    private final int maxNeighboursOnBottomLayer;
+    private final int efConstruction;
+    private final int efSearch;
+    private final double levelMultiplier;
+    private final Random random;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Node<Embedded>> nodes = new ArrayList<>();
+    private final Map<String, Integer> nodeIdsByEmbeddingId = new HashMap<>();
+    private int dimension = -1;
+    private int entryPoint = -1;
+    private int topLevel = -1;
+    private int deletedCount;
+
+    public HnswEmbeddingStore() {
+        this(DEFAULT_M, DEFAULT_EF_CONSTRUCTION, DEFAULT_EF_SEARCH, null);
+    }
+
+    public HnswEmbeddingStore(Integer m, Integer efConstruction, Integer efSearch, Long randomSeed) {
+        this.m = ensureBetween(getOrDefault(m, DEFAULT_M), 2, 1024, "m");
+        this.maxNeighboursOnBottomLayer = this.m * 2;
+        this.efConstruction = ensureGreaterThanZero(getOrDefault(efConstruction, DEFAULT_EF_CONSTRUCTION), "efConstruction");
+        this.efSearch = ensureGreaterThanZero(getOrDefault(efSearch, DEFAULT_EF_SEARCH), "efSearch");
+        this.levelMultiplier = 1 / Math.log(this.m);
+        this.random = randomSeed == null ? new Random() : new Random(randomSeed);
+    }
+
+    public static <Embedded> Builder<Embedded> builder() {
+        return new Builder<>();
+    }
+
+    @Override
+    public String add(Embedding embedding) {
+        String id = randomUUID();
+        add(id, embedding);
+        return id;
+    }
+
+    @Override
+    public void add(String id, Embedding embedding) {
+        add(id, embedding, null);
+    }
+
+    @Override
+    public String add(Embedding embedding, Embedded embedded) {
+        String id = randomUUID();
+        add(id, embedding, embedded);
+        return id;
+    }
+
+    public void add(String id, Embedding embedding, Embedded embedded) {
+        addAll(singletonList(id), singletonList(embedding), singletonList(embedded));
+    }
+
+    @Override
+    public List<String> addAll(List<Embedding> embeddings) {
+        List<String> ids = generateIds(embeddings.size());
+        addAll(ids, embeddings, nCopies(embeddings.size(), null));
+        return ids;
+    }
+
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<Embedded> embedded) {
+        if (ids.size() != embeddings.size() || embeddings.size() != embedded.size()) {
+            throw new IllegalArgumentException("The list of ids and embeddings and embedded must have the same size");
+        }
+
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        // validate the whole batch before changing the graph, so that an invalid embedding cannot leave it half-added
+        int batchDimension = ensureNotNull(embeddings.get(0), "embedding").dimension();
+        float[] inverseNorms = new float[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            ensureNotBlank(ids.get(i), "id");
+            float[] vector = ensureNotNull(embeddings.get(i), "embedding").vector();
+            if (vector.length != batchDimension) {
+                throw illegalArgument("Length of vector a (%s) must be equal to the length of vector b (%s)",
+                        vector.length, batchDimension);
+            }
+            inverseNorms[i] = inverseNorm(vector);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (dimension < 0) {
+                dimension = batchDimension;
+            }
+            if (batchDimension != dimension) {
+                throw illegalArgument("Length of vector a (%s) must be equal to the length of vector b (%s)",
+                        batchDimension, dimension);
+            }
+            for (int i = 0; i < ids.size(); i++) {
+                insert(ids.get(i), embeddings.get(i), embedded.get(i), inverseNorms[i]);
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeAll(Collection<String> ids) {
+        ensureNotEmpty(ids, "ids");
+
+        lock.writeLock().lock();
+        try {
+            for (String id : ids) {
+                Integer nodeId = nodeIdsByEmbeddingId.remove(id);
+                if (nodeId != null) {
+                    markDeleted(nodes.get(nodeId));
+                }
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeAll(Filter filter) {
+        ensureNotNull(filter, "filter");
+
+        Predicate<Metadata> metadataFilter = FilterCompiler.compile(filter);
+        lock.writeLock().lock();
+        try {
+            for (Node<Embedded> node : nodes) {
+                if (node.deleted || node.embedded == null) {
+                    continue;
+                }
+                if (!(node.embedded instanceof TextSegment)) {
+                    throw new UnsupportedOperationException("Not supported yet.");
+                }
+                if (metadataFilter.test(((TextSegment) node.embedded).metadata())) {
+                    nodeIdsByEmbeddingId.remove(node.id);
+                    markDeleted(node);
+                }
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeAll() {
+        lock.writeLock().lock();
+        try {
+            nodes.clear();
+            nodeIdsByEmbeddingId.clear();
+            dimension = -1;
+            entryPoint = -1;
+            topLevel = -1;
+            deletedCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of embeddings that can be returned by a search, i.e. excluding removed ones.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodes.size() - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public EmbeddingSearchResult<Embedded> search(EmbeddingSearchRequest embeddingSearchRequest) {
+
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0) {
+                return new EmbeddingSearchResult<>(new ArrayList<>());
+            }
+
+            float[] query = embeddingSearchRequest.queryEmbedding().vector();
+            ensureDimension(query);
+            query = normalize(query);
+
+            int maxResults = embeddingSearchRequest.maxResults();
+            Filter filter = embeddingSearchRequest.filter();
+            Predicate<Metadata> metadataFilter = filter == null ? null : FilterCompiler.compile(filter);
+
+            int nearest = entryPoint;
+            for (int level = topLevel; level > 0; level--) {
+                nearest = greedySearch(query, nearest, level);
+            }
+
+            PriorityQueue<Candidate> found = searchLayer(
+                    query, nearest, Math.max(efSearch, maxResults), 0, node -> accept(node, metadataFilter));
+
+            List<Candidate> candidates = new ArrayList<>(found);
+            candidates.sort(BEST_FIRST);
+
+            List<EmbeddingMatch<Embedded>> matches = new ArrayList<>();
+            for (Candidate candidate : candidates) {
+                if (matches.size() == maxResults) {
+                    break;
+                }
+                double score = RelevanceScore.fromCosineSimilarity(candidate.similarity);
+                if (score < embeddingSearchRequest.minScore()) {
+                    break;
+                }
+                Node<Embedded> node = nodes.get(candidate.node);
+                matches.add(new EmbeddingMatch<>(score, node.id, node.embedding, node.embedded));
+            }
+            return new EmbeddingSearchResult<>(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean accept(Node<Embedded> node, Predicate<Metadata> metadataFilter) {
+        if (node.deleted) {
+            return false;
+        }
+        if (metadataFilter != null && node.embedded instanceof TextSegment) {
+            return metadataFilter.test(((TextSegment) node.embedded).metadata());
+        }
+        return true;
+    }
+
+    private void insert(String id, Embedding embedding, Embedded embedded, float inverseNorm) {
+
+        Integer existing = nodeIdsByEmbeddingId.get(id);
+        if (existing != null) {
+            markDeleted(nodes.get(existing));
+        }
+
+        int level = randomLevel();
+        int nodeId = nodes.size();
+        Node<Embedded> node = new Node<>(id, embedding, embedded, inverseNorm, level, m, maxNeighboursOnBottomLayer);
+        nodes.add(node);
+        nodeIdsByEmbeddingId.put(id, nodeId);
+
+        if (entryPoint < 0) {
+            entryPoint = nodeId;
+            topLevel = level;
+            return;
+        }
+
+        float[] vector = normalize(embedding.vector());
+        int nearest = entryPoint;
+        for (int l = topLevel; l > level; l--) {
+            nearest = greedySearch(vector, nearest, l);
+        }
+
+        for (int l = Math.min(level, topLevel); l >= 0; l--) {
+            PriorityQueue<Candidate> candidates = searchLayer(vector, nearest, efConstruction, l, n -> true);
+            List<Candidate> neighbours = selectNeighbours(candidates, m);
+            for (Candidate neighbour : neighbours) {
+                node.addNeighbour(l, neighbour.node);
+                connect(neighbour.node, nodeId, l);
+            }
+            nearest = best(candidates).node;
+        }
+
+        if (level > topLevel) {
+            topLevel = level;
+            entryPoint = nodeId;
+        }
+    }
+
+    private void connect(int from, int to, int level) {
+        Node<Embedded> node = nodes.get(from);
+        if (node.addNeighbour(level, to)) {
+            return;
+        }
+
+        // the neighbour list is full: keep the best neighbours, including the new one
+        int maxNeighbours = level == 0 ? maxNeighboursOnBottomLayer : m;
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(WORST_FIRST);
+        int[] neighbours = node.neighbours[level];
+        for (int i = 0; i < node.neighbourCounts[level]; i++) {
+            candidates.add(new Candidate(neighbours[i], similarity(node, nodes.get(neighbours[i]))));
+        }
+        candidates.add(new Candidate(to, similarity(node, nodes.get(to))));
+
+        List<Candidate> selected = selectNeighbours(candidates, maxNeighbours);
+        node.neighbourCounts[level] = 0;
+        for (Candidate candidate : selected) {
+            node.addNeighbour(level, candidate.node);
+        }
+    }
+
+    /**
+     * Selects up to {@code maxNeighbours} neighbours using the heuristic from the HNSW paper:
+     * a candidate is preferred when it is closer to the base node than to any already selected neighbour,
+     * which keeps the graph connected across clusters. Remaining slots are filled with the closest pruned candidates.
+     */
+    private List<Candidate> selectNeighbours(PriorityQueue<Candidate> candidates, int maxNeighbours) {
+        List<Candidate> sorted = new ArrayList<>(candidates);
+        sorted.sort(BEST_FIRST);
+
+        List<Candidate> selected = new ArrayList<>(maxNeighbours);
+        List<Candidate> pruned = new ArrayList<>();
+        for (Candidate candidate : sorted) {
+            if (selected.size() == maxNeighbours) {
+                break;
+            }
+            Node<Embedded> node = nodes.get(candidate.node);
+            boolean diverse = true;
+            for (Candidate neighbour : selected) {
+                if (similarity(node, nodes.get(neighbour.node)) > candidate.similarity) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            } else {
+                pruned.add(candidate);
+            }
+        }
+        for (int i = 0; i < pruned.size() && selected.size() < maxNeighbours; i++) {
+            selected.add(pruned.get(i));
+        }
+        return selected;
+    }
+
+    private int greedySearch(float[] query, int start, int level) {
+        int current = start;
+        float currentSimilarity = similarity(query, nodes.get(current));
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            Node<Embedded> node = nodes.get(current);
+            int[] neighbours = node.neighbours[level];
+            for (int i = 0; i < node.neighbourCounts[level]; i++) {
+                float similarity = similarity(query, nodes.get(neighbours[i]));
+                if (similarity > currentSimilarity) {
+                    currentSimilarity = similarity;
+                    current = neighbours[i];
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Searches a single layer of the graph, starting from {@code start}.
+     * Every visited node is used for navigation, but only nodes accepted by {@code collect}
+     * are added to the returned results (a min-heap of at most {@code ef} candidates).
+     */
+    private PriorityQueue<Candidate> searchLayer(float[] query,
+                                                 int start,
+                                                 int ef,
+                                                 int level,
+                                                 Predicate<Node<Embedded>> collect) {
+        BitSet visited = new BitSet(nodes.size());
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(BEST_FIRST);
+        PriorityQueue<Candidate> results = new PriorityQueue<>(WORST_FIRST);
+
+        Candidate first = new Candidate(start, similarity(query, nodes.get(start)));
+        visited.set(start);
+        candidates.add(first);
+        if (collect.test(nodes.get(start))) {
+            results.add(first);
+        }
+
+        while (!candidates.isEmpty()) {
+            Candidate candidate = candidates.poll();
+            if (results.size() >= ef && candidate.similarity < results.peek().similarity) {
+                break;
+            }
+
+            Node<Embedded> node = nodes.get(candidate.node);
+            int[] neighbours = node.neighbours[level];
+            for (int i = 0; i < node.neighbourCounts[level]; i++) {
+                int neighbourId = neighbours[i];
+                if (visited.get(neighbourId)) {
+                    continue;
+                }
+                visited.set(neighbourId);
+
+                Node<Embedded> neighbour = nodes.get(neighbourId);
+                float similarity = similarity(query, neighbour);
+                if (results.size() < ef || similarity > results.peek().similarity) {
+                    Candidate next = new Candidate(neighbourId, similarity);
+                    candidates.add(next);
+                    if (collect.test(neighbour)) {
+                        results.add(next);
+                        if (results.size() > ef) {
+                            results.poll();
+                        }
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    private static Candidate best(PriorityQueue<Candidate> candidates) {
+        Candidate best = null;
+        for (Candidate candidate : candidates) {
+            if (best == null || candidate.similarity > best.similarity) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    private void markDeleted(Node<Embedded> node) {
+        if (!node.deleted) {
+            node.deleted = true;
+            deletedCount++;
+        }
+    }
+
+    /**
+     * Rebuilds the graph from the remaining embeddings once too many nodes are deleted.
+     * Tombstones still take memory and are visited by every search, and the graph cannot unlink them in place.
+     */
+    private void compactIfNeeded() {
+        if (deletedCount == 0 || deletedCount <= nodes.size() * MAX_DELETED_FRACTION) {
+            return;
+        }
+
+        List<Node<Embedded>> remaining = new ArrayList<>(nodes.size() - deletedCount);
+        for (Node<Embedded> node : nodes) {
+            if (!node.deleted) {
+                remaining.add(node);
+            }
+        }
+
+        nodes.clear();
+        nodeIdsByEmbeddingId.clear();
+        entryPoint = -1;
+        topLevel = -1;
+        deletedCount = 0;
+        for (Node<Embedded> node : remaining) {
+            insert(node.id, node.embedding, node.embedded, node.inverseNorm);
+        }
+    }
+
+    private int randomLevel() {
+        return (int) (-Math.log(1.0 - random.nextDouble()) * levelMultiplier);
+    }
+
+    private void ensureDimension(float[] vector) {
+        if (vector.length != dimension) {
+            throw illegalArgument("Length of vector a (%s) must be equal to the length of vector b (%s)",
+                    vector.length, dimension);
+        }
+    }
+
+    /**
+     * @return {@code 1 / |vector|}, or {@code 0} for a zero vector, so that it has a similarity of 0 with every vector
+     */
+    private static float inverseNorm(float[] vector) {
+        double norm = Math.sqrt(VectorMath.dotProduct(vector, 0, vector, 0, vector.length));
+        return norm > 0 ? (float) (1 / norm) : 0;
+    }
+
+    private static float[] normalize(float[] vector) {
+        float inverseNorm = inverseNorm(vector);
+        float[] normalized = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = vector[i] * inverseNorm;
+        }
+        return normalized;
+    }
+
+    /**
+     * @param query a normalized vector
+     */
+    private static float similarity(float[] query, Node<?> node) {
+        return (float) (VectorMath.dotProduct(query, 0, node.vector(), 0, query.length) * node.inverseNorm);
+    }
+
+    private static float similarity(Node<?> a, Node<?> b) {
+        float[] vector = a.vector();
+        return (float) (VectorMath.dotProduct(vector, 0, b.vector(), 0, vector.length) * a.inverseNorm * b.inverseNorm);
+    }
+
+    private static final class Candidate {
+
+        private final int node;
+        private final float similarity;
+
+        private Candidate(int node, float similarity) {
+            this.node = node;
+            this.similarity = similarity;
+        }
+    }
+
+    private static final class Node<Embedded> {
+
+        private final String id;
+        private final Embedding embedding;
+        private final Embedded embedded;
+        /**
+         * The vectors are kept only once, in {@link #embedding}, and normalized on the fly with this factor.
+         */
+        private final float inverseNorm;
+        private final int[][] neighbours;
+        private final int[] neighbourCounts;
+        private volatile boolean deleted;
+
+        private Node(String id,
+                     Embedding embedding,
+                     Embedded embedded,
+                     float inverseNorm,
+                     int level,
+                     int m,
+                     int maxNeighboursOnBottomLayer) {
+            this.id = id;
+            this.embedding = embedding;
+            this.embedded = embedded;
+            this.inverseNorm = inverseNorm;
+            this.neighbours = new int[level + 1][];
+            this.neighbourCounts = new int[level + 1];
+            for (int l = 0; l <= level; l++) {
+                neighbours[l] = new int[l == 0 ? maxNeighboursOnBottomLayer : m];
+            }
+        }
+
+        private float[] vector() {
+            return embedding.vector();
+        }
+
+        /**
+         * @return {@code false} if the neighbour list of the given level is full
+         */
+        private boolean addNeighbour(int level, int neighbour) {
+            if (neighbourCounts[level] == neighbours[level].length) {
+                return false;
+            }
+            neighbours[level][neighbourCounts[level]++] = neighbour;
+            return true;
+        }
+    }
+
+    public static class Builder<Embedded> {
+
+        private Integer m;
+        private Integer efConstruction;
+        private Integer efSearch;
+        private Long randomSeed;
+
+        /**
+         * @param m The number of neighbours each node keeps per layer (twice as many on the bottom layer).
+         *          Default: 16.
+         * @return builder
+         */
+        public Builder<Embedded> m(Integer m) {
+            this.m = m;
+            return this;
+        }
+
+        /**
+         * @param efConstruction The size of the candidate list used when inserting an embedding. Default: 200.
+         * @return builder
+         */
+        public Builder<Embedded> efConstruction(Integer efConstruction) {
+            this.efConstruction = efConstruction;
+            return this;
+        }
+
+        /**
+         * @param efSearch The size of the candidate list used when searching. Default: 50.
+         * @return builder
+         */
+        public Builder<Embedded> efSearch(Integer efSearch) {
+            this.efSearch = efSearch;
+            return this;
+        }
+
+        /**
+         * @param randomSeed The seed used to assign layers to the inserted embeddings.
+         *                   Useful to build reproducible graphs, e.g. in tests.
+         * @return builder
+         */
+        public Builder<Embedded> randomSeed(Long randomSeed) {
+            this.randomSeed = randomSeed;
+            return this;
+        }
+
+        public HnswEmbeddingStore<Embedded> build() {
+            return new HnswEmbeddingStore<>(m, efConstruction, efSearch, randomSeed);
+        }
+    }
+}
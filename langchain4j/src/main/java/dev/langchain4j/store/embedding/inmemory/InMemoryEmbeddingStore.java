@@ -11,6 +11,7 @@ import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.RelevanceScore;
 import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.filter.FilterCompiler;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -24,6 +25,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.PriorityQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 
 import static dev.langchain4j.internal.Utils.randomUUID;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
@@ -33,6 +35,7 @@ import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static java.util.Comparator.comparingDouble;
 import static java.util.stream.Collectors.toList;
 
@@ -40,6 +43,8 @@ import static java.util.stream.Collectors.toList;
  * An {@link EmbeddingStore} that stores embeddings in memory.
  * <p>
  * Uses a brute force approach by iterating over all embeddings to find the best matches.
+ * The vectors are kept in contiguous arrays with pre-computed norms, so that each search
+ * computes only a single dot product per stored embedding.
  * <p>
  * This store can be persisted using the {@link #serializeToJson()} and {@link #serializeToFile(Path)} methods.
  * <p>
@@ -52,6 +57,12 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
 
     final CopyOnWriteArrayList<Entry<Embedded>> entries;
 
+    /**
+     * A search-optimized snapshot of {@link #entries}, or {@code null} when it has to be rebuilt.
+     * It is transient so that it is never serialized.
+     */
+    private transient volatile VectorIndex<Embedded> index;
+
     public InMemoryEmbeddingStore() {
         this.entries = new CopyOnWriteArrayList<>();
     }
@@ -80,7 +91,7 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
     }
 
     public void add(String id, Embedding embedding, Embedded embedded) {
-        entries.add(new Entry<>(id, embedding, embedded));
+        add(singletonList(new Entry<>(id, embedding, embedded)));
     }
 
     @Override
@@ -109,7 +120,13 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
 
     private List<String> add(List<Entry<Embedded>> newEntries) {
 
-        entries.addAll(newEntries);
+        synchronized (entries) {
+            entries.addAll(newEntries);
+            VectorIndex<Embedded> index = this.index;
+            if (index != null) {
+                this.index = index.append(newEntries);
+            }
+        }
 
         return newEntries.stream()
                 .map(entry -> entry.id)
@@ -120,50 +137,74 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
     public void removeAll(Collection<String> ids) {
         ensureNotEmpty(ids, "ids");
 
-        entries.removeIf(entry -> ids.contains(entry.id));
+        synchronized (entries) {
+            if (entries.removeIf(entry -> ids.contains(entry.id))) {
+                index = null;
+            }
+        }
     }
 
     @Override
     public void removeAll(Filter filter) {
         ensureNotNull(filter, "filter");
 
-        entries.removeIf(entry -> {
-            if (entry.embedded instanceof TextSegment) {
-                return filter.test(((TextSegment) entry.embedded).metadata());
-            } else if (entry.embedded == null) {
-                return false;
-            } else {
-                throw new UnsupportedOperationException("Not supported yet.");
+        Predicate<Metadata> metadataFilter = FilterCompiler.compile(filter);
+        synchronized (entries) {
+            boolean removed = entries.removeIf(entry -> {
+                if (entry.embedded instanceof TextSegment) {
+                    return metadataFilter.test(((TextSegment) entry.embedded).metadata());
+                } else if (entry.embedded == null) {
+                    return false;
+                } else {
+                    throw new UnsupportedOperationException("Not supported yet.");
+                }
+            });
+            if (removed) {
+                index = null;
             }
-        });
+        }
     }
 
     @Override
     public void removeAll() {
-        entries.clear();
+        synchronized (entries) {
+            entries.clear();
+            index = null;
+        }
     }
 
     @Override
     public EmbeddingSearchResult<Embedded> search(EmbeddingSearchRequest embeddingSearchRequest) {
 
+        VectorIndex<Embedded> index = index();
+        if (index.size() > 0 && index.dimension() == embeddingSearchRequest.queryEmbedding().dimension()) {
+            return new EmbeddingSearchResult<>(index.search(
+                    embeddingSearchRequest.queryEmbedding(),
+                    embeddingSearchRequest.maxResults(),
+                    embeddingSearchRequest.minScore(),
+                    embeddingSearchRequest.filter()));
+        }
+
+        // dimensions do not match: fall back to a plain scan, which reports the mismatch for non-filtered entries
         Comparator<EmbeddingMatch<Embedded>> comparator = comparingDouble(EmbeddingMatch::score);
         PriorityQueue<EmbeddingMatch<Embedded>> matches = new PriorityQueue<>(comparator);
 
         Filter filter = embeddingSearchRequest.filter();
+        Predicate<Metadata> metadataFilter = filter == null ? null : FilterCompiler.compile(filter);
 
         for (Entry<Embedded> entry : entries) {
 
-            if (filter != null && entry.embedded instanceof TextSegment) {
+            if (metadataFilter != null && entry.embedded instanceof TextSegment) {
                 Metadata metadata = ((TextSegment) entry.embedded).metadata();
-                if (!filter.test(metadata)) {
+                if (!metadataFilter.test(metadata)) {
                     continue;
                 }
             }
 
-            double cosineSimilarity = CosineSimilarity.between(entry.embedding, embeddingSearchRequest.queryEmbedding());
+            double cosineSimilarity = CosineSimilarity.between(entry.embedding(), embeddingSearchRequest.queryEmbedding());
             double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
             if (score >= embeddingSearchRequest.minScore()) {
-                matches.add(new EmbeddingMatch<>(score, entry.id, entry.embedding, entry.embedded));
+                matches.add(new EmbeddingMatch<>(score, entry.id, entry.embedding(), entry.embedded));
                 if (matches.size() > embeddingSearchRequest.maxResults()) {
                     matches.poll();
                 }
@@ -177,6 +218,20 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         return new EmbeddingSearchResult<>(result);
     }
 
+    private VectorIndex<Embedded> index() {
+        VectorIndex<Embedded> index = this.index;
+        if (index == null) {
+            synchronized (entries) {
+                index = this.index;
+                if (index == null) {
+                    index = VectorIndex.of(entries);
+                    this.index = index;
+                }
+            }
+        }
+        return index;
+    }
+
     public String serializeToJson() {
         return loadCodec().toJson(this);
     }
@@ -211,6 +266,56 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         return fromFile(Paths.get(filePath));
     }
 
+    /**
+     * Writes this store to a file in a compact binary format:
+     * a block of raw little-endian float vectors, followed by a table of ids and a section with the text segments.
+     * Such a file can be loaded much faster than JSON with {@link #fromBinaryFile(Path)}.
+     * <p>
+     * All embeddings must have the same dimension,
+     * and the embedded objects must be {@link TextSegment}s or {@code null}.
+     * <p>
+     * The file is written to a temporary file first and then moved into place,
+     * so it can safely replace a file that is currently loaded with {@link #fromBinaryFile(Path)}.
+     *
+     * @param filePath the file to write to. It is created or overwritten.
+     */
+    public void serializeToBinaryFile(Path filePath) {
+        try {
+            InMemoryEmbeddingStoreBinaryCodec.write(new ArrayList<>(entries), filePath);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void serializeToBinaryFile(String filePath) {
+        serializeToBinaryFile(Paths.get(filePath));
+    }
+
+    /**
+     * Loads a store from a file written by {@link #serializeToBinaryFile(Path)}.
+     * <p>
+     * The vectors are memory-mapped instead of being read onto the heap:
+     * loading takes time proportional to the number of text segments only,
+     * and the search reads the vectors directly from the mapped file.
+     * The file must not be modified in place while the returned store is in use;
+     * replacing it with {@link #serializeToBinaryFile(Path)} is safe.
+     * Embeddings added to the returned store later are kept on the heap as usual.
+     *
+     * @param filePath the file to load
+     * @return the loaded store
+     */
+    public static InMemoryEmbeddingStore<TextSegment> fromBinaryFile(Path filePath) {
+        try {
+            return new InMemoryEmbeddingStore<>(InMemoryEmbeddingStoreBinaryCodec.read(filePath));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static InMemoryEmbeddingStore<TextSegment> fromBinaryFile(String filePath) {
+        return fromBinaryFile(Paths.get(filePath));
+    }
+
     /**
      * Merges given {@code InMemoryEmbeddingStore}s into a single {@code InMemoryEmbeddingStore},
      * copying all entries from each store.
@@ -236,9 +341,15 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
     static class Entry<Embedded> {
 
         String id;
-        Embedding embedding;
+        private Embedding embedding;
         Embedded embedded;
 
+        /**
+         * Set instead of {@link #embedding} when the vector is stored in a memory-mapped file.
+         */
+        transient MappedVectors mappedVectors;
+        transient int mappedIndex;
+
         Entry(String id, Embedding embedding) {
             this(id, embedding, null);
         }
@@ -249,19 +360,39 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
             this.embedded = embedded;
         }
 
+        Entry(String id, MappedVectors mappedVectors, int mappedIndex, Embedded embedded) {
+            this.id = ensureNotBlank(id, "id");
+            this.mappedVectors = ensureNotNull(mappedVectors, "mappedVectors");
+            this.mappedIndex = mappedIndex;
+            this.embedded = embedded;
+        }
+
+        /**
+         * Returns the embedding. For entries backed by a memory-mapped file, the vector is copied onto the heap.
+         * The {@code embedding} field is {@code null} for such entries,
+         * so it must only be accessed through this method.
+         */
+        Embedding embedding() {
+            return embedding != null ? embedding : Embedding.from(mappedVectors.vector(mappedIndex));
+        }
+
+        int dimension() {
+            return embedding != null ? embedding.dimension() : mappedVectors.dimension();
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             Entry<?> that = (Entry<?>) o;
             return Objects.equals(this.id, that.id)
-                    && Objects.equals(this.embedding, that.embedding)
+                    && Objects.equals(this.embedding(), that.embedding())
                     && Objects.equals(this.embedded, that.embedded);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(id, embedding, embedded);
+            return Objects.hash(id, embedding(), embedded);
         }
     }
 
@@ -0,0 +1,387 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.internal.VectorMath;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Reads and writes the binary snapshot format of {@link InMemoryEmbeddingStore}.
+ * <p>
+ * All numbers are little-endian. The file consists of:
+ * <pre>
+ * header   (64 bytes)  magic "L4JE", version, count, dimension,
+ *                      offsets of the norms, the id table and the segment section, zero padding
+ * vectors  (at 64)     count * dimension float32, the raw vectors in entry order
+ * norms    (8-aligned) count float64, the precomputed vector norms
+ * ids                  per entry: id (int32 length + UTF-8 bytes), int64 offset of its segment
+ *                      relative to the segment section, or -1 if the entry has no text segment
+ * segments             per text segment: text (int32 length + UTF-8 bytes), int32 metadata size,
+ *                      and per metadata entry: key (int32 length + UTF-8 bytes), a type tag and the value
+ * </pre>
+ * The vector block is mapped into memory with {@link FileChannel#map} on load and is never copied onto the heap.
+ */
+class InMemoryEmbeddingStoreBinaryCodec {
+
+    private static final int MAGIC = 0x454A344C; // "L4JE" read as a little-endian int
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+
+    private static final byte STRING = 1;
+    private static final byte UUID_TYPE = 2;
+    private static final byte INTEGER = 3;
+    private static final byte LONG = 4;
+    private static final byte FLOAT = 5;
+    private static final byte DOUBLE = 6;
+
+    private static final long NO_SEGMENT = -1;
+
+    private InMemoryEmbeddingStoreBinaryCodec() {
+    }
+
+    /**
+     * Writes the entries to a temporary file in the same directory and then moves it over {@code filePath}.
+     * The file is never modified in place, so a store that currently maps {@code filePath}
+     * keeps reading the previous version until it is closed.
+     */
+    static void write(List<? extends InMemoryEmbeddingStore.Entry<?>> entries, Path filePath) throws IOException {
+
+        Path directory = filePath.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, filePath.getFileName().toString(), ".tmp");
+        try {
+            writeTo(tempFile, entries);
+            try {
+                Files.move(tempFile, filePath, REPLACE_EXISTING, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, filePath, REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static void writeTo(Path file, List<? extends InMemoryEmbeddingStore.Entry<?>> entries) throws IOException {
+
+        int count = entries.size();
+        int dimension = count == 0 ? 0 : entries.get(0).dimension();
+        for (InMemoryEmbeddingStore.Entry<?> entry : entries) {
+            if (entry.dimension() != dimension) {
+                throw new IllegalStateException(String.format(
+                        "All embeddings must have the same dimension to be serialized in binary format, " +
+                                "but found %s and %s", dimension, entry.dimension()));
+            }
+            if (entry.embedded != null && !(entry.embedded instanceof TextSegment)) {
+                throw new IllegalStateException("Only TextSegment can be serialized in binary format, but found "
+                        + entry.embedded.getClass().getName());
+            }
+        }
+
+        long vectorsOffset = HEADER_SIZE;
+        long normsOffset = align8(vectorsOffset + (long) count * dimension * Float.BYTES);
+
+        try (FileChannel channel = FileChannel.open(file, WRITE);
+             Output output = new Output(channel)) {
+
+            output.skip(HEADER_SIZE);
+
+            double[] norms = new double[count];
+            for (int i = 0; i < count; i++) {
+                float[] vector = entries.get(i).embedding().vector();
+                for (float value : vector) {
+                    output.putFloat(value);
+                }
+                norms[i] = Math.sqrt(VectorMath.dotProduct(vector, 0, vector, 0, dimension));
+            }
+
+            output.padTo(normsOffset);
+            for (double norm : norms) {
+                output.putDouble(norm);
+            }
+
+            long idsOffset = output.position();
+            long segmentOffset = 0;
+            List<TextSegment> segments = new ArrayList<>();
+            for (InMemoryEmbeddingStore.Entry<?> entry : entries) {
+                output.putString(entry.id);
+                if (entry.embedded == null) {
+                    output.putLong(NO_SEGMENT);
+                } else {
+                    TextSegment segment = (TextSegment) entry.embedded;
+                    output.putLong(segmentOffset);
+                    segmentOffset += sizeOf(segment);
+                    segments.add(segment);
+                }
+            }
+
+            long segmentsOffset = output.position();
+            for (TextSegment segment : segments) {
+                writeSegment(output, segment);
+            }
+            output.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(LITTLE_ENDIAN);
+            header.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(count)
+                    .putInt(dimension)
+                    .putLong(normsOffset)
+                    .putLong(idsOffset)
+                    .putLong(segmentsOffset)
+                    .rewind();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        }
+    }
+
+    static List<InMemoryEmbeddingStore.Entry<TextSegment>> read(Path filePath) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(filePath, READ)) {
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                // keep reading until the header is complete or the end of the file is reached
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a binary InMemoryEmbeddingStore file: " + filePath);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported binary InMemoryEmbeddingStore version: " + version);
+            }
+            int count = header.getInt();
+            int dimension = header.getInt();
+            long normsOffset = header.getLong();
+            long idsOffset = header.getLong();
+            long segmentsOffset = header.getLong();
+
+            double[] norms = new double[count];
+            if (count > 0) {
+                channel.map(READ_ONLY, normsOffset, (long) count * Double.BYTES)
+                        .order(LITTLE_ENDIAN)
+                        .asDoubleBuffer()
+                        .get(norms);
+            }
+            MappedVectors vectors = MappedVectors.map(channel, HEADER_SIZE, count, dimension, norms);
+
+            long recordsSize = channel.size() - idsOffset;
+            if (recordsSize > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("The id and segment sections must not exceed 2 GB");
+            }
+            MappedByteBuffer records = channel.map(READ_ONLY, idsOffset, recordsSize);
+            records.order(LITTLE_ENDIAN);
+            int segmentsStart = (int) (segmentsOffset - idsOffset);
+
+            List<InMemoryEmbeddingStore.Entry<TextSegment>> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String id = getString(records);
+                long segmentOffset = records.getLong();
+                TextSegment segment = null;
+                if (segmentOffset != NO_SEGMENT) {
+                    segment = readSegment(records, (int) (segmentsStart + segmentOffset));
+                }
+                entries.add(new InMemoryEmbeddingStore.Entry<>(id, vectors, i, segment));
+            }
+            return entries;
+        }
+    }
+
+    private static void writeSegment(Output output, TextSegment segment) throws IOException {
+        output.putString(segment.text());
+        Map<String, Object> metadata = segment.metadata().toMap();
+        output.putInt(metadata.size());
+        for (Map.Entry<String, Object> entry : metadata.entrySet()) {
+            output.putString(entry.getKey());
+            Object value = entry.getValue();
+            if (value instanceof String) {
+                output.putByte(STRING);
+                output.putString((String) value);
+            } else if (value instanceof UUID) {
+                output.putByte(UUID_TYPE);
+                output.putLong(((UUID) value).getMostSignificantBits());
+                output.putLong(((UUID) value).getLeastSignificantBits());
+            } else if (value instanceof Integer) {
+                output.putByte(INTEGER);
+                output.putInt((Integer) value);
+            } else if (value instanceof Long) {
+                output.putByte(LONG);
+                output.putLong((Long) value);
+            } else if (value instanceof Float) {
+                output.putByte(FLOAT);
+                output.putFloat((Float) value);
+            } else if (value instanceof Double) {
+                output.putByte(DOUBLE);
+                output.putDouble((Double) value);
+            } else {
+                throw new IllegalStateException("Unsupported metadata value type: " + value.getClass().getName());
+            }
+        }
+    }
+
+    private static TextSegment readSegment(ByteBuffer records, int position) {
+        ByteBuffer buffer = records.duplicate().order(LITTLE_ENDIAN);
+        buffer.position(position);
+        String text = getString(buffer);
+        int size = buffer.getInt();
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            String key = getString(buffer);
+            byte type = buffer.get();
+            switch (type) {
+                case STRING -> metadata.put(key, getString(buffer));
+                case UUID_TYPE -> metadata.put(key, new UUID(buffer.getLong(), buffer.getLong()));
+                case INTEGER -> metadata.put(key, buffer.getInt());
+                case LONG -> metadata.put(key, buffer.getLong());
+                case FLOAT -> metadata.put(key, buffer.getFloat());
+                case DOUBLE -> metadata.put(key, buffer.getDouble());
+                default -> throw new IllegalArgumentException("Unknown metadata value type: " + type);
+            }
+        }
+        return TextSegment.from(text, Metadata.from(metadata));
+    }
+
+    private static long sizeOf(TextSegment segment) {
+        long size = sizeOf(segment.text()) + Integer.BYTES;
+        for (Map.Entry<String, Object> entry : segment.metadata().toMap().entrySet()) {
+            size += sizeOf(entry.getKey()) + 1;
+            Object value = entry.getValue();
+            if (value instanceof String) {
+                size += sizeOf((String) value);
+            } else if (value instanceof UUID) {
+                size += 2 * Long.BYTES;
+            } else if (value instanceof Integer || value instanceof Float) {
+                size += Integer.BYTES;
+            } else {
+                size += Long.BYTES;
+            }
+        }
+        return size;
+    }
+
+    private static long sizeOf(String value) {
+        return Integer.BYTES + value.getBytes(UTF_8).length;
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static long align8(long offset) {
+        return (offset + 7) & ~7L;
+    }
+
+    /**
+     * Buffered, little-endian writer on top of a {@link FileChannel}.
+     */
+    private static class Output implements AutoCloseable {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(LITTLE_ENDIAN);
+        private long position;
+
+        Output(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        long position() {
+            return position;
+        }
+
+        void skip(int bytes) throws IOException {
+            for (int i = 0; i < bytes; i++) {
+                putByte((byte) 0);
+            }
+        }
+
+        void padTo(long offset) throws IOException {
+            while (position < offset) {
+                putByte((byte) 0);
+            }
+        }
+
+        void putByte(byte value) throws IOException {
+            ensureRemaining(1);
+            buffer.put(value);
+            position += 1;
+        }
+
+        void putInt(int value) throws IOException {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+            position += Integer.BYTES;
+        }
+
+        void putLong(long value) throws IOException {
+            ensureRemaining(Long.BYTES);
+            buffer.putLong(value);
+            position += Long.BYTES;
+        }
+
+        void putFloat(float value) throws IOException {
+            ensureRemaining(Float.BYTES);
+            buffer.putFloat(value);
+            position += Float.BYTES;
+        }
+
+        void putDouble(double value) throws IOException {
+            ensureRemaining(Double.BYTES);
+            buffer.putDouble(value);
+            position += Double.BYTES;
+        }
+
+        void putString(String value) throws IOException {
+            byte[] bytes = value.getBytes(UTF_8);
+            putInt(bytes.length);
+            int offset = 0;
+            while (offset < bytes.length) {
+                ensureRemaining(1);
+                int length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, length);
+                offset += length;
+            }
+            position += bytes.length;
+        }
+
+        private void ensureRemaining(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -50,6 +50,9 @@ class JacksonInMemoryEmbeddingStoreJsonCodec implements InMemoryEmbeddingStoreJs
                 @JsonProperty("embedding") Embedding embedding,
                 @JsonProperty("embedded") T embedded) {
         }
+
+        @JsonProperty("embedding")
+        abstract Embedding embedding();
     }
 
     private abstract static class EmbeddingMixIn {
@@ -0,0 +1,87 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.internal.VectorMath;
+
+import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+
+/**
+ * Vectors of the same dimension, stored as little-endian floats in a memory-mapped file.
+ * <p>
+ * The vectors are never loaded onto the heap as a whole: only a single vector at a time is copied,
+ * when it is requested with {@link #vector(int)} or compared with {@link #dotProduct(int, float[], float[])}.
+ * Since a single mapping cannot exceed 2 GB, the region is mapped in several chunks,
+ * each holding a whole number of vectors.
+ * The mapping stays valid as long as this object is reachable, even after the file channel is closed.
+ * The file must not be modified while it is mapped.
+ */
+final class MappedVectors {
+
+    private final FloatBuffer[] chunks;
+    private final int vectorsPerChunk;
+    private final int dimension;
+    private final int count;
+    private final double[] norms;
+
+    private MappedVectors(FloatBuffer[] chunks, int vectorsPerChunk, int dimension, int count, double[] norms) {
+        this.chunks = chunks;
+        this.vectorsPerChunk = vectorsPerChunk;
+        this.dimension = dimension;
+        this.count = count;
+        this.norms = norms;
+    }
+
+    static MappedVectors map(FileChannel channel, long offset, int count, int dimension, double[] norms)
+            throws IOException {
+        if (count == 0) {
+            return new MappedVectors(new FloatBuffer[0], 1, dimension, 0, norms);
+        }
+        long bytesPerVector = dimension * 4L;
+        int vectorsPerChunk = (int) Math.max(1, Math.min(count, Integer.MAX_VALUE / Math.max(bytesPerVector, 1)));
+        int chunkCount = (count + vectorsPerChunk - 1) / vectorsPerChunk;
+
+        FloatBuffer[] chunks = new FloatBuffer[chunkCount];
+        for (int c = 0; c < chunkCount; c++) {
+            int vectorsInChunk = Math.min(vectorsPerChunk, count - c * vectorsPerChunk);
+            long position = offset + c * vectorsPerChunk * bytesPerVector;
+            chunks[c] = channel.map(READ_ONLY, position, vectorsInChunk * bytesPerVector)
+                    .order(LITTLE_ENDIAN)
+                    .asFloatBuffer();
+        }
+        return new MappedVectors(chunks, vectorsPerChunk, dimension, count, norms);
+    }
+
+    int dimension() {
+        return dimension;
+    }
+
+    int count() {
+        return count;
+    }
+
+    double norm(int index) {
+        return norms[index];
+    }
+
+    float[] vector(int index) {
+        float[] vector = new float[dimension];
+        chunks[index / vectorsPerChunk].get((index % vectorsPerChunk) * dimension, vector);
+        return vector;
+    }
+
+    /**
+     * Computes the dot product of the vector at the given index with the given vector.
+     * The stored vector is first copied from the mapped region into {@code buffer} with a single bulk copy,
+     * so that the dot product runs on a plain array.
+     *
+     * @param buffer an array of length {@link #dimension()}, reused between calls
+     */
+    double dotProduct(int index, float[] vector, float[] buffer) {
+        chunks[index / vectorsPerChunk].get((index % vectorsPerChunk) * dimension, buffer);
+        return VectorMath.dotProduct(buffer, 0, vector, 0, dimension);
+    }
+}
@@ -0,0 +1,309 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.internal.VectorMath;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.RelevanceScore;
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.filter.FilterCompiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * An immutable snapshot of the vectors stored in an {@link InMemoryEmbeddingStore}, laid out for fast exhaustive search.
+ * <p>
+ * Vectors are copied into contiguous {@code float[]} blocks of {@link #BLOCK_SIZE} vectors each,
+ * and their norms are computed once, when they are added.
+ * A search therefore computes only one dot product per vector and does not allocate per candidate:
+ * the best matches are kept in a bounded heap of primitive scores and positions.
+ * <p>
+ * Vectors of entries loaded from a binary file (see {@link MappedVectors}) are not copied:
+ * they are read directly from the memory-mapped region.
+ * <p>
+ * Appending creates a new snapshot that shares the already filled blocks with the previous one,
+ * so readers of the previous snapshot are never affected and never need to lock.
+ * <p>
+ * Entries whose dimension differs from the dimension of the first entry are not copied into blocks;
+ * they are scored with {@link CosineSimilarity#between}, exactly as before this index existed.
+ */
+final class VectorIndex<Embedded> {
+
+    static final int BLOCK_SIZE = 1024;
+
+    private static final double NOT_INDEXED = Double.NaN;
+    private static final int NOT_MAPPED = -1;
+
+    private final int dimension;
+    private final InMemoryEmbeddingStore.Entry<Embedded>[] entries;
+    private final double[] norms;
+    private final float[][] blocks;
+    private final MappedVectors mapped;
+    private final int[] mappedPositions;
+    private final int size;
+
+    private VectorIndex(int dimension,
+                        InMemoryEmbeddingStore.Entry<Embedded>[] entries,
+                        double[] norms,
+                        float[][] blocks,
+                        MappedVectors mapped,
+                        int[] mappedPositions,
+                        int size) {
+        this.dimension = dimension;
+        this.entries = entries;
+        this.norms = norms;
+        this.blocks = blocks;
+        this.mapped = mapped;
+        this.mappedPositions = mappedPositions;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <Embedded> VectorIndex<Embedded> empty() {
+        return new VectorIndex<>(-1, new InMemoryEmbeddingStore.Entry[0], new double[0], new float[0][], null, null, 0);
+    }
+
+    static <Embedded> VectorIndex<Embedded> of(List<InMemoryEmbeddingStore.Entry<Embedded>> entries) {
+        return VectorIndex.<Embedded>empty().append(entries);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int dimension() {
+        return dimension;
+    }
+
+    /**
+     * Returns a new snapshot containing the entries of this snapshot followed by the given entries.
+     * This snapshot remains valid and unchanged.
+     */
+    VectorIndex<Embedded> append(List<InMemoryEmbeddingStore.Entry<Embedded>> newEntries) {
+        if (newEntries.isEmpty()) {
+            return this;
+        }
+
+        int newSize = size + newEntries.size();
+        int dimension = this.dimension >= 0 ? this.dimension : newEntries.get(0).dimension();
+
+        InMemoryEmbeddingStore.Entry<Embedded>[] entries = this.entries;
+        double[] norms = this.norms;
+        int[] mappedPositions = this.mappedPositions;
+        if (newSize > entries.length) {
+            int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(newSize, entries.length * 3L / 2 + 16));
+            entries = Arrays.copyOf(entries, capacity);
+            norms = Arrays.copyOf(norms, capacity);
+            if (mappedPositions != null) {
+                mappedPositions = Arrays.copyOf(mappedPositions, capacity);
+            }
+        }
+
+        MappedVectors mapped = this.mapped;
+        if (mapped == null) {
+            for (InMemoryEmbeddingStore.Entry<Embedded> entry : newEntries) {
+                if (entry.mappedVectors != null && entry.mappedVectors.dimension() == dimension) {
+                    mapped = entry.mappedVectors;
+                    mappedPositions = new int[entries.length];
+                    Arrays.fill(mappedPositions, 0, size, NOT_MAPPED);
+                    break;
+                }
+            }
+        }
+
+        int blockCount = (newSize + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        float[][] blocks = Arrays.copyOf(this.blocks, Math.max(this.blocks.length, blockCount));
+
+        // slots at and after 'size' are never read through this snapshot, so they can be written safely
+        for (int i = 0; i < newEntries.size(); i++) {
+            int position = size + i;
+            InMemoryEmbeddingStore.Entry<Embedded> entry = newEntries.get(i);
+            entries[position] = entry;
+
+            if (mapped != null && entry.mappedVectors == mapped) {
+                mappedPositions[position] = entry.mappedIndex;
+                norms[position] = mapped.norm(entry.mappedIndex);
+                continue;
+            }
+            if (mappedPositions != null) {
+                mappedPositions[position] = NOT_MAPPED;
+            }
+
+            float[] vector = entry.embedding().vector();
+            if (vector.length == dimension) {
+                float[] block = blockFor(blocks, position, dimension);
+                int offset = (position % BLOCK_SIZE) * dimension;
+                System.arraycopy(vector, 0, block, offset, dimension);
+                norms[position] = Math.sqrt(VectorMath.dotProduct(block, offset, vector, 0, dimension));
+            } else {
+                norms[position] = NOT_INDEXED;
+            }
+        }
+
+        return new VectorIndex<>(dimension, entries, norms, blocks, mapped, mappedPositions, newSize);
+    }
+
+    /**
+     * Returns the block that can hold the vector at the given position, allocating or growing it if needed.
+     * Blocks are allocated lazily, so that positions backed by a mapped file do not use any heap.
+     * A block that has to grow is copied; the previous snapshot keeps referencing the old copy.
+     */
+    private static float[] blockFor(float[][] blocks, int position, int dimension) {
+        int b = position / BLOCK_SIZE;
+        int required = (position % BLOCK_SIZE + 1) * dimension;
+        float[] block = blocks[b];
+        if (block == null) {
+            block = new float[Math.min(BLOCK_SIZE * dimension, Math.max(required, 16 * dimension))];
+            blocks[b] = block;
+        } else if (block.length < required) {
+            block = Arrays.copyOf(block, Math.max(required, Math.min(BLOCK_SIZE * dimension, block.length * 2)));
+            blocks[b] = block;
+        }
+        return block;
+    }
+
+    /**
+     * Finds the best matching entries.
+     * The caller must make sure that the dimension of the query vector equals {@link #dimension()}.
+     */
+    List<EmbeddingMatch<Embedded>> search(Embedding queryEmbedding, int maxResults, double minScore, Filter filter) {
+
+        float[] queryVector = queryEmbedding.vector();
+
+        double queryNorm = Math.sqrt(VectorMath.dotProduct(queryVector, 0, queryVector, 0, dimension));
+        float[] mappedVector = mapped == null ? null : new float[dimension];
+        TopK topK = new TopK(maxResults);
+        Predicate<Metadata> metadataFilter = filter == null ? null : FilterCompiler.compile(filter);
+
+        for (int i = 0; i < size; i++) {
+
+            InMemoryEmbeddingStore.Entry<Embedded> entry = entries[i];
+            if (metadataFilter != null && entry.embedded instanceof TextSegment) {
+                if (!metadataFilter.test(((TextSegment) entry.embedded).metadata())) {
+                    continue;
+                }
+            }
+
+            double cosineSimilarity;
+            double norm = norms[i];
+            if (Double.isNaN(norm)) {
+                cosineSimilarity = CosineSimilarity.between(entry.embedding(), queryEmbedding);
+            } else {
+                int mappedPosition = mappedPositions == null ? NOT_MAPPED : mappedPositions[i];
+                double dotProduct = mappedPosition == NOT_MAPPED
+                        ? VectorMath.dotProduct(
+                                blocks[i / BLOCK_SIZE], (i % BLOCK_SIZE) * dimension, queryVector, 0, dimension)
+                        : mapped.dotProduct(mappedPosition, queryVector, mappedVector);
+                cosineSimilarity = dotProduct / Math.max(norm * queryNorm, CosineSimilarity.EPSILON);
+            }
+
+            double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
+            if (score >= minScore) {
+                topK.offer(score, i);
+            }
+        }
+
+        double[] scores = new double[topK.size()];
+        int[] positions = new int[topK.size()];
+        topK.drainDescending(scores, positions);
+
+        List<EmbeddingMatch<Embedded>> matches = new ArrayList<>(positions.length);
+        for (int i = 0; i < positions.length; i++) {
+            InMemoryEmbeddingStore.Entry<Embedded> entry = entries[positions[i]];
+            matches.add(new EmbeddingMatch<>(scores[i], entry.id, entry.embedding(), entry.embedded));
+        }
+        return matches;
+    }
+
+    /**
+     * A bounded min-heap of (score, position) pairs backed by primitive arrays.
+     * The heap root is the worst of the best matches found so far.
+     */
+    static final class TopK {
+
+        private final int capacity;
+        private double[] scores;
+        private int[] positions;
+        private int size;
+
+        TopK(int capacity) {
+            this.capacity = Math.max(capacity, 0);
+            int initialLength = Math.max(Math.min(this.capacity, 64), 1);
+            this.scores = new double[initialLength];
+            this.positions = new int[initialLength];
+        }
+
+        void offer(double score, int position) {
+            if (size < capacity) {
+                if (size == scores.length) {
+                    int length = (int) Math.min(capacity, scores.length * 2L);
+                    scores = Arrays.copyOf(scores, length);
+                    positions = Arrays.copyOf(positions, length);
+                }
+                siftUp(size++, score, position);
+            } else if (capacity > 0 && score > scores[0]) {
+                siftDown(0, score, position);
+            }
+        }
+
+        private void siftUp(int i, double score, int position) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (scores[parent] <= score) {
+                    break;
+                }
+                scores[i] = scores[parent];
+                positions[i] = positions[parent];
+                i = parent;
+            }
+            scores[i] = score;
+            positions[i] = position;
+        }
+
+        private void siftDown(int i, double score, int position) {
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                int right = child + 1;
+                if (right < size && scores[right] < scores[child]) {
+                    child = right;
+                }
+                if (score <= scores[child]) {
+                    break;
+                }
+                scores[i] = scores[child];
+                positions[i] = positions[child];
+                i = child;
+            }
+            scores[i] = score;
+            positions[i] = position;
+        }
+
+        /**
+         * Empties the heap into the given arrays, ordered from the highest to the lowest score.
+         *
+         * @return the number of elements written
+         */
+        int drainDescending(double[] sortedScores, int[] sortedPositions) {
+            int count = size;
+            for (int i = count - 1; i >= 0; i--) {
+                sortedScores[i] = scores[0];
+                sortedPositions[i] = positions[0];
+                size--;
+                if (size > 0) {
+                    siftDown(0, scores[size], positions[size]);
+                }
+            }
+            return count;
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
@@ -1,9 +1,16 @@
 package dev.langchain4j.classification;
 
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.RelevanceScore;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -15,6 +22,7 @@ import static dev.langchain4j.classification.EmbeddingModelTextClassifierTest.Cu
 import static dev.langchain4j.classification.EmbeddingModelTextClassifierTest.CustomerServiceCategory.RETURNS_AND_EXCHANGES;
 import static dev.langchain4j.classification.EmbeddingModelTextClassifierTest.CustomerServiceCategory.TECHNICAL_SUPPORT;
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.offset;
 
@@ -291,4 +299,88 @@ class EmbeddingModelTextClassifierTest {
         assertThat(result.scoredLabels().stream().map(ScoredLabel::score).findFirst().orElse(null))
             .isCloseTo(minScore, offset(0.1));
     }
+
+    @Test
+    void should_classify_all() {
+
+        TextClassifier<CustomerServiceCategory> classifier = new EmbeddingModelTextClassifier<>(
+            new AllMiniLmL6V2QuantizedEmbeddingModel(),
+            examples,
+            2,
+            0.6,
+            0.5
+        );
+
+        List<String> texts = asList("Yo where is my order?", "Bro, this product is crap", "banana");
+
+        List<ClassificationResult<CustomerServiceCategory>> results = classifier.classifyAllWithScores(texts);
+
+        assertThat(results).hasSize(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            ClassificationResult<CustomerServiceCategory> result = classifier.classifyWithScores(texts.get(i));
+            assertThat(results.get(i).scoredLabels().stream().map(ScoredLabel::label))
+                .containsExactlyElementsOf(result.scoredLabels().stream().map(ScoredLabel::label).collect(toList()));
+            for (int j = 0; j < result.scoredLabels().size(); j++) {
+                assertThat(results.get(i).scoredLabels().get(j).score())
+                    .isCloseTo(result.scoredLabels().get(j).score(), offset(1e-6));
+            }
+        }
+        assertThat(classifier.classifyAll(texts).get(0)).startsWith(ORDER_STATUS);
+    }
+
+    @Test
+    void should_score_like_cosine_similarity() {
+
+        Map<String, List<String>> examples = new LinkedHashMap<>();
+        examples.put("A", asList("1 0 0", "2 1 0"));
+        examples.put("B", asList("0 1 0", "0 0 3"));
+        examples.put("C", asList("0 0 0"));
+
+        TextClassifier<String> classifier = new EmbeddingModelTextClassifier<>(
+            new VectorParsingEmbeddingModel(),
+            examples,
+            3,
+            0,
+            0.3
+        );
+
+        ClassificationResult<String> result = classifier.classifyWithScores("3 1 1");
+
+        Embedding text = embedding("3 1 1");
+        assertThat(result.scoredLabels()).extracting(ScoredLabel::label).containsExactly("A", "B", "C");
+        assertThat(result.scoredLabels().get(0).score())
+            .isCloseTo(expectedScore(text, examples.get("A"), 0.3), offset(1e-6));
+        assertThat(result.scoredLabels().get(1).score())
+            .isCloseTo(expectedScore(text, examples.get("B"), 0.3), offset(1e-6));
+        assertThat(result.scoredLabels().get(2).score())
+            .isCloseTo(expectedScore(text, examples.get("C"), 0.3), offset(1e-6));
+    }
+
+    private static double expectedScore(Embedding text, List<String> examples, double meanToMaxScoreRatio) {
+        List<Double> scores = examples.stream()
+            .map(example -> RelevanceScore.fromCosineSimilarity(CosineSimilarity.between(text, embedding(example))))
+            .collect(toList());
+        double meanScore = scores.stream().mapToDouble(Double::doubleValue).average().orElseThrow();
+        double maxScore = scores.stream().mapToDouble(Double::doubleValue).max().orElseThrow();
+        return meanToMaxScoreRatio * meanScore + (1 - meanToMaxScoreRatio) * maxScore;
+    }
+
+    private static Embedding embedding(String text) {
+        String[] values = text.split(" ");
+        float[] vector = new float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            vector[i] = Float.parseFloat(values[i]);
+        }
+        return Embedding.from(vector);
+    }
+
+    private static class VectorParsingEmbeddingModel implements EmbeddingModel {
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            return Response.from(textSegments.stream()
+                .map(textSegment -> embedding(textSegment.text()))
+                .collect(toList()));
+        }
+    }
 }
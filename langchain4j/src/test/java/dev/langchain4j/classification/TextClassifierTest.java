@@ -67,4 +67,16 @@ class TextClassifierTest implements WithAssertions {
         assertThat(results.scoredLabels().stream().map(ScoredLabel::score).collect(Collectors.toList()))
                 .allMatch(score -> score == 1.0);
     }
+
+    @Test
+    void classify_all() {
+        CatClassifier classifier = new CatClassifier();
+
+        List<List<Categories>> results = classifier.classifyAll(List.of("cat fish", "dog", "bird"));
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0)).containsOnly(Categories.CAT, Categories.FISH);
+        assertThat(results.get(1)).containsOnly(Categories.DOG);
+        assertThat(results.get(2)).isEmpty();
+    }
 }
@@ -6,7 +6,11 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.openai.OpenAiTokenizer;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static dev.langchain4j.data.document.Metadata.metadata;
 import static dev.langchain4j.data.segment.TextSegment.textSegment;
@@ -173,4 +177,27 @@ class DocumentBySentenceSplitterTest {
                 textSegment(s18, metadata("index", "10").put("document", "0"))
         );
     }
+
+    @Test
+    void should_split_concurrently_with_shared_instance() throws Exception {
+
+        String text = "This is a first sentence. This is a second sentence. This is a third sentence. ".repeat(100);
+        Document document = Document.from(text);
+        DocumentSplitter splitter = new DocumentBySentenceSplitter(60, 20);
+
+        List<TextSegment> expected = splitter.split(document);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<TextSegment>>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(executor.submit(() -> splitter.split(document)));
+            }
+            for (Future<List<TextSegment>> future : futures) {
+                assertThat(future.get()).isEqualTo(expected);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
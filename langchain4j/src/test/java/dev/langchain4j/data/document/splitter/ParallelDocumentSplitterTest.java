@@ -0,0 +1,55 @@
+package dev.langchain4j.data.document.splitter;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.segment.TextSegment;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static dev.langchain4j.data.document.Metadata.metadata;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelDocumentSplitterTest {
+
+    @Test
+    void should_split_all_documents_in_the_same_order_as_sequential_splitter() {
+
+        List<Document> documents = IntStream.range(0, 100)
+                .mapToObj(i -> Document.from(
+                        "Paragraph one of " + i + ".\n\nParagraph two of " + i + ".\n\nParagraph three of " + i + ".",
+                        metadata("document", String.valueOf(i))))
+                .toList();
+
+        DocumentSplitter splitter = new DocumentByParagraphSplitter(30, 0);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<TextSegment> segments = new ParallelDocumentSplitter(splitter, pool).splitAll(documents);
+
+            assertThat(segments).hasSize(300);
+            assertThat(segments).containsExactlyElementsOf(splitter.splitAll(documents));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void should_rethrow_exception_thrown_by_splitter() {
+
+        DocumentSplitter failingSplitter = document -> {
+            if (document.text().equals("fail")) {
+                throw new IllegalStateException("cannot split");
+            }
+            return List.of(document.toTextSegment());
+        };
+
+        List<Document> documents = List.of(Document.from("ok"), Document.from("fail"), Document.from("ok"));
+
+        assertThatThrownBy(() -> new ParallelDocumentSplitter(failingSplitter).splitAll(documents))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("cannot split");
+    }
+}
@@ -65,4 +65,22 @@ class SegmentBuilderTest implements WithAssertions {
             assertThat(builder.toString()).isEqualTo("Hello world");
         }
     }
+
+    @Test
+    void additive_size() {
+        SegmentBuilder builder = new SegmentBuilder(20, String::length, true, " ");
+
+        builder.append("");
+        assertThat(builder.isNotEmpty()).isFalse();
+
+        builder.append("world", 5);
+        builder.prepend("Hello");
+        assertThat(builder.getSize()).isEqualTo(11);
+        assertThat(builder.hasSpaceFor("again!!!")).isTrue();
+        assertThat(builder.hasSpaceFor("again!!!!")).isFalse();
+
+        builder.append(" ");
+        assertThat(builder.getSize()).isEqualTo(13);
+        assertThat(builder.toString()).isEqualTo("Hello world");
+    }
 }
@@ -6,7 +6,13 @@ import static dev.langchain4j.internal.TestUtils.aiMessageWithTokens;
 import static dev.langchain4j.internal.TestUtils.systemMessageWithTokens;
 import static dev.langchain4j.internal.TestUtils.userMessageWithTokens;
 import static dev.langchain4j.model.openai.OpenAiChatModelName.GPT_3_5_TURBO;
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.data.message.AiMessage;
@@ -17,6 +23,8 @@ import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.model.Tokenizer;
 import dev.langchain4j.model.openai.OpenAiTokenizer;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
@@ -594,4 +602,60 @@ class TokenWindowChatMemoryTest implements WithAssertions {
                 .isEqualTo(EXTRA_TOKENS_PER_REQUEST + systemMessageTokens + aiMessage2Tokens)
                 .isEqualTo(32);
     }
+
+    @Test
+    void should_tokenize_each_message_only_once() {
+
+        // given
+        Tokenizer tokenizer = spy(TOKENIZER);
+        ChatMemory chatMemory = TokenWindowChatMemory.withMaxTokens(1000, tokenizer);
+        chatMemory.add(systemMessage("You are a helpful assistant"));
+        chatMemory.add(userMessage("hello"));
+        chatMemory.add(aiMessageWithTokens(10));
+        clearInvocations(tokenizer);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            chatMemory.messages();
+        }
+        UserMessage userMessage = userMessage("world");
+        chatMemory.add(userMessage);
+
+        // then
+        verify(tokenizer).estimateTokenCountInMessage(userMessage);
+        verify(tokenizer).estimateTokenCountInMessage(any());
+        verify(tokenizer, never()).estimateTokenCountInMessages(any());
+        assertThat(chatMemory.messages()).hasSize(4);
+    }
+
+    @Test
+    void should_reflect_changes_made_to_chat_memory_store_by_others() {
+
+        // given
+        ChatMemoryStore store = new InMemoryChatMemoryStore();
+        ChatMessage m1 = userMessageWithTokens(11);
+        ChatMessage m2 = aiMessageWithTokens(10);
+        ChatMessage m3 = userMessageWithTokens(10);
+
+        int maxTokens = EXTRA_TOKENS_PER_REQUEST
+                + TOKENIZER.estimateTokenCountInMessage(m2)
+                + TOKENIZER.estimateTokenCountInMessage(m3);
+        ChatMemory chatMemory = TokenWindowChatMemory.builder()
+                .chatMemoryStore(store)
+                .maxTokens(maxTokens, TOKENIZER)
+                .build();
+        chatMemory.add(m1);
+
+        // when
+        store.updateMessages("default", asList(m1, m2, m3));
+
+        // then
+        assertThat(chatMemory.messages()).containsExactly(m2, m3);
+
+        // when
+        store.deleteMessages("default");
+
+        // then
+        assertThat(chatMemory.messages()).isEmpty();
+    }
 }
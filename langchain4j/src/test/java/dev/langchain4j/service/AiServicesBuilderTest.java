@@ -5,16 +5,18 @@ import static org.mockito.Mockito.mock;
 
 import dev.langchain4j.agent.tool.Tool;
 import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.model.chat.mock.ChatModelMock;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.rag.RetrievalAugmentor;
 import dev.langchain4j.rag.content.retriever.ContentRetriever;
+import dev.langchain4j.service.memory.ChatMemoryService;
 import org.junit.jupiter.api.Test;
 
 /**
  * Verify that the AIServices builder doesn't allow setting more than out of
- * (retriever, contentRetriever, retrievalAugmentor).
+ * (retriever, contentRetriever, retrievalAugmentor), nor chatMemoryService together with chatMemory or chatMemoryProvider.
  */
 class AiServicesBuilderTest {
 
@@ -44,6 +46,22 @@ class AiServicesBuilderTest {
         });
     }
 
+    @Test
+    void chatMemoryServiceAndChatMemoryOrChatMemoryProvider() {
+        ChatMemoryService chatMemoryService = new ChatMemoryService(memoryId -> mock(ChatMemory.class));
+
+        assertThatExceptionOfType(IllegalConfigurationException.class).isThrownBy(() -> {
+            AiServices.builder(AiServices.class)
+                    .chatMemory(mock(ChatMemory.class))
+                    .chatMemoryService(chatMemoryService);
+        });
+        assertThatExceptionOfType(IllegalConfigurationException.class).isThrownBy(() -> {
+            AiServices.builder(AiServices.class)
+                    .chatMemoryService(chatMemoryService)
+                    .chatMemoryProvider(memoryId -> mock(ChatMemory.class));
+        });
+    }
+
     static class HelloWorld {
 
         @Tool("Say hello")
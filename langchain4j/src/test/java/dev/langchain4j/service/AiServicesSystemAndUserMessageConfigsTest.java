@@ -539,6 +539,33 @@ class AiServicesSystemAndUserMessageConfigsTest {
                         .build());
     }
 
+    @Test
+    void should_apply_arguments_of_each_invocation_of_the_same_method() {
+
+        // given
+        AiService aiService = AiServices.builder(AiService.class)
+                .chatLanguageModel(model)
+                .build();
+
+        // when
+        aiService.chat5("a name of it's capital", "Country: {{country}}", "Germany");
+        aiService.chat5("a name of it's largest city", "{{country}}", "France");
+
+        // then
+        verify(model)
+                .chat(ChatRequest.builder()
+                        .messages(
+                                systemMessage("Given a name of a country, answer with a name of it's capital"),
+                                userMessage("Country: Germany"))
+                        .build());
+        verify(model)
+                .chat(ChatRequest.builder()
+                        .messages(
+                                systemMessage("Given a name of a country, answer with a name of it's largest city"),
+                                userMessage("France"))
+                        .build());
+    }
+
     @Test
     void illegal_system_message_configuration_1() {
 
@@ -0,0 +1,104 @@
+package dev.langchain4j.service.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class ChatMemoryServiceTest {
+
+    private final List<Object> evictedIds = new ArrayList<>();
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    void should_hold_chat_memories_until_explicitly_evicted_by_default() {
+
+        ChatMemoryService chatMemoryService = new ChatMemoryService(ChatMemoryServiceTest::chatMemory);
+
+        ChatMemory first = chatMemoryService.getOrCreateChatMemory("first");
+        assertThat(chatMemoryService.getOrCreateChatMemory("first")).isSameAs(first);
+        chatMemoryService.getOrCreateChatMemory("second");
+
+        assertThat(chatMemoryService.stats()).isEqualTo(new ChatMemoryService.Stats(1, 2, 0, 2));
+
+        assertThat(chatMemoryService.evictChatMemory("first")).isSameAs(first);
+        assertThat(chatMemoryService.getChatMemory("first")).isNull();
+        assertThat(chatMemoryService.stats().size()).isEqualTo(1);
+    }
+
+    @Test
+    void should_evict_least_recently_used_chat_memory_when_max_is_exceeded() {
+
+        ChatMemoryService chatMemoryService = ChatMemoryService.builder()
+                .chatMemoryProvider(ChatMemoryServiceTest::chatMemory)
+                .maxChatMemories(2)
+                .evictionListener(chatMemory -> evictedIds.add(chatMemory.id()))
+                .build();
+
+        ChatMemory first = chatMemoryService.getOrCreateChatMemory("first");
+        chatMemoryService.getOrCreateChatMemory("second");
+        assertThat(chatMemoryService.getOrCreateChatMemory("first")).isSameAs(first);
+
+        chatMemoryService.getOrCreateChatMemory("third");
+
+        assertThat(evictedIds).containsExactly("second");
+        assertThat(chatMemoryService.getChatMemory("first")).isSameAs(first);
+        assertThat(chatMemoryService.getChatMemory("second")).isNull();
+        assertThat(chatMemoryService.stats()).isEqualTo(new ChatMemoryService.Stats(1, 3, 1, 2));
+    }
+
+    @Test
+    void should_evict_chat_memories_that_have_not_been_accessed_recently() {
+
+        ChatMemoryService chatMemoryService = ChatMemoryService.builder()
+                .chatMemoryProvider(ChatMemoryServiceTest::chatMemory)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .evictionListener(chatMemory -> evictedIds.add(chatMemory.id()))
+                .nanoTime(nanoTime::get)
+                .build();
+
+        ChatMemory first = chatMemoryService.getOrCreateChatMemory("first");
+        chatMemoryService.getOrCreateChatMemory("second");
+
+        nanoTime.addAndGet(Duration.ofMinutes(6).toNanos());
+        assertThat(chatMemoryService.getOrCreateChatMemory("first")).isSameAs(first);
+
+        nanoTime.addAndGet(Duration.ofMinutes(6).toNanos());
+        assertThat(chatMemoryService.getChatMemory("first")).isSameAs(first);
+        assertThat(evictedIds).containsExactly("second");
+
+        nanoTime.addAndGet(Duration.ofMinutes(10).toNanos());
+        ChatMemory newFirst = chatMemoryService.getOrCreateChatMemory("first");
+
+        assertThat(newFirst).isNotSameAs(first);
+        assertThat(evictedIds).containsExactly("second", "first");
+        assertThat(chatMemoryService.stats()).isEqualTo(new ChatMemoryService.Stats(1, 3, 2, 1));
+    }
+
+    @Test
+    void should_not_notify_eviction_listener_when_chat_memory_is_evicted_explicitly() {
+
+        ChatMemoryService chatMemoryService = ChatMemoryService.builder()
+                .chatMemoryProvider(ChatMemoryServiceTest::chatMemory)
+                .maxChatMemories(1)
+                .evictionListener(chatMemory -> evictedIds.add(chatMemory.id()))
+                .build();
+
+        ChatMemory first = chatMemoryService.getOrCreateChatMemory("first");
+
+        assertThat(chatMemoryService.evictChatMemory("first")).isSameAs(first);
+        chatMemoryService.getOrCreateChatMemory("second");
+
+        assertThat(evictedIds).isEmpty();
+        assertThat(chatMemoryService.stats().evictionCount()).isZero();
+    }
+
+    private static ChatMemory chatMemory(Object memoryId) {
+        return MessageWindowChatMemory.builder().id(memoryId).maxMessages(10).build();
+    }
+}
@@ -0,0 +1,156 @@
+package dev.langchain4j.service.tool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.agent.tool.Tool;
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.model.chat.mock.ChatModelMock;
+import dev.langchain4j.service.AiServices;
+import dev.langchain4j.service.Result;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentToolExecutionTest {
+
+    interface Assistant {
+
+        Result<String> chat(String userMessage);
+    }
+
+    static class Tools {
+
+        private final CountDownLatch latch = new CountDownLatch(2);
+        private final CountDownLatch slowInterrupted = new CountDownLatch(1);
+
+        @Tool
+        String first() throws InterruptedException {
+            latch.countDown();
+            // only completes when the second tool runs at the same time
+            return latch.await(5, TimeUnit.SECONDS) ? "first done" : "first not concurrent";
+        }
+
+        @Tool
+        String second() throws InterruptedException {
+            latch.countDown();
+            return latch.await(5, TimeUnit.SECONDS) ? "second done" : "second not concurrent";
+        }
+
+        @Tool
+        String failing() {
+            throw new IllegalStateException("boom");
+        }
+
+        @Tool
+        String slow() throws InterruptedException {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                slowInterrupted.countDown();
+                throw e;
+            }
+            return "slow done";
+        }
+    }
+
+    private static ChatModelMock modelRequesting(String... toolNames) {
+        return new ChatModelMock(chatRequest -> {
+            List<ChatMessage> messages = chatRequest.messages();
+            if (messages.get(messages.size() - 1) instanceof ToolExecutionResultMessage) {
+                return AiMessage.from("done");
+            }
+            List<ToolExecutionRequest> requests = Arrays.stream(toolNames)
+                    .map(name -> ToolExecutionRequest.builder()
+                            .id(name + "-id")
+                            .name(name)
+                            .arguments("{}")
+                            .build())
+                    .toList();
+            return AiMessage.from(requests);
+        });
+    }
+
+    @Test
+    void should_execute_tools_concurrently_and_keep_request_order() {
+
+        // given
+        MessageWindowChatMemory chatMemory = MessageWindowChatMemory.withMaxMessages(10);
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatLanguageModel(modelRequesting("second", "first"))
+                .chatMemory(chatMemory)
+                .tools(new Tools())
+                .executeToolsConcurrently()
+                .build();
+
+        // when
+        Result<String> result = assistant.chat("hi");
+
+        // then
+        assertThat(result.content()).isEqualTo("done");
+        assertThat(result.toolExecutions())
+                .extracting(ToolExecution::result)
+                .containsExactly("second done", "first done");
+
+        List<ChatMessage> messages = chatMemory.messages();
+        assertThat(messages.get(2)).isEqualTo(ToolExecutionResultMessage.from("second-id", "second", "second done"));
+        assertThat(messages.get(3)).isEqualTo(ToolExecutionResultMessage.from("first-id", "first", "first done"));
+    }
+
+    @Test
+    void should_map_failures_and_timeouts_per_tool() throws InterruptedException {
+
+        // given
+        Tools tools = new Tools();
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatLanguageModel(modelRequesting("failing", "slow", "first", "second"))
+                .tools(tools)
+                .executeToolsConcurrently()
+                .toolExecutionTimeout(Duration.ofMillis(500))
+                .build();
+
+        // when
+        Result<String> result = assistant.chat("hi");
+
+        // then
+        assertThat(result.toolExecutions())
+                .extracting(ToolExecution::result)
+                .containsExactly("boom", "Tool 'slow' did not complete within 500 ms", "first done", "second done");
+        assertThat(tools.slowInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void should_throw_tool_executor_exceptions_like_sequential_execution() {
+
+        // given
+        ToolSpecification toolSpecification =
+                ToolSpecification.builder().name("invalid").build();
+        ToolExecutor toolExecutor = (request, memoryId) -> {
+            throw new IllegalArgumentException("Invalid arguments");
+        };
+
+        for (boolean concurrently : new boolean[] {false, true}) {
+            AiServices<Assistant> builder = AiServices.builder(Assistant.class)
+                    .chatLanguageModel(modelRequesting("invalid", "invalid"))
+                    .tools(Map.of(toolSpecification, toolExecutor));
+            if (concurrently) {
+                builder.executeToolsConcurrently();
+            }
+            Assistant assistant = builder.build();
+
+            // when-then
+            assertThatThrownBy(() -> assistant.chat("hi"))
+                    .isExactlyInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Invalid arguments");
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import dev.langchain4j.store.embedding.filter.Filter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HnswEmbeddingStoreTest extends EmbeddingStoreWithFilteringIT {
+
+    EmbeddingStore<TextSegment> embeddingStore = new HnswEmbeddingStore<>();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    private final Random random = new Random(42);
+
+    @Test
+    void should_find_most_of_the_exact_nearest_neighbours() {
+
+        // given
+        HnswEmbeddingStore<TextSegment> hnswStore = HnswEmbeddingStore.<TextSegment>builder()
+                .m(16)
+                .efConstruction(100)
+                .efSearch(64)
+                .randomSeed(42L)
+                .build();
+        InMemoryEmbeddingStore<TextSegment> exactStore = new InMemoryEmbeddingStore<>();
+
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            ids.add(String.valueOf(i));
+            embeddings.add(randomEmbedding(32));
+            segments.add(TextSegment.from("segment " + i, new Metadata().put("group", i % 4)));
+        }
+        hnswStore.addAll(ids, embeddings, segments);
+        exactStore.addAll(ids, embeddings, segments);
+
+        // when
+        int found = 0;
+        int expected = 0;
+        for (int i = 0; i < 50; i++) {
+            Filter filter = i % 2 == 0 ? null : metadataKey("group").isEqualTo(2);
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(randomEmbedding(32))
+                    .maxResults(10)
+                    .filter(filter)
+                    .build();
+
+            Set<String> approximate = ids(hnswStore.search(request).matches());
+            Set<String> exact = ids(exactStore.search(request).matches());
+
+            expected += exact.size();
+            approximate.retainAll(exact);
+            found += approximate.size();
+        }
+
+        // then
+        assertThat((double) found / expected).isGreaterThan(0.9);
+    }
+
+    @Test
+    void should_not_return_removed_embeddings_and_replace_existing_ids() {
+
+        // given
+        HnswEmbeddingStore<TextSegment> store = new HnswEmbeddingStore<>();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String id = String.valueOf(i);
+            ids.add(id);
+            store.add(id, randomEmbedding(8), TextSegment.from("segment " + i));
+        }
+        Embedding replacement = randomEmbedding(8);
+        store.add("0", replacement, TextSegment.from("replacement"));
+
+        // when
+        store.removeAll(ids.subList(1, 100));
+
+        // then
+        assertThat(store.size()).isEqualTo(101);
+        List<EmbeddingMatch<TextSegment>> matches = store.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(replacement)
+                .maxResults(200)
+                .build()).matches();
+        assertThat(matches).hasSize(101);
+        assertThat(ids(matches)).doesNotContainAnyElementsOf(ids.subList(1, 100));
+        assertThat(matches.get(0).embedded().text()).isEqualTo("replacement");
+    }
+
+    @Test
+    void should_rebuild_the_graph_when_most_embeddings_are_removed() {
+
+        // given
+        HnswEmbeddingStore<TextSegment> store = HnswEmbeddingStore.<TextSegment>builder().randomSeed(42L).build();
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            ids.add(String.valueOf(i));
+            embeddings.add(randomEmbedding(8));
+            store.add(ids.get(i), embeddings.get(i), TextSegment.from("segment " + i));
+        }
+
+        // when
+        store.removeAll(ids.subList(0, 250));
+
+        // then
+        assertThat(store.size()).isEqualTo(50);
+        for (int i = 250; i < 300; i++) {
+            EmbeddingMatch<TextSegment> match = store.search(EmbeddingSearchRequest.builder()
+                    .queryEmbedding(embeddings.get(i))
+                    .maxResults(1)
+                    .build()).matches().get(0);
+            assertThat(match.embeddingId()).isEqualTo(ids.get(i));
+            assertThat(match.embedding()).isSameAs(embeddings.get(i));
+        }
+
+        store.removeAll(ids.subList(250, 300));
+        assertThat(store.size()).isZero();
+        assertThat(store.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(8))
+                .build()).matches()).isEmpty();
+    }
+
+    @Test
+    void should_not_add_any_embedding_when_one_of_them_is_invalid() {
+
+        // given
+        HnswEmbeddingStore<TextSegment> store = new HnswEmbeddingStore<>();
+        store.add("0", randomEmbedding(8));
+
+        // when
+        assertThatThrownBy(() -> store.addAll(
+                List.of("1", "2", "3"),
+                List.of(randomEmbedding(8), randomEmbedding(8), randomEmbedding(4)),
+                Arrays.asList(null, null, null)))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.addAll(
+                List.of("1", "2"),
+                List.of(randomEmbedding(4), randomEmbedding(4)),
+                Arrays.asList(null, null)))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+
+        // then
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    private static Set<String> ids(List<EmbeddingMatch<TextSegment>> matches) {
+        return new HashSet<>(matches.stream().map(EmbeddingMatch::embeddingId).collect(toSet()));
+    }
+
+    private Embedding randomEmbedding(int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
@@ -0,0 +1,142 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Tests if {@link InMemoryEmbeddingStore} works correctly after being serialized to and loaded from a binary file.
+ */
+class InMemoryEmbeddingStoreBinarySerializedTest extends EmbeddingStoreWithFilteringIT {
+
+    @TempDir
+    Path temporaryDirectory;
+
+    InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @Test
+    void should_serialize_to_and_load_from_binary_file() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        Metadata metadata = new Metadata()
+                .put("string", "ünïcödé")
+                .put("uuid", UUID.randomUUID())
+                .put("integer", 1)
+                .put("long", 2L)
+                .put("float", 3.5f)
+                .put("double", 4.25);
+        store.add("1", Embedding.from(new float[] {1, 0, 0}), TextSegment.from("first", metadata));
+        store.add("2", Embedding.from(new float[] {0, 1, 0}));
+        store.add("3", Embedding.from(new float[] {0.5f, 0.5f, 0}), TextSegment.from("third"));
+        Path filePath = temporaryDirectory.resolve("embedding-store.bin");
+
+        // when
+        store.serializeToBinaryFile(filePath);
+        InMemoryEmbeddingStore<TextSegment> loaded = InMemoryEmbeddingStore.fromBinaryFile(filePath);
+
+        // then
+        assertThat(loaded.entries).isEqualTo(store.entries);
+
+        List<EmbeddingMatch<TextSegment>> matches = loaded.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(Embedding.from(new float[] {1, 0.1f, 0}))
+                .maxResults(3)
+                .build()).matches();
+        assertThat(matches).extracting(EmbeddingMatch::embeddingId).containsExactly("1", "3", "2");
+        assertThat(matches.get(0).embedded().metadata()).isEqualTo(metadata);
+        assertThat(matches.get(0).embedding()).isEqualTo(Embedding.from(new float[] {1, 0, 0}));
+
+        // and the loaded store can still be modified and serialized to JSON
+        loaded.add("4", Embedding.from(new float[] {0, 0, 1}), TextSegment.from("fourth"));
+        loaded.removeAll(List.of("2"));
+        InMemoryEmbeddingStore<TextSegment> fromJson = InMemoryEmbeddingStore.fromJson(loaded.serializeToJson());
+        assertThat(fromJson.entries)
+                .extracting(entry -> entry.id, InMemoryEmbeddingStore.Entry::embedding)
+                .isEqualTo(loaded.entries.stream()
+                        .map(entry -> tuple(entry.id, entry.embedding()))
+                        .collect(toList()));
+        assertThat(loaded.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(Embedding.from(new float[] {0, 0, 1}))
+                .maxResults(1)
+                .build()).matches().get(0).embeddingId()).isEqualTo("4");
+    }
+
+    @Test
+    void should_serialize_back_to_the_file_it_was_loaded_from() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        store.add("1", Embedding.from(new float[] {1, 0, 0}), TextSegment.from("first"));
+        store.add("2", Embedding.from(new float[] {0, 1, 0}), TextSegment.from("second"));
+        Path filePath = temporaryDirectory.resolve("embedding-store.bin");
+        store.serializeToBinaryFile(filePath);
+        InMemoryEmbeddingStore<TextSegment> loaded = InMemoryEmbeddingStore.fromBinaryFile(filePath);
+
+        // when
+        loaded.add("3", Embedding.from(new float[] {0, 0, 1}), TextSegment.from("third"));
+        loaded.serializeToBinaryFile(filePath);
+
+        // then
+        assertThat(loaded.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(Embedding.from(new float[] {1, 0.1f, 0}))
+                .maxResults(3)
+                .build()).matches())
+                .extracting(EmbeddingMatch::embeddingId, match -> match.embedded().text())
+                .containsExactly(tuple("1", "first"), tuple("2", "second"), tuple("3", "third"));
+        assertThat(InMemoryEmbeddingStore.fromBinaryFile(filePath).entries).isEqualTo(loaded.entries);
+        assertThat(temporaryDirectory).isDirectoryNotContaining("glob:**.tmp");
+    }
+
+    @Test
+    void should_fail_to_serialize_embeddings_of_different_dimensions() {
+
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        store.add(Embedding.from(new float[] {1, 0, 0}));
+        store.add(Embedding.from(new float[] {1, 0}));
+
+        assertThatThrownBy(() -> store.serializeToBinaryFile(temporaryDirectory.resolve("store.bin")))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("same dimension");
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        serializeAndLoad();
+        return embeddingStore;
+    }
+
+    private void serializeAndLoad() {
+        Path filePath = temporaryDirectory.resolve(UUID.randomUUID() + ".bin");
+        embeddingStore.serializeToBinaryFile(filePath);
+        embeddingStore = InMemoryEmbeddingStore.fromBinaryFile(filePath);
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsContains() {
+        return true;
+    }
+}
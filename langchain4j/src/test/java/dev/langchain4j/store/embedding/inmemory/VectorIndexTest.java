@@ -0,0 +1,131 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.RelevanceScore;
+import dev.langchain4j.store.embedding.filter.Filter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class VectorIndexTest {
+
+    private static final int DIMENSION = 37;
+
+    private final Random random = new Random(42);
+
+    @Test
+    void should_return_same_matches_as_brute_force_search() {
+
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+
+        // spans several blocks and is added in steps, so that the index is both rebuilt and appended to
+        int count = VectorIndex.BLOCK_SIZE * 2 + 123;
+        for (int i = 0; i < count; i++) {
+            embeddings.add(randomEmbedding());
+            segments.add(TextSegment.from("segment " + i, new Metadata().put("group", i % 3)));
+        }
+        store.addAll(embeddings.subList(0, 100), segments.subList(0, 100));
+        search(store, randomEmbedding(), 5, 0, null);
+        store.addAll(embeddings.subList(100, count), segments.subList(100, count));
+
+        for (int i = 0; i < 10; i++) {
+            Embedding query = randomEmbedding();
+            Filter filter = i % 2 == 0 ? null : metadataKey("group").isEqualTo(1);
+
+            List<EmbeddingMatch<TextSegment>> matches = search(store, query, 17, 0.55, filter);
+
+            List<Double> expectedScores = new ArrayList<>();
+            for (int j = 0; j < count; j++) {
+                if (filter == null || filter.test(segments.get(j).metadata())) {
+                    double score = RelevanceScore.fromCosineSimilarity(CosineSimilarity.between(embeddings.get(j), query));
+                    if (score >= 0.55) {
+                        expectedScores.add(score);
+                    }
+                }
+            }
+            expectedScores = expectedScores.stream()
+                    .sorted(Comparator.reverseOrder())
+                    .limit(17)
+                    .collect(toList());
+
+            assertThat(matches).hasSize(expectedScores.size());
+            for (int j = 0; j < matches.size(); j++) {
+                EmbeddingMatch<TextSegment> match = matches.get(j);
+                assertThat(match.score()).isCloseTo(expectedScores.get(j), within(1e-9));
+                int position = Integer.parseInt(match.embedded().text().substring("segment ".length()));
+                assertThat(match.embedding()).isSameAs(embeddings.get(position));
+            }
+        }
+    }
+
+    @Test
+    void should_reflect_removals() {
+
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        Embedding embedding = randomEmbedding();
+        String id = store.add(embedding);
+        store.add(randomEmbedding());
+
+        assertThat(search(store, embedding, 1, 0, null).get(0).embeddingId()).isEqualTo(id);
+
+        store.removeAll(List.of(id));
+
+        assertThat(search(store, embedding, 10, 0, null))
+                .extracting(EmbeddingMatch::embeddingId)
+                .doesNotContain(id)
+                .hasSize(1);
+    }
+
+    @Test
+    void should_keep_best_scores_in_top_k() {
+
+        VectorIndex.TopK topK = new VectorIndex.TopK(3);
+        double[] scores = {0.1, 0.9, 0.5, 0.3, 0.95, 0.2, 0.7};
+        for (int i = 0; i < scores.length; i++) {
+            topK.offer(scores[i], i);
+        }
+
+        double[] sortedScores = new double[topK.size()];
+        int[] sortedPositions = new int[topK.size()];
+        topK.drainDescending(sortedScores, sortedPositions);
+
+        assertThat(sortedScores).containsExactly(0.95, 0.9, 0.7);
+        assertThat(sortedPositions).containsExactly(4, 1, 6);
+    }
+
+    private static List<EmbeddingMatch<TextSegment>> search(InMemoryEmbeddingStore<TextSegment> store,
+                                                            Embedding query,
+                                                            int maxResults,
+                                                            double minScore,
+                                                            Filter filter) {
+        return store.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(query)
+                .maxResults(maxResults)
+                .minScore(minScore)
+                .filter(filter)
+                .build()).matches();
+    }
+
+    private Embedding randomEmbedding() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return Embedding.from(vector);
+    }
+}